@@ -3,11 +3,20 @@
 // license that can be found in the LICENSE file.
 package com.deepl.api;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import org.jetbrains.annotations.Nullable;
 
 /** Base class for request options providing common functionality for all endpoints. */
 public abstract class BaseRequestOptions {
   private Map<String, String> extraBodyParameters;
+  @Nullable private Duration timeout;
+  @Nullable private Instant deadline;
+  @Nullable private Duration attemptTimeout;
+  @Nullable private Integer maxRetries;
+  @Nullable private Map<String, String> extraHeaders;
+  @Nullable private RequestPriority priority;
 
   /**
    * Sets additional parameters to pass in the body of the HTTP request. Can be used to access beta
@@ -22,8 +31,120 @@ public abstract class BaseRequestOptions {
     return this;
   }
 
+  /**
+   * Sets the maximum duration of the call, including all retries and, for document translation,
+   * waiting for the translation to complete. Unlike {@link TranslatorOptions#setTimeout}, which
+   * applies to each attempt, this bounds the whole call: attempt timeouts are shortened as the
+   * timeout approaches, and no retry is made that could not start before it. When the time is up,
+   * the last error is thrown, or a {@link DeadlineExceededException} if no attempt could be made.
+   *
+   * @param timeout Maximum duration of the call, counted from when it starts, or <code>null</code>
+   *     for no limit.
+   * @return This options object for method chaining.
+   */
+  public BaseRequestOptions setTimeout(@Nullable Duration timeout) {
+    this.timeout = timeout;
+    return this;
+  }
+
+  /**
+   * Sets the time by which the call must complete, handled like {@link #setTimeout}. If both a
+   * timeout and a deadline are set, the earlier applies.
+   *
+   * @param deadline Time by which the call must complete, or <code>null</code> for no deadline.
+   * @return This options object for method chaining.
+   */
+  public BaseRequestOptions setDeadline(@Nullable Instant deadline) {
+    this.deadline = deadline;
+    return this;
+  }
+
+  /**
+   * Sets the minimum timeout of each attempt for this call, overriding {@link
+   * TranslatorOptions#setTimeout}. As for the client timeout, the timeout grows with each retry.
+   *
+   * @param attemptTimeout Minimum timeout of each attempt, or <code>null</code> to use the client
+   *     timeout.
+   * @return This options object for method chaining.
+   */
+  public BaseRequestOptions setAttemptTimeout(@Nullable Duration attemptTimeout) {
+    this.attemptTimeout = attemptTimeout;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of failed attempts to retry for this call, overriding {@link
+   * TranslatorOptions#setMaxRetries}. For example, interactive calls may set 0 to fail fast, while
+   * batch calls may allow more retries.
+   *
+   * @param maxRetries Maximum number of retries, or <code>null</code> to use the client maximum.
+   * @return This options object for method chaining.
+   */
+  public BaseRequestOptions setMaxRetries(@Nullable Integer maxRetries) {
+    if (maxRetries != null && maxRetries < 0) {
+      throw new IllegalArgumentException("maxRetries must not be negative");
+    }
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  /**
+   * Sets additional HTTP headers to send with the requests of this call. Keys in this map are
+   * added to the headers set in {@link TranslatorOptions} and can override them.
+   *
+   * @param extraHeaders Map of additional headers, or <code>null</code> for none.
+   * @return This options object for method chaining.
+   */
+  public BaseRequestOptions setExtraHeaders(@Nullable Map<String, String> extraHeaders) {
+    this.extraHeaders = extraHeaders;
+    return this;
+  }
+
+  /**
+   * Sets the priority class of this call, used to order its requests if a {@link
+   * RequestScheduler} is set in {@link TranslatorOptions}.
+   *
+   * @param priority Priority class of the call, or <code>null</code> for {@link
+   *     RequestPriority#Normal}.
+   * @return This options object for method chaining.
+   */
+  public BaseRequestOptions setPriority(@Nullable RequestPriority priority) {
+    this.priority = priority;
+    return this;
+  }
+
   /** Gets the current extra body parameters. */
   public Map<String, String> getExtraBodyParameters() {
     return extraBodyParameters;
   }
+
+  /** Gets the current call timeout, or <code>null</code> if none is set. */
+  public @Nullable Duration getTimeout() {
+    return timeout;
+  }
+
+  /** Gets the current call deadline, or <code>null</code> if none is set. */
+  public @Nullable Instant getDeadline() {
+    return deadline;
+  }
+
+  /** Gets the current attempt timeout, or <code>null</code> if none is set. */
+  public @Nullable Duration getAttemptTimeout() {
+    return attemptTimeout;
+  }
+
+  /** Gets the current maximum number of retries, or <code>null</code> if none is set. */
+  public @Nullable Integer getMaxRetries() {
+    return maxRetries;
+  }
+
+  /** Gets the current extra headers, or <code>null</code> if none are set. */
+  public @Nullable Map<String, String> getExtraHeaders() {
+    return extraHeaders;
+  }
+
+  /** Gets the current priority class, or <code>null</code> if none is set. */
+  public @Nullable RequestPriority getPriority() {
+    return priority;
+  }
 }
@@ -0,0 +1,470 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-endpoint circuit breaker, set using {@link TranslatorOptions#setCircuitBreaker}, that fails
+ * requests fast while the DeepL API is failing instead of retrying each request with backoff.
+ *
+ * <p>The outcome of every request attempt, including retries, is recorded in a sliding window per
+ * endpoint, for example "/v2/translate" or "/v3/glossaries". An attempt fails if the connection
+ * fails or the response has status 429 or 5xx, and is slow if the response took longer than the
+ * slow call duration. Once the window holds at least the minimum number of calls and the failure
+ * rate or slow call rate reaches its threshold, the circuit opens: pending retries stop, and
+ * requests to the endpoint throw {@link CircuitBreakerOpenException} without being sent. After the
+ * open duration, the circuit is half-open and permits a number of trial requests; it closes again
+ * if their failure and slow call rates are below the thresholds, otherwise it opens again. Trial
+ * requests that report no outcome within the open duration, for example because they were
+ * abandoned, are replaced by new trial requests, so that the circuit cannot remain half-open.
+ *
+ * <p>Configure the circuit breaker before passing it to {@link TranslatorOptions}. One instance
+ * may be shared by several clients to share the endpoint states.
+ */
+public class CircuitBreaker {
+  /** Circuit state of an endpoint. */
+  public enum State {
+    /** Requests are sent and their outcomes recorded. */
+    CLOSED,
+    /** Requests fail with {@link CircuitBreakerOpenException} without being sent. */
+    OPEN,
+    /** A limited number of trial requests are sent to decide whether to close the circuit. */
+    HALF_OPEN
+  }
+
+  /** Listener notified when the circuit state of an endpoint changes. */
+  public interface StateChangeListener {
+    /**
+     * Called on the thread whose request caused the state change; should return quickly.
+     *
+     * @param endpoint Endpoint whose state changed, for example "/v2/translate".
+     * @param previousState State before the change.
+     * @param newState State after the change.
+     */
+    void onStateChange(String endpoint, State previousState, State newState);
+  }
+
+  private static final int FAILED = 1;
+  private static final int SLOW = 2;
+
+  private double failureRateThreshold = 0.5;
+  private double slowCallRateThreshold = 1.0;
+  private Duration slowCallDuration = Duration.ofSeconds(30);
+  private int windowSize = 20;
+  private int minimumCalls = 10;
+  private Duration openDuration = Duration.ofSeconds(30);
+  private int halfOpenCalls = 3;
+  private final List<StateChangeListener> listeners = new CopyOnWriteArrayList<>();
+  private final ConcurrentHashMap<String, EndpointCircuit> circuits = new ConcurrentHashMap<>();
+
+  /**
+   * Set the failure rate, between 0 and 1, at or above which the circuit opens. Defaults to 0.5.
+   */
+  public CircuitBreaker setFailureRateThreshold(double failureRateThreshold) {
+    checkRate(failureRateThreshold);
+    this.failureRateThreshold = failureRateThreshold;
+    return this;
+  }
+
+  /**
+   * Set the rate of slow calls, between 0 and 1, at or above which the circuit opens. Defaults to
+   * 1, so that the circuit only opens if all calls in the window were slow.
+   */
+  public CircuitBreaker setSlowCallRateThreshold(double slowCallRateThreshold) {
+    checkRate(slowCallRateThreshold);
+    this.slowCallRateThreshold = slowCallRateThreshold;
+    return this;
+  }
+
+  /** Set the response time above which a call counts as slow. Defaults to 30 seconds. */
+  public CircuitBreaker setSlowCallDuration(Duration slowCallDuration) {
+    this.slowCallDuration = slowCallDuration;
+    return this;
+  }
+
+  /** Set the number of most recent calls per endpoint used to compute rates. Defaults to 20. */
+  public CircuitBreaker setWindowSize(int windowSize) {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("windowSize must be positive");
+    }
+    this.windowSize = windowSize;
+    return this;
+  }
+
+  /**
+   * Set the minimum number of calls in the window before the circuit may open, so that a few
+   * failures after a quiet period do not open it. Defaults to 10.
+   */
+  public CircuitBreaker setMinimumCalls(int minimumCalls) {
+    if (minimumCalls < 1) {
+      throw new IllegalArgumentException("minimumCalls must be positive");
+    }
+    this.minimumCalls = minimumCalls;
+    return this;
+  }
+
+  /** Set how long the circuit stays open before permitting trial calls. Defaults to 30 seconds. */
+  public CircuitBreaker setOpenDuration(Duration openDuration) {
+    this.openDuration = openDuration;
+    return this;
+  }
+
+  /** Set the number of trial calls permitted while the circuit is half-open. Defaults to 3. */
+  public CircuitBreaker setHalfOpenCalls(int halfOpenCalls) {
+    if (halfOpenCalls < 1) {
+      throw new IllegalArgumentException("halfOpenCalls must be positive");
+    }
+    this.halfOpenCalls = halfOpenCalls;
+    return this;
+  }
+
+  /** Adds a listener notified whenever the circuit state of an endpoint changes. */
+  public CircuitBreaker addStateChangeListener(StateChangeListener listener) {
+    listeners.add(listener);
+    return this;
+  }
+
+  /** Gets the current failure rate threshold. */
+  public double getFailureRateThreshold() {
+    return failureRateThreshold;
+  }
+
+  /** Gets the current slow call rate threshold. */
+  public double getSlowCallRateThreshold() {
+    return slowCallRateThreshold;
+  }
+
+  /** Gets the current slow call duration. */
+  public Duration getSlowCallDuration() {
+    return slowCallDuration;
+  }
+
+  /** Gets the current window size. */
+  public int getWindowSize() {
+    return windowSize;
+  }
+
+  /** Gets the current minimum number of calls. */
+  public int getMinimumCalls() {
+    return minimumCalls;
+  }
+
+  /** Gets the current open duration. */
+  public Duration getOpenDuration() {
+    return openDuration;
+  }
+
+  /** Gets the current number of half-open trial calls. */
+  public int getHalfOpenCalls() {
+    return halfOpenCalls;
+  }
+
+  /**
+   * Returns the circuit state of an endpoint; endpoints without any recorded calls are closed.
+   *
+   * @param endpoint Endpoint, for example "/v2/translate".
+   */
+  public State getState(String endpoint) {
+    EndpointCircuit circuit = circuits.get(endpoint);
+    return circuit != null ? circuit.getMetrics().getState() : State.CLOSED;
+  }
+
+  /**
+   * Returns the metrics of an endpoint.
+   *
+   * @param endpoint Endpoint, for example "/v2/translate".
+   * @return Snapshot of the endpoint metrics, or <code>null</code> if no call to the endpoint was
+   *     recorded.
+   */
+  public @Nullable Metrics getMetrics(String endpoint) {
+    EndpointCircuit circuit = circuits.get(endpoint);
+    return circuit != null ? circuit.getMetrics() : null;
+  }
+
+  /** Returns snapshots of the metrics of all endpoints with recorded calls, keyed by endpoint. */
+  public Map<String, Metrics> getAllMetrics() {
+    Map<String, Metrics> result = new TreeMap<>();
+    circuits.forEach((endpoint, circuit) -> result.put(endpoint, circuit.getMetrics()));
+    return result;
+  }
+
+  /** Closes all circuits and discards all recorded calls, without notifying listeners. */
+  public void reset() {
+    circuits.clear();
+  }
+
+  /** Snapshot of the metrics of an endpoint. */
+  public static class Metrics {
+    private final State state;
+    private final int numberOfCalls;
+    private final int numberOfFailedCalls;
+    private final int numberOfSlowCalls;
+    private final long numberOfRejectedCalls;
+
+    private Metrics(
+        State state,
+        int numberOfCalls,
+        int numberOfFailedCalls,
+        int numberOfSlowCalls,
+        long numberOfRejectedCalls) {
+      this.state = state;
+      this.numberOfCalls = numberOfCalls;
+      this.numberOfFailedCalls = numberOfFailedCalls;
+      this.numberOfSlowCalls = numberOfSlowCalls;
+      this.numberOfRejectedCalls = numberOfRejectedCalls;
+    }
+
+    /** @return Circuit state of the endpoint. */
+    public State getState() {
+      return state;
+    }
+
+    /** @return Number of calls in the current window, or trial calls if half-open. */
+    public int getNumberOfCalls() {
+      return numberOfCalls;
+    }
+
+    /** @return Number of failed calls among {@link #getNumberOfCalls()}. */
+    public int getNumberOfFailedCalls() {
+      return numberOfFailedCalls;
+    }
+
+    /** @return Number of slow calls among {@link #getNumberOfCalls()}. */
+    public int getNumberOfSlowCalls() {
+      return numberOfSlowCalls;
+    }
+
+    /** @return Failure rate of the calls in the window, or 0 if there are none. */
+    public double getFailureRate() {
+      return numberOfCalls > 0 ? (double) numberOfFailedCalls / numberOfCalls : 0;
+    }
+
+    /** @return Slow call rate of the calls in the window, or 0 if there are none. */
+    public double getSlowCallRate() {
+      return numberOfCalls > 0 ? (double) numberOfSlowCalls / numberOfCalls : 0;
+    }
+
+    /** @return Total number of calls rejected because the circuit was open. */
+    public long getNumberOfRejectedCalls() {
+      return numberOfRejectedCalls;
+    }
+  }
+
+  /**
+   * Returns the endpoint of a request URL relative to the server URL: its first two path segments,
+   * so that requests for different resources of the same API share a circuit.
+   */
+  static String endpointOf(String relativeUrl) {
+    int end = relativeUrl.indexOf('?');
+    if (end < 0) {
+      end = relativeUrl.length();
+    }
+    int slashes = 0;
+    for (int i = 0; i < end; i++) {
+      if (relativeUrl.charAt(i) == '/' && i > 0 && ++slashes == 2) {
+        return relativeUrl.substring(0, i);
+      }
+    }
+    return relativeUrl.substring(0, end);
+  }
+
+  /**
+   * Checks that a call to the endpoint is permitted.
+   *
+   * @return Permit to pass to {@link #onResult}.
+   * @throws CircuitBreakerOpenException If the circuit is open or all half-open trial calls are in
+   *     progress.
+   */
+  long acquirePermission(String endpoint) throws CircuitBreakerOpenException {
+    return circuits.computeIfAbsent(endpoint, EndpointCircuit::new).acquirePermission();
+  }
+
+  /**
+   * Records the outcome of a permitted call. Outcomes of calls permitted before the last state
+   * change are ignored.
+   */
+  void onResult(String endpoint, long permit, long durationNanos, boolean failed) {
+    EndpointCircuit circuit = circuits.get(endpoint);
+    if (circuit != null) {
+      circuit.onResult(permit, durationNanos, failed);
+    }
+  }
+
+  /**
+   * Returns the permit of a call that was abandoned without an outcome, for example a cancelled
+   * hedge request, so that a half-open circuit may permit another trial call in its place.
+   */
+  void onCancelled(String endpoint, long permit) {
+    EndpointCircuit circuit = circuits.get(endpoint);
+    if (circuit != null) {
+      circuit.onCancelled(permit);
+    }
+  }
+
+  /** Returns whether the circuit of the endpoint is open, so that retries should stop. */
+  boolean isOpen(String endpoint) {
+    return getState(endpoint) == State.OPEN;
+  }
+
+  private static void checkRate(double rate) {
+    if (!(rate >= 0 && rate <= 1)) {
+      throw new IllegalArgumentException("rate must be between 0 and 1");
+    }
+  }
+
+  private void notifyListeners(String endpoint, State previousState, State newState) {
+    for (StateChangeListener listener : listeners) {
+      listener.onStateChange(endpoint, previousState, newState);
+    }
+  }
+
+  /** Circuit of a single endpoint; all state is guarded by the instance lock. */
+  private class EndpointCircuit {
+    private final String endpoint;
+    private State state = State.CLOSED;
+
+    /** Incremented on every state change, so that outcomes of earlier calls can be ignored. */
+    private long generation;
+
+    private long stateChangedAtNanos;
+
+    /** Ring buffer of call outcomes, combinations of {@link #FAILED} and {@link #SLOW}. */
+    private int[] outcomes = new int[windowSize];
+
+    private int outcomeIndex;
+    private int numberOfCalls;
+    private int numberOfFailedCalls;
+    private int numberOfSlowCalls;
+    private int halfOpenPermitted;
+    private long numberOfRejectedCalls;
+
+    EndpointCircuit(String endpoint) {
+      this.endpoint = endpoint;
+    }
+
+    long acquirePermission() throws CircuitBreakerOpenException {
+      State previousState;
+      long permit;
+      synchronized (this) {
+        previousState = state;
+        if (state == State.OPEN) {
+          long remainingNanos = remainingOpenNanos();
+          if (remainingNanos > 0) {
+            numberOfRejectedCalls++;
+            throw new CircuitBreakerOpenException(endpoint, Duration.ofNanos(remainingNanos));
+          }
+          transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN && halfOpenPermitted >= halfOpenCalls) {
+          long remainingNanos = remainingOpenNanos();
+          if (remainingNanos > 0) {
+            numberOfRejectedCalls++;
+            throw new CircuitBreakerOpenException(endpoint, Duration.ofNanos(remainingNanos));
+          }
+          // The trial calls did not complete in time; permit new ones, ignoring their outcomes
+          transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+          halfOpenPermitted++;
+        }
+        permit = generation;
+      }
+      if (previousState != state) {
+        notifyListeners(endpoint, previousState, State.HALF_OPEN);
+      }
+      return permit;
+    }
+
+    void onResult(long permit, long durationNanos, boolean failed) {
+      State previousState;
+      State newState;
+      synchronized (this) {
+        if (permit != generation) {
+          return;
+        }
+        previousState = state;
+        int outcome =
+            (failed ? FAILED : 0) | (durationNanos > slowCallDuration.toNanos() ? SLOW : 0);
+        record(outcome);
+        if (state == State.CLOSED) {
+          if (numberOfCalls >= minimumCalls && exceedsThresholds()) {
+            transitionTo(State.OPEN);
+          }
+        } else if (state == State.HALF_OPEN) {
+          if (exceedsThresholds()) {
+            transitionTo(State.OPEN);
+          } else if (numberOfCalls >= halfOpenCalls) {
+            transitionTo(State.CLOSED);
+          }
+        }
+        newState = state;
+      }
+      if (previousState != newState) {
+        notifyListeners(endpoint, previousState, newState);
+      }
+    }
+
+    synchronized void onCancelled(long permit) {
+      if (permit == generation && state == State.HALF_OPEN && halfOpenPermitted > 0) {
+        halfOpenPermitted--;
+      }
+    }
+
+    synchronized Metrics getMetrics() {
+      State reportedState = state;
+      if (state == State.OPEN && remainingOpenNanos() <= 0) {
+        // The transition happens on the next call; report the state that call will see
+        reportedState = State.HALF_OPEN;
+      }
+      return new Metrics(
+          reportedState,
+          numberOfCalls,
+          numberOfFailedCalls,
+          numberOfSlowCalls,
+          numberOfRejectedCalls);
+    }
+
+    /** Returns the time until the open duration has elapsed since the last state change. */
+    private long remainingOpenNanos() {
+      return openDuration.toNanos() - (System.nanoTime() - stateChangedAtNanos);
+    }
+
+    private void record(int outcome) {
+      if (numberOfCalls == outcomes.length) {
+        int evicted = outcomes[outcomeIndex];
+        numberOfFailedCalls -= evicted & FAILED;
+        numberOfSlowCalls -= (evicted & SLOW) >> 1;
+      } else {
+        numberOfCalls++;
+      }
+      outcomes[outcomeIndex] = outcome;
+      outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+      numberOfFailedCalls += outcome & FAILED;
+      numberOfSlowCalls += (outcome & SLOW) >> 1;
+    }
+
+    private boolean exceedsThresholds() {
+      return numberOfFailedCalls >= failureRateThreshold * numberOfCalls
+          || numberOfSlowCalls >= slowCallRateThreshold * numberOfCalls;
+    }
+
+    private void transitionTo(State newState) {
+      state = newState;
+      generation++;
+      // Each state evaluates its own calls: the window when closed, the trial calls when half-open
+      outcomes = new int[newState == State.HALF_OPEN ? halfOpenCalls : windowSize];
+      outcomeIndex = 0;
+      numberOfCalls = 0;
+      numberOfFailedCalls = 0;
+      numberOfSlowCalls = 0;
+      halfOpenPermitted = 0;
+      stateChangedAtNanos = System.nanoTime();
+    }
+  }
+}
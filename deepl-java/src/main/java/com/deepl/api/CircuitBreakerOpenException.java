@@ -0,0 +1,38 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown without sending a request when the {@link CircuitBreaker} for the endpoint is
+ * open, because recent requests to it failed or were too slow.
+ */
+public class CircuitBreakerOpenException extends ConnectionException {
+  private final String endpoint;
+  private final Duration retryAfter;
+
+  public CircuitBreakerOpenException(String endpoint, Duration retryAfter) {
+    super(
+        String.format(
+            "Circuit breaker for %s is open, retry after %d ms", endpoint, retryAfter.toMillis()),
+        false,
+        null);
+    this.endpoint = endpoint;
+    this.retryAfter = retryAfter;
+  }
+
+  /** Returns the endpoint whose circuit breaker is open, for example "/v2/translate". */
+  public String getEndpoint() {
+    return endpoint;
+  }
+
+  /**
+   * Returns the time until the circuit breaker allows trial requests again; zero if the permitted
+   * trial requests are already in progress.
+   */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -0,0 +1,401 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Map of strings to strings that stores all keys and values in a single byte array, using open
+ * addressing with linear probing over primitive int arrays. Compared to a {@link HashMap}, no
+ * objects are allocated per entry, so very large maps need a fraction of the memory. In exchange,
+ * keys and values are decoded into new strings each time they are returned.
+ *
+ * <p>Each UTF-16 code unit is encoded separately using one to three bytes, like UTF-8 but with
+ * surrogates encoded individually, so that any string, including unpaired surrogates, is restored
+ * exactly. Iteration order is insertion order, except that removing an entry moves the last entry
+ * into its place. Entries returned by iterators are immutable snapshots.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class CompactStringMap extends AbstractMap<String, String> {
+  private static final int INITIAL_ENTRY_CAPACITY = 8;
+  private static final int INITIAL_BYTE_CAPACITY = 256;
+  private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+  /** Keys and values, each encoded as one byte sequence; replaced or removed ones are unused. */
+  private byte[] bytes = new byte[INITIAL_BYTE_CAPACITY];
+
+  private int byteCount = 0;
+  private int unusedByteCount = 0;
+
+  /** Per-entry arrays, indexed by entry; entries occupy indices 0 to size - 1. */
+  private int[] hashes = new int[INITIAL_ENTRY_CAPACITY];
+
+  private int[] keyOffsets = new int[INITIAL_ENTRY_CAPACITY];
+  private int[] keyLengths = new int[INITIAL_ENTRY_CAPACITY];
+  private int[] valueOffsets = new int[INITIAL_ENTRY_CAPACITY];
+  private int[] valueLengths = new int[INITIAL_ENTRY_CAPACITY];
+  private int size = 0;
+
+  /** Hash table of entry index plus one, zero marks an empty slot. Length is a power of two. */
+  private int[] slots = new int[2 * INITIAL_ENTRY_CAPACITY];
+
+  private int shift = 32 - Integer.numberOfTrailingZeros(slots.length);
+  private int modCount = 0;
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return findSlot(key) >= 0;
+  }
+
+  @Override
+  public String get(Object key) {
+    int slot = findSlot(key);
+    if (slot < 0) {
+      return null;
+    }
+    int entry = slots[slot] - 1;
+    return decode(valueOffsets[entry], valueLengths[entry]);
+  }
+
+  @Override
+  public String put(String key, String value) {
+    Objects.requireNonNull(key, "key");
+    Objects.requireNonNull(value, "value");
+    int slot = findSlot(key);
+    if (slot >= 0) {
+      int entry = slots[slot] - 1;
+      String previous = decode(valueOffsets[entry], valueLengths[entry]);
+      unusedByteCount += valueLengths[entry];
+      valueOffsets[entry] = byteCount;
+      valueLengths[entry] = encode(value);
+      compactIfWasteful();
+      return previous;
+    }
+
+    if (size == hashes.length) {
+      growEntries();
+    }
+    int entry = size++;
+    hashes[entry] = key.hashCode();
+    keyOffsets[entry] = byteCount;
+    keyLengths[entry] = encode(key);
+    valueOffsets[entry] = byteCount;
+    valueLengths[entry] = encode(value);
+    if (size > slots.length / 4 * 3) {
+      rehash(slots.length * 2);
+    } else {
+      insertSlot(entry);
+    }
+    modCount++;
+    return null;
+  }
+
+  @Override
+  public String remove(Object key) {
+    int slot = findSlot(key);
+    if (slot < 0) {
+      return null;
+    }
+    int entry = slots[slot] - 1;
+    String previous = decode(valueOffsets[entry], valueLengths[entry]);
+    removeEntry(slot, entry);
+    return previous;
+  }
+
+  @Override
+  public void clear() {
+    bytes = new byte[INITIAL_BYTE_CAPACITY];
+    byteCount = 0;
+    unusedByteCount = 0;
+    hashes = new int[INITIAL_ENTRY_CAPACITY];
+    keyOffsets = new int[INITIAL_ENTRY_CAPACITY];
+    keyLengths = new int[INITIAL_ENTRY_CAPACITY];
+    valueOffsets = new int[INITIAL_ENTRY_CAPACITY];
+    valueLengths = new int[INITIAL_ENTRY_CAPACITY];
+    size = 0;
+    slots = new int[2 * INITIAL_ENTRY_CAPACITY];
+    shift = 32 - Integer.numberOfTrailingZeros(slots.length);
+    modCount++;
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    return new AbstractSet<Entry<String, String>>() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public void clear() {
+        CompactStringMap.this.clear();
+      }
+
+      @Override
+      public Iterator<Entry<String, String>> iterator() {
+        return new EntryIterator();
+      }
+    };
+  }
+
+  private class EntryIterator implements Iterator<Entry<String, String>> {
+    private int next = 0;
+    private int last = -1;
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    @Override
+    public Entry<String, String> next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (next >= size) {
+        throw new NoSuchElementException();
+      }
+      last = next++;
+      return new AbstractMap.SimpleImmutableEntry<>(
+          decode(keyOffsets[last], keyLengths[last]),
+          decode(valueOffsets[last], valueLengths[last]));
+    }
+
+    @Override
+    public void remove() {
+      if (last < 0) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      removeEntry(findSlotOfEntry(last), last);
+      // The last entry was moved into the removed position, visit it next
+      next = last;
+      last = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  /** @return Index of the slot containing the given key, or -1 if the key is not present. */
+  private int findSlot(Object key) {
+    if (!(key instanceof String)) {
+      return -1;
+    }
+    String string = (String) key;
+    int hash = string.hashCode();
+    int mask = slots.length - 1;
+    for (int slot = indexFor(hash); ; slot = (slot + 1) & mask) {
+      int entry = slots[slot] - 1;
+      if (entry < 0) {
+        return -1;
+      } else if (hashes[entry] == hash && matches(string, keyOffsets[entry], keyLengths[entry])) {
+        return slot;
+      }
+    }
+  }
+
+  private int findSlotOfEntry(int entry) {
+    int mask = slots.length - 1;
+    int slot = indexFor(hashes[entry]);
+    while (slots[slot] != entry + 1) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /** Fibonacci hashing spreads the string hash codes, which often differ only in low bits. */
+  private int indexFor(int hash) {
+    return (hash * 0x9E3779B9) >>> shift;
+  }
+
+  private void insertSlot(int entry) {
+    int mask = slots.length - 1;
+    int slot = indexFor(hashes[entry]);
+    while (slots[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    slots[slot] = entry + 1;
+  }
+
+  /**
+   * Removes the entry in the given slot and moves the last entry into its place, so that entries
+   * stay contiguous.
+   */
+  private void removeEntry(int slot, int entry) {
+    unusedByteCount += keyLengths[entry] + valueLengths[entry];
+    deleteSlot(slot);
+    int last = --size;
+    if (entry != last) {
+      slots[findSlotOfEntry(last)] = entry + 1;
+      hashes[entry] = hashes[last];
+      keyOffsets[entry] = keyOffsets[last];
+      keyLengths[entry] = keyLengths[last];
+      valueOffsets[entry] = valueOffsets[last];
+      valueLengths[entry] = valueLengths[last];
+    }
+    modCount++;
+    compactIfWasteful();
+  }
+
+  /**
+   * Empties the given slot using backward-shift deletion: later slots in the same probe sequence
+   * are moved back, so that lookups need no tombstones.
+   */
+  private void deleteSlot(int slot) {
+    int mask = slots.length - 1;
+    int hole = slot;
+    for (int current = (slot + 1) & mask; slots[current] != 0; current = (current + 1) & mask) {
+      int home = indexFor(hashes[slots[current] - 1]);
+      if (((current - home) & mask) >= ((current - hole) & mask)) {
+        slots[hole] = slots[current];
+        hole = current;
+      }
+    }
+    slots[hole] = 0;
+  }
+
+  private void rehash(int capacity) {
+    slots = new int[capacity];
+    shift = 32 - Integer.numberOfTrailingZeros(capacity);
+    for (int entry = 0; entry < size; entry++) {
+      insertSlot(entry);
+    }
+  }
+
+  private void growEntries() {
+    int capacity = newCapacity(hashes.length, hashes.length + 1);
+    hashes = Arrays.copyOf(hashes, capacity);
+    keyOffsets = Arrays.copyOf(keyOffsets, capacity);
+    keyLengths = Arrays.copyOf(keyLengths, capacity);
+    valueOffsets = Arrays.copyOf(valueOffsets, capacity);
+    valueLengths = Arrays.copyOf(valueLengths, capacity);
+  }
+
+  /** Copies the keys and values in use into a new byte array once half of the bytes are unused. */
+  private void compactIfWasteful() {
+    if (unusedByteCount <= INITIAL_BYTE_CAPACITY || unusedByteCount < byteCount / 2) {
+      return;
+    }
+    byte[] compacted = new byte[Math.max(INITIAL_BYTE_CAPACITY, byteCount - unusedByteCount)];
+    int count = 0;
+    for (int entry = 0; entry < size; entry++) {
+      System.arraycopy(bytes, keyOffsets[entry], compacted, count, keyLengths[entry]);
+      keyOffsets[entry] = count;
+      count += keyLengths[entry];
+      System.arraycopy(bytes, valueOffsets[entry], compacted, count, valueLengths[entry]);
+      valueOffsets[entry] = count;
+      count += valueLengths[entry];
+    }
+    bytes = compacted;
+    byteCount = count;
+    unusedByteCount = 0;
+  }
+
+  /**
+   * Appends the encoded string to the byte array.
+   *
+   * @return Number of bytes written.
+   */
+  private int encode(String string) {
+    long required = (long) byteCount + 3L * string.length();
+    if (required > bytes.length) {
+      if (required > MAX_ARRAY_SIZE) {
+        required = byteCount + encodedLength(string);
+        if (required > MAX_ARRAY_SIZE) {
+          throw new IllegalStateException("Glossary entries exceed the maximum supported size");
+        }
+      }
+      bytes = Arrays.copyOf(bytes, newCapacity(bytes.length, (int) required));
+    }
+    int start = byteCount;
+    int count = byteCount;
+    for (int i = 0; i < string.length(); i++) {
+      char ch = string.charAt(i);
+      if (ch < 0x80) {
+        bytes[count++] = (byte) ch;
+      } else if (ch < 0x800) {
+        bytes[count++] = (byte) (0xC0 | (ch >> 6));
+        bytes[count++] = (byte) (0x80 | (ch & 0x3F));
+      } else {
+        bytes[count++] = (byte) (0xE0 | (ch >> 12));
+        bytes[count++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+        bytes[count++] = (byte) (0x80 | (ch & 0x3F));
+      }
+    }
+    byteCount = count;
+    return count - start;
+  }
+
+  private static long encodedLength(String string) {
+    long length = 0;
+    for (int i = 0; i < string.length(); i++) {
+      char ch = string.charAt(i);
+      length += ch < 0x80 ? 1 : ch < 0x800 ? 2 : 3;
+    }
+    return length;
+  }
+
+  private String decode(int offset, int length) {
+    int end = offset + length;
+    int i = offset;
+    while (i < end && bytes[i] >= 0) {
+      i++;
+    }
+    if (i == end) {
+      return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+    char[] chars = new char[length];
+    int count = 0;
+    for (i = offset; i < end; count++) {
+      chars[count] = decodeChar(i);
+      i += sequenceLength(bytes[i]);
+    }
+    return new String(chars, 0, count);
+  }
+
+  /** Compares the given string to the encoded string without decoding it. */
+  private boolean matches(String string, int offset, int length) {
+    if (length < string.length() || length > 3 * string.length()) {
+      return false;
+    }
+    int end = offset + length;
+    int i = offset;
+    for (int index = 0; index < string.length(); index++) {
+      if (i >= end || decodeChar(i) != string.charAt(index)) {
+        return false;
+      }
+      i += sequenceLength(bytes[i]);
+    }
+    return i == end;
+  }
+
+  private char decodeChar(int i) {
+    int b = bytes[i];
+    if (b >= 0) {
+      return (char) b;
+    } else if ((b & 0xE0) == 0xC0) {
+      return (char) (((b & 0x1F) << 6) | (bytes[i + 1] & 0x3F));
+    } else {
+      return (char) (((b & 0x0F) << 12) | ((bytes[i + 1] & 0x3F) << 6) | (bytes[i + 2] & 0x3F));
+    }
+  }
+
+  private static int sequenceLength(byte leadByte) {
+    return leadByte >= 0 ? 1 : (leadByte & 0xE0) == 0xC0 ? 2 : 3;
+  }
+
+  private static int newCapacity(int current, int required) {
+    long capacity = Math.max((long) current + (current >> 1), required);
+    return (int) Math.min(capacity, MAX_ARRAY_SIZE);
+  }
+}
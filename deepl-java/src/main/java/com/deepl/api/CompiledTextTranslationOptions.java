@@ -0,0 +1,62 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable, pre-encoded form of a source language, target language and {@link
+ * TextTranslationOptions} combination. Create instances using {@link
+ * Translator#compileTextTranslationOptions} and pass them to {@link
+ * Translator#translateText(java.util.List, CompiledTextTranslationOptions)}; each translation then
+ * only needs to encode the texts.
+ *
+ * <p>The options are captured when compiled, later changes to the {@link TextTranslationOptions}
+ * object do not affect the compiled form.
+ */
+public final class CompiledTextTranslationOptions {
+  private final @Nullable String sourceLang;
+  private final String targetLang;
+  private final byte[] encodedParams;
+  private final boolean textOverridden;
+  private final RequestContext requestContext;
+
+  CompiledTextTranslationOptions(
+      @Nullable String sourceLang,
+      String targetLang,
+      byte[] encodedParams,
+      boolean textOverridden,
+      RequestContext requestContext) {
+    this.sourceLang = sourceLang;
+    this.targetLang = targetLang;
+    this.encodedParams = encodedParams;
+    this.textOverridden = textOverridden;
+    this.requestContext = requestContext;
+  }
+
+  /** @return Standardized language code of the input language, or <code>null</code>. */
+  public @Nullable String getSourceLang() {
+    return sourceLang;
+  }
+
+  /** @return Standardized language code of the desired output language. */
+  public String getTargetLang() {
+    return targetLang;
+  }
+
+  /** URL-encoded request parameters, excluding the texts to translate. */
+  byte[] getEncodedParams() {
+    return encodedParams;
+  }
+
+  /** Whether the texts are overridden by an extra body parameter named <code>text</code>. */
+  boolean isTextOverridden() {
+    return textOverridden;
+  }
+
+  /** Call timeout and deadline; the timeout is counted from the start of each translation. */
+  RequestContext getRequestContext() {
+    return requestContext;
+  }
+}
@@ -0,0 +1,33 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+/**
+ * Exception thrown without sending a request when the {@link ConcurrencyLimiter} for the endpoint
+ * has reached its concurrency limit and its queue of waiting requests is full.
+ */
+public class ConcurrencyLimitExceededException extends ConnectionException {
+  private final String endpoint;
+  private final int limit;
+
+  public ConcurrencyLimitExceededException(String endpoint, int limit) {
+    super(
+        String.format(
+            "Concurrency limit of %d requests for %s reached and queue is full", limit, endpoint),
+        false,
+        null);
+    this.endpoint = endpoint;
+    this.limit = limit;
+  }
+
+  /** Returns the endpoint whose limit was reached, for example "/v2/translate". */
+  public String getEndpoint() {
+    return endpoint;
+  }
+
+  /** Returns the concurrency limit of the endpoint when the request was rejected. */
+  public int getLimit() {
+    return limit;
+  }
+}
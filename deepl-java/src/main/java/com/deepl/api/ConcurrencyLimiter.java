@@ -0,0 +1,331 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Adaptive concurrency limit per endpoint, set using {@link
+ * TranslatorOptions#setConcurrencyLimiter}, that keeps as many requests in flight as the DeepL API
+ * can serve without queueing them.
+ *
+ * <p>The limit of each endpoint, for example "/v2/translate" or "/v3/glossaries", is adjusted after
+ * every request attempt using the TCP Vegas algorithm. The response time of an unloaded endpoint
+ * is estimated by the minimum response time observed; the number of requests queued at the server
+ * is then estimated as <code>limit * (1 - minimum / responseTime)</code>. While fewer than 3
+ * requests are estimated to be queued, the limit grows by one; above 6, it shrinks by one, so
+ * that response times stay near the minimum while throughput is maximized. Responses with status
+ * 429 or 503 and connection errors reduce the limit by 10%. The minimum response time is
+ * measured afresh periodically, to follow changes of the server.
+ *
+ * <p>Requests above the limit wait in a queue per endpoint, within the deadline of the call if
+ * set. If the queue is full, the request throws {@link ConcurrencyLimitExceededException}
+ * without being sent.
+ *
+ * <p>Configure the limiter before passing it to {@link TranslatorOptions}. One instance may be
+ * shared by several clients to share the limits.
+ */
+public class ConcurrencyLimiter {
+  private static final double ALPHA = 3;
+  private static final double BETA = 6;
+  private static final double BACKOFF_RATIO = 0.9;
+  private static final int SAMPLES_PER_PROBE = 500;
+
+  private int initialLimit = 10;
+  private int minLimit = 1;
+  private int maxLimit = 200;
+  private int maxQueueSize = 1000;
+  private final ConcurrentHashMap<String, EndpointLimit> limits = new ConcurrentHashMap<>();
+
+  /** Set the limit of endpoints without recorded requests. Defaults to 10. */
+  public ConcurrencyLimiter setInitialLimit(int initialLimit) {
+    if (initialLimit < 1) {
+      throw new IllegalArgumentException("initialLimit must be positive");
+    }
+    this.initialLimit = initialLimit;
+    return this;
+  }
+
+  /** Set the lowest limit the adjustments may reach. Defaults to 1. */
+  public ConcurrencyLimiter setMinLimit(int minLimit) {
+    if (minLimit < 1) {
+      throw new IllegalArgumentException("minLimit must be positive");
+    }
+    this.minLimit = minLimit;
+    return this;
+  }
+
+  /** Set the highest limit the adjustments may reach. Defaults to 200. */
+  public ConcurrencyLimiter setMaxLimit(int maxLimit) {
+    if (maxLimit < 1) {
+      throw new IllegalArgumentException("maxLimit must be positive");
+    }
+    this.maxLimit = maxLimit;
+    return this;
+  }
+
+  /**
+   * Set the maximum number of requests per endpoint waiting for the limit; further requests are
+   * rejected. Defaults to 1000.
+   */
+  public ConcurrencyLimiter setMaxQueueSize(int maxQueueSize) {
+    if (maxQueueSize < 0) {
+      throw new IllegalArgumentException("maxQueueSize must not be negative");
+    }
+    this.maxQueueSize = maxQueueSize;
+    return this;
+  }
+
+  /** Gets the current initial limit. */
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  /** Gets the current minimum limit. */
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  /** Gets the current maximum limit. */
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  /** Gets the current maximum queue size. */
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /**
+   * Returns the metrics of an endpoint.
+   *
+   * @param endpoint Endpoint, for example "/v2/translate".
+   * @return Snapshot of the endpoint metrics, or <code>null</code> if no request to the endpoint
+   *     was made.
+   */
+  public @Nullable Metrics getMetrics(String endpoint) {
+    EndpointLimit limit = limits.get(endpoint);
+    return limit != null ? limit.getMetrics() : null;
+  }
+
+  /** Returns snapshots of the metrics of all endpoints with requests, keyed by endpoint. */
+  public Map<String, Metrics> getAllMetrics() {
+    Map<String, Metrics> result = new TreeMap<>();
+    limits.forEach((endpoint, limit) -> result.put(endpoint, limit.getMetrics()));
+    return result;
+  }
+
+  /** Snapshot of the metrics of an endpoint. */
+  public static class Metrics {
+    private final int limit;
+    private final int inFlight;
+    private final int queueDepth;
+    private final long minResponseTimeNanos;
+    private final long rejectedCount;
+
+    private Metrics(
+        int limit, int inFlight, int queueDepth, long minResponseTimeNanos, long rejectedCount) {
+      this.limit = limit;
+      this.inFlight = inFlight;
+      this.queueDepth = queueDepth;
+      this.minResponseTimeNanos = minResponseTimeNanos;
+      this.rejectedCount = rejectedCount;
+    }
+
+    /** @return Current concurrency limit of the endpoint. */
+    public int getLimit() {
+      return limit;
+    }
+
+    /** @return Number of requests currently in flight. */
+    public int getInFlight() {
+      return inFlight;
+    }
+
+    /** @return Number of requests currently waiting for the limit. */
+    public int getQueueDepth() {
+      return queueDepth;
+    }
+
+    /**
+     * @return Minimum response time observed since it was last measured afresh, or <code>null
+     *     </code> if none was observed yet.
+     */
+    public @Nullable Duration getMinResponseTime() {
+      return minResponseTimeNanos != Long.MAX_VALUE ? Duration.ofNanos(minResponseTimeNanos) : null;
+    }
+
+    /** @return Total number of requests rejected because the queue was full. */
+    public long getRejectedCount() {
+      return rejectedCount;
+    }
+  }
+
+  /**
+   * Waits until a request to the endpoint may be sent; {@link #release} must be called once it
+   * completes.
+   *
+   * @param deadline Time after which to stop waiting, or <code>null</code> to wait indefinitely.
+   * @throws ConcurrencyLimitExceededException If the queue of the endpoint is full.
+   * @throws DeadlineExceededException If the deadline passed while waiting.
+   */
+  void acquire(String endpoint, @Nullable Instant deadline)
+      throws InterruptedException, ConnectionException {
+    EndpointLimit limit = limits.computeIfAbsent(endpoint, EndpointLimit::new);
+    CompletableFuture<Void> granted = limit.enqueue();
+    try {
+      if (deadline == null) {
+        granted.get();
+      } else {
+        long remainingNanos = Duration.between(Instant.now(), deadline).toNanos();
+        granted.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+      }
+    } catch (ExecutionException exception) {
+      throw (ConcurrencyLimitExceededException) exception.getCause();
+    } catch (TimeoutException exception) {
+      limit.abandon(granted);
+      throw new DeadlineExceededException("Request deadline exceeded while queued", null);
+    } catch (InterruptedException exception) {
+      limit.abandon(granted);
+      throw exception;
+    }
+  }
+
+  /**
+   * Returns a future completed once a request to the endpoint may be sent, or completed
+   * exceptionally with {@link ConcurrencyLimitExceededException} if the queue is full; {@link
+   * #release} must be called once the request completes.
+   *
+   * @param deadline Time after which to stop waiting, or <code>null</code> to wait indefinitely.
+   * @param timer Executor completing the future exceptionally with {@link
+   *     DeadlineExceededException} once the deadline passes while waiting.
+   */
+  CompletableFuture<Void> acquireAsync(
+      String endpoint, @Nullable Instant deadline, ScheduledExecutorService timer) {
+    EndpointLimit limit = limits.computeIfAbsent(endpoint, EndpointLimit::new);
+    CompletableFuture<Void> granted = limit.enqueue();
+    if (deadline != null && !granted.isDone()) {
+      long remainingNanos = Duration.between(Instant.now(), deadline).toNanos();
+      ScheduledFuture<?> timeout =
+          timer.schedule(
+              () -> {
+                // Remove the request before failing it, unless it was dispatched concurrently
+                if (limit.dequeue(granted)) {
+                  String message = "Request deadline exceeded while queued";
+                  granted.completeExceptionally(new DeadlineExceededException(message, null));
+                }
+              },
+              Math.max(0, remainingNanos),
+              TimeUnit.NANOSECONDS);
+      granted.whenComplete((ignored, exception) -> timeout.cancel(false));
+    }
+    return granted;
+  }
+
+  /**
+   * Frees the slot of a completed request, adjusts the limit and dispatches waiting requests.
+   *
+   * @param responseTimeNanos Time from sending the request until the response, or a negative value
+   *     if the request was not sent, so that the limit is not adjusted.
+   * @param dropped Whether the request failed in a way indicating overload.
+   */
+  void release(String endpoint, long responseTimeNanos, boolean dropped) {
+    EndpointLimit limit = limits.get(endpoint);
+    if (limit != null) {
+      limit.release(responseTimeNanos, dropped);
+    }
+  }
+
+  private class EndpointLimit {
+    private final String endpoint;
+    private final ArrayDeque<CompletableFuture<Void>> queue = new ArrayDeque<>();
+    private double limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    private int inFlight;
+    private long minResponseTimeNanos = Long.MAX_VALUE;
+    private int samplesSinceProbe;
+    private long rejectedCount;
+
+    EndpointLimit(String endpoint) {
+      this.endpoint = endpoint;
+    }
+
+    CompletableFuture<Void> enqueue() {
+      CompletableFuture<Void> granted = new CompletableFuture<>();
+      synchronized (this) {
+        if (queue.isEmpty() && inFlight < (int) limit) {
+          inFlight++;
+          granted.complete(null);
+        } else if (queue.size() >= maxQueueSize) {
+          rejectedCount++;
+          granted.completeExceptionally(
+              new ConcurrencyLimitExceededException(endpoint, (int) limit));
+        } else {
+          queue.addLast(granted);
+        }
+      }
+      return granted;
+    }
+
+    void abandon(CompletableFuture<Void> granted) {
+      if (dequeue(granted)) {
+        return;
+      }
+      // Dispatched concurrently, so give the slot back
+      release(-1, false);
+    }
+
+    /** Removes a waiting request, returning <code>false</code> if it was dispatched. */
+    synchronized boolean dequeue(CompletableFuture<Void> granted) {
+      return queue.remove(granted);
+    }
+
+    void release(long responseTimeNanos, boolean dropped) {
+      List<CompletableFuture<Void>> dispatched = new ArrayList<>();
+      synchronized (this) {
+        int inFlightBefore = inFlight;
+        inFlight--;
+        if (dropped) {
+          limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (responseTimeNanos >= 0) {
+          adjust(responseTimeNanos, inFlightBefore);
+        }
+        while (!queue.isEmpty() && inFlight < (int) limit) {
+          inFlight++;
+          dispatched.add(queue.pollFirst());
+        }
+      }
+      // Complete the futures outside the lock, as they may run the dispatched requests
+      for (CompletableFuture<Void> granted : dispatched) {
+        granted.complete(null);
+      }
+    }
+
+    private void adjust(long responseTimeNanos, int inFlightBefore) {
+      if (++samplesSinceProbe >= SAMPLES_PER_PROBE) {
+        // Measure the minimum afresh, in case the unloaded response time has increased
+        samplesSinceProbe = 0;
+        minResponseTimeNanos = responseTimeNanos;
+        return;
+      }
+      minResponseTimeNanos = Math.min(minResponseTimeNanos, responseTimeNanos);
+      double queued = limit * (1 - (double) minResponseTimeNanos / responseTimeNanos);
+      if (queued < ALPHA) {
+        // Only grow while the limit is used, so that an idle client does not grow it unchecked
+        if (inFlightBefore * 2 >= limit) {
+          limit = Math.min(maxLimit, limit + 1);
+        }
+      } else if (queued > BETA) {
+        limit = Math.max(minLimit, limit - 1);
+      }
+    }
+
+    synchronized Metrics getMetrics() {
+      return new Metrics((int) limit, inFlight, queue.size(), minResponseTimeNanos, rejectedCount);
+    }
+  }
+}
@@ -0,0 +1,17 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Exception thrown when the deadline or timeout set using {@link BaseRequestOptions#setDeadline} or
+ * {@link BaseRequestOptions#setTimeout} has passed, or would pass before the next attempt could be
+ * sent.
+ */
+public class DeadlineExceededException extends ConnectionException {
+  public DeadlineExceededException(String message, @Nullable Throwable cause) {
+    super(message, false, cause);
+  }
+}
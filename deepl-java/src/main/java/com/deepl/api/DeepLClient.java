@@ -4,18 +4,31 @@
 
 package com.deepl.api;
 
+import com.deepl.api.http.HttpContent;
 import com.deepl.api.http.HttpResponse;
+import com.deepl.api.http.HttpResponseStream;
 import com.deepl.api.utils.*;
+import com.google.gson.JsonIOException;
 import java.io.*;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.Nullable;
 
 public class DeepLClient extends Translator {
+  private static final int DEFAULT_DICTIONARY_FETCH_CONCURRENCY = 4;
+
+  private static final int DEFAULT_PAGE_SIZE = 25;
+  private static final int MAX_TRANSLATION_MEMORY_PAGE_SIZE = 25;
+
+  private final @Nullable GlossarySnapshotCache glossarySnapshotCache;
 
   /**
    * Initializes a new DeepLClient object using your Authentication Key.
@@ -47,6 +60,10 @@ public class DeepLClient extends Translator {
   @Deprecated
   public DeepLClient(String authKey, TranslatorOptions options) throws IllegalArgumentException {
     super(authKey, options);
+    this.glossarySnapshotCache =
+        options instanceof DeepLClientOptions
+            ? ((DeepLClientOptions) options).getGlossarySnapshotCache()
+            : null;
   }
 
   /**
@@ -63,6 +80,7 @@ public class DeepLClient extends Translator {
   @SuppressWarnings("deprecation")
   public DeepLClient(String authKey, DeepLClientOptions options) throws IllegalArgumentException {
     super(authKey, options);
+    this.glossarySnapshotCache = options.getGlossarySnapshotCache();
   }
 
   public WriteResult rephraseText(
@@ -109,11 +127,28 @@ public class DeepLClient extends Translator {
     if (glossaryDicts.isEmpty()) {
       throw new IllegalArgumentException("Parameter dictionaries must not be empty");
     }
-    ArrayList<KeyValuePair<String, String>> bodyParams =
-        createGlossaryHttpParams(name, glossaryDicts);
-    HttpResponse response = httpClientWrapper.sendRequestWithBackoff("/v3/glossaries", bodyParams);
+    for (MultilingualGlossaryDictionaryEntries glossaryDict : glossaryDicts) {
+      checkGlossaryLanguagesLocally(
+          glossaryDict.getSourceLanguageCode(), glossaryDict.getTargetLanguageCode());
+    }
+    HttpContent content = createGlossaryHttpContent(name, glossaryDicts);
+    HttpResponse response = httpClientWrapper.sendRequestWithBackoff("/v3/glossaries", content);
     checkResponse(response, false, false);
-    return jsonParser.parseMultilingualGlossaryInfo(response.getBody());
+    MultilingualGlossaryInfo glossary =
+        rememberGlossary(jsonParser.parseMultilingualGlossaryInfo(response.getBody()));
+    if (glossarySnapshotCache != null) {
+      for (MultilingualGlossaryDictionaryEntries glossaryDict : glossaryDicts) {
+        for (MultilingualGlossaryDictionaryInfo dictionaryInfo : glossary.getDictionaries()) {
+          if (isSameLanguagePair(dictionaryInfo, glossaryDict)) {
+            glossarySnapshotCache.put(
+                glossary.getGlossaryId(),
+                dictionaryInfo,
+                GlossarySnapshotCache.contentHash(glossaryDict.getEntries()));
+          }
+        }
+      }
+    }
+    return glossary;
   }
 
   /**
@@ -182,10 +217,16 @@ public class DeepLClient extends Translator {
    */
   public MultilingualGlossaryInfo getMultilingualGlossary(String glossaryId)
       throws DeepLException, InterruptedException {
+    GlossaryCache glossaryCache = getGlossaryCache();
+    GlossaryCache.Cached<MultilingualGlossaryInfo> cached =
+        glossaryCache != null ? glossaryCache.getMultilingualGlossary(glossaryId) : null;
+    if (cached != null) {
+      return cached.getOrThrow(glossaryId);
+    }
     String relativeUrl = String.format("/v3/glossaries/%s", glossaryId);
     HttpResponse response = httpClientWrapper.sendGetRequestWithBackoff(relativeUrl);
-    checkResponse(response, false, true);
-    return jsonParser.parseMultilingualGlossaryInfo(response.getBody());
+    checkGlossaryResponse(response, glossaryId);
+    return rememberGlossary(jsonParser.parseMultilingualGlossaryInfo(response.getBody()));
   }
 
   /**
@@ -202,7 +243,32 @@ public class DeepLClient extends Translator {
       throws DeepLException, InterruptedException {
     HttpResponse response = httpClientWrapper.sendGetRequestWithBackoff("/v3/glossaries");
     checkResponse(response, false, false);
-    return jsonParser.parseMultilingualGlossaryInfoList(response.getBody());
+    List<MultilingualGlossaryInfo> glossaries =
+        jsonParser.parseMultilingualGlossaryInfoList(response.getBody());
+    glossaries.forEach(this::rememberGlossary);
+    return glossaries;
+  }
+
+  /**
+   * Functions the same as {@link DeepLClient#listMultilingualGlossaries()} but returns a lazily
+   * populated stream. Glossaries are parsed one at a time while the stream is consumed, so that the
+   * first glossary is available without waiting for the whole list, and the list is not held in
+   * memory. The connection stays open until the stream is exhausted or closed; use
+   * try-with-resources when the stream may not be consumed entirely.
+   *
+   * @return Stream of {@link MultilingualGlossaryInfo} objects with details about each glossary.
+   * @throws InterruptedException If the thread is interrupted during execution of this function.
+   * @throws DeepLException If any error occurs while communicating with the DeepL API. Errors
+   *     reading the stream are thrown as {@link UncheckedDeepLException} during consumption.
+   */
+  public Stream<MultilingualGlossaryInfo> streamMultilingualGlossaries()
+      throws DeepLException, InterruptedException {
+    HttpResponseStream response =
+        httpClientWrapper.sendGetRequestStreamWithBackoff("/v3/glossaries");
+    checkResponse(response, false, false);
+    return toStream(
+            openListStream(response, jsonParser::parseMultilingualGlossaryInfoListStream))
+        .map(this::rememberGlossary);
   }
 
   /**
@@ -225,13 +291,22 @@ public class DeepLClient extends Translator {
     validateParameter("glossaryId", glossaryId);
     String queryString = createLanguageQueryParams(sourceLanguageCode, targetLanguageCode);
     String relativeUrl = String.format("/v3/glossaries/%s/entries%s", glossaryId, queryString);
-    HttpResponse response = httpClientWrapper.sendGetRequestWithBackoff(relativeUrl);
-    checkResponse(response, false, true);
-    return jsonParser
-        .parseMultilingualGlossaryDictionaryListResponse(response.getBody())
-        .getDictionaries()
-        .get(0)
-        .getDictionaryEntries();
+    try (HttpResponseStream response =
+        httpClientWrapper.sendGetRequestStreamWithBackoff(relativeUrl)) {
+      checkResponse(response, false, true);
+      if (response.getBody() == null) {
+        throw new DeepLException("response stream is empty");
+      }
+      // Parse directly from the response stream to avoid buffering the whole response as a string
+      Reader reader = new InputStreamReader(response.getBody(), StandardCharsets.UTF_8);
+      return jsonParser
+          .parseMultilingualGlossaryDictionaryListResponse(reader)
+          .getDictionaries()
+          .get(0)
+          .getDictionaryEntries();
+    } catch (JsonIOException exception) {
+      throw new DeepLException("Error reading stream", exception);
+    }
   }
 
   /**
@@ -297,6 +372,93 @@ public class DeepLClient extends Translator {
         glossaryDict.getTargetLanguageCode());
   }
 
+  /**
+   * For the specified glossary, retrieves all glossary dictionaries with their entries. Up to 4
+   * dictionaries are retrieved concurrently.
+   *
+   * @param glossary The glossary for which to retrieve entries.
+   * @return Map from language pair to {@link MultilingualGlossaryDictionaryEntries} object
+   *     containing the glossary dictionary with entries, in the order of {@link
+   *     MultilingualGlossaryInfo#getDictionaries()}.
+   * @throws InterruptedException If the thread is interrupted during execution of this function.
+   * @throws DeepLException If any error occurs while communicating with the DeepL API, a {@link
+   *     DeepLException} or a derived class will be thrown.
+   * @see #getAllMultilingualGlossaryDictionaryEntries(MultilingualGlossaryInfo, int)
+   */
+  public Map<GlossaryLanguagePair, MultilingualGlossaryDictionaryEntries>
+      getAllMultilingualGlossaryDictionaryEntries(MultilingualGlossaryInfo glossary)
+          throws DeepLException, InterruptedException {
+    return getAllMultilingualGlossaryDictionaryEntries(
+        glossary, DEFAULT_DICTIONARY_FETCH_CONCURRENCY);
+  }
+
+  /**
+   * For the specified glossary, retrieves all glossary dictionaries with their entries, sending
+   * up to {@code maxConcurrency} requests at a time. If retrieving any dictionary fails, the
+   * remaining requests are abandoned and the error is thrown.
+   *
+   * @param glossary The glossary for which to retrieve entries.
+   * @param maxConcurrency Maximum number of dictionaries to retrieve concurrently, at least 1.
+   * @return Map from language pair to {@link MultilingualGlossaryDictionaryEntries} object
+   *     containing the glossary dictionary with entries, in the order of {@link
+   *     MultilingualGlossaryInfo#getDictionaries()}.
+   * @throws InterruptedException If the thread is interrupted during execution of this function.
+   * @throws IllegalArgumentException If {@code maxConcurrency} is less than 1.
+   * @throws DeepLException If any error occurs while communicating with the DeepL API, a {@link
+   *     DeepLException} or a derived class will be thrown.
+   */
+  public Map<GlossaryLanguagePair, MultilingualGlossaryDictionaryEntries>
+      getAllMultilingualGlossaryDictionaryEntries(
+          MultilingualGlossaryInfo glossary, int maxConcurrency)
+          throws DeepLException, IllegalArgumentException, InterruptedException {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be at least 1");
+    }
+    List<MultilingualGlossaryDictionaryInfo> glossaryDicts = glossary.getDictionaries();
+    MultilingualGlossaryDictionaryEntries[] fetched =
+        new MultilingualGlossaryDictionaryEntries[glossaryDicts.size()];
+    int threadCount = Math.min(maxConcurrency, glossaryDicts.size());
+    if (threadCount <= 1) {
+      for (int i = 0; i < glossaryDicts.size(); i++) {
+        fetched[i] = getMultilingualGlossaryDictionaryEntries(glossary, glossaryDicts.get(i));
+      }
+    } else {
+      ExecutorService executor =
+          Executors.newFixedThreadPool(threadCount, newThreadFactory("deepl-glossary-fetch"));
+      try {
+        CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+        for (int i = 0; i < glossaryDicts.size(); i++) {
+          int index = i;
+          completionService.submit(
+              () -> {
+                fetched[index] =
+                    getMultilingualGlossaryDictionaryEntries(glossary, glossaryDicts.get(index));
+                return index;
+              });
+        }
+        // Wait in completion order, so that the first failure is thrown without waiting for the
+        // remaining requests
+        for (int i = 0; i < glossaryDicts.size(); i++) {
+          try {
+            completionService.take().get();
+          } catch (ExecutionException exception) {
+            throw unwrapFetchException(exception);
+          }
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+    Map<GlossaryLanguagePair, MultilingualGlossaryDictionaryEntries> result = new LinkedHashMap<>();
+    for (MultilingualGlossaryDictionaryEntries dictionaryEntries : fetched) {
+      result.put(
+          new GlossaryLanguagePair(
+              dictionaryEntries.getSourceLanguageCode(), dictionaryEntries.getTargetLanguageCode()),
+          dictionaryEntries);
+    }
+    return result;
+  }
+
   /**
    * Replaces a glossary dictionary with given entries for the source and target language codes. If
    * no such glossary dictionary exists for that language pair, a new glossary dictionary will be
@@ -321,7 +483,7 @@ public class DeepLClient extends Translator {
       GlossaryEntries entries)
       throws DeepLException, IllegalArgumentException, InterruptedException {
     return replaceGlossaryDictionaryInternal(
-        glossaryId, sourceLanguageCode, targetLanguageCode, entries.toTsv(), "tsv");
+        glossaryId, sourceLanguageCode, targetLanguageCode, entries);
   }
 
   /**
@@ -348,8 +510,7 @@ public class DeepLClient extends Translator {
         glossaryId,
         glossaryDict.getSourceLanguageCode(),
         glossaryDict.getTargetLanguageCode(),
-        glossaryDict.getEntries().toTsv(),
-        "tsv");
+        glossaryDict.getEntries());
   }
 
   /**
@@ -375,8 +536,7 @@ public class DeepLClient extends Translator {
         glossary.getGlossaryId(),
         glossaryDict.getSourceLanguageCode(),
         glossaryDict.getTargetLanguageCode(),
-        glossaryDict.getEntries().toTsv(),
-        "tsv");
+        glossaryDict.getEntries());
   }
 
   /**
@@ -402,7 +562,7 @@ public class DeepLClient extends Translator {
       GlossaryEntries entries)
       throws DeepLException, IllegalArgumentException, InterruptedException {
     return replaceGlossaryDictionaryInternal(
-        glossary.getGlossaryId(), sourceLanguageCode, targetLanguageCode, entries.toTsv(), "tsv");
+        glossary.getGlossaryId(), sourceLanguageCode, targetLanguageCode, entries);
   }
 
   /**
@@ -482,7 +642,7 @@ public class DeepLClient extends Translator {
       GlossaryEntries entries)
       throws DeepLException, IllegalArgumentException, InterruptedException {
     return updateGlossaryDictionaryInternal(
-        glossaryId, sourceLanguageCode, targetLanguageCode, entries.toTsv(), "tsv");
+        glossaryId, sourceLanguageCode, targetLanguageCode, entries);
   }
 
   /**
@@ -509,7 +669,7 @@ public class DeepLClient extends Translator {
       GlossaryEntries entries)
       throws DeepLException, IllegalArgumentException, InterruptedException {
     return updateGlossaryDictionaryInternal(
-        glossary.getGlossaryId(), sourceLanguageCode, targetLanguageCode, entries.toTsv(), "tsv");
+        glossary.getGlossaryId(), sourceLanguageCode, targetLanguageCode, entries);
   }
 
   /**
@@ -535,8 +695,7 @@ public class DeepLClient extends Translator {
         glossaryId,
         glossaryDict.getSourceLanguageCode(),
         glossaryDict.getTargetLanguageCode(),
-        glossaryDict.getEntries().toTsv(),
-        "tsv");
+        glossaryDict.getEntries());
   }
 
   /**
@@ -559,8 +718,7 @@ public class DeepLClient extends Translator {
         glossary.getGlossaryId(),
         glossaryDict.getSourceLanguageCode(),
         glossaryDict.getTargetLanguageCode(),
-        glossaryDict.getEntries().toTsv(),
-        "tsv");
+        glossaryDict.getEntries());
   }
 
   /**
@@ -584,7 +742,7 @@ public class DeepLClient extends Translator {
       HttpResponse response =
           httpClientWrapper.sendPatchRequestWithBackoff(relativeUrl, bodyParams);
       checkResponse(response, false, true);
-      return jsonParser.parseMultilingualGlossaryInfo(response.getBody());
+      return rememberGlossary(jsonParser.parseMultilingualGlossaryInfo(response.getBody()));
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new DeepLException("Request was interrupted", e);
@@ -643,6 +801,125 @@ public class DeepLClient extends Translator {
         glossaryId, sourceLanguageCode, targetLanguageCode, csvContent, "csv");
   }
 
+  /**
+   * Synchronizes a glossary dictionary with the given entries, sending as little data as possible.
+   * The current entries are retrieved and compared to the given entries; if only entries were added
+   * or changed, only those are sent and merged into the dictionary. If entries must be removed, the
+   * dictionary is replaced with all given entries. If the dictionary already contains exactly the
+   * given entries, no further request is sent. If no entries are given, the dictionary is deleted.
+   *
+   * @param glossaryId The specified ID of the glossary that contains the dictionary to be
+   *     synchronized. If no dictionary exists for the language pair, it is created.
+   * @param sourceLanguageCode Language code of the source terms language.
+   * @param targetLanguageCode Language code of the target terms language.
+   * @param entries The source-target entry pairs the glossary dictionary should contain.
+   * @return {@link GlossarySyncResult} object describing the operation and the applied
+   *     differences.
+   * @throws InterruptedException If the thread is interrupted during execution of this function.
+   * @throws IllegalArgumentException If any argument is invalid.
+   * @throws GlossaryNotFoundException If the glossary does not exist.
+   * @throws DeepLException If any error occurs while communicating with the DeepL API, a {@link
+   *     DeepLException} or a derived class will be thrown.
+   */
+  public GlossarySyncResult syncMultilingualGlossaryDictionary(
+      String glossaryId,
+      String sourceLanguageCode,
+      String targetLanguageCode,
+      GlossaryEntries entries)
+      throws DeepLException, IllegalArgumentException, InterruptedException {
+    validateParameter("glossaryId", glossaryId);
+    String contentHash = null;
+    if (glossarySnapshotCache != null) {
+      contentHash = GlossarySnapshotCache.contentHash(entries);
+      MultilingualGlossaryDictionaryInfo unchanged =
+          glossarySnapshotCache.getUnchanged(
+              glossaryId, sourceLanguageCode, targetLanguageCode, contentHash);
+      if (unchanged != null) {
+        return new GlossarySyncResult(
+            GlossarySyncResult.Operation.None,
+            new GlossaryDiff(entries, entries),
+            unchanged.getEntryCount());
+      }
+    }
+    GlossaryEntries currentEntries;
+    try {
+      currentEntries =
+          getMultilingualGlossaryDictionaryEntries(
+                  glossaryId, sourceLanguageCode, targetLanguageCode)
+              .getEntries();
+    } catch (NotFoundException exception) {
+      // The API reports a missing dictionary like a missing glossary, so check that the glossary
+      // exists; this throws GlossaryNotFoundException if it does not
+      getMultilingualGlossary(glossaryId);
+      currentEntries = new GlossaryEntries();
+    }
+
+    GlossaryDiff diff = new GlossaryDiff(currentEntries, entries);
+    if (diff.isEmpty()) {
+      return recordGlossarySnapshot(
+          glossaryId,
+          sourceLanguageCode,
+          targetLanguageCode,
+          new GlossarySyncResult(GlossarySyncResult.Operation.None, diff, entries.size()),
+          contentHash);
+    } else if (entries.isEmpty()) {
+      deleteMultilingualGlossaryDictionary(glossaryId, sourceLanguageCode, targetLanguageCode);
+      return new GlossarySyncResult(GlossarySyncResult.Operation.Delete, diff, 0);
+    } else if (!diff.getRemoved().isEmpty()) {
+      MultilingualGlossaryDictionaryInfo dictionaryInfo =
+          replaceGlossaryDictionaryInternal(
+              glossaryId, sourceLanguageCode, targetLanguageCode, entries::writeTsv, "tsv");
+      return recordGlossarySnapshot(
+          glossaryId,
+          sourceLanguageCode,
+          targetLanguageCode,
+          new GlossarySyncResult(
+              GlossarySyncResult.Operation.Replace, diff, dictionaryInfo.getEntryCount()),
+          contentHash);
+    }
+    MultilingualGlossaryInfo glossaryInfo =
+        updateGlossaryDictionaryInternal(
+            glossaryId, sourceLanguageCode, targetLanguageCode, diff.getAddedAndChanged());
+    long entryCount = entries.size();
+    for (MultilingualGlossaryDictionaryInfo dictionaryInfo : glossaryInfo.getDictionaries()) {
+      if (dictionaryInfo.getSourceLanguageCode().equalsIgnoreCase(sourceLanguageCode)
+          && dictionaryInfo.getTargetLanguageCode().equalsIgnoreCase(targetLanguageCode)) {
+        entryCount = dictionaryInfo.getEntryCount();
+      }
+    }
+    return recordGlossarySnapshot(
+        glossaryId,
+        sourceLanguageCode,
+        targetLanguageCode,
+        new GlossarySyncResult(GlossarySyncResult.Operation.Update, diff, entryCount),
+        contentHash);
+  }
+
+  /**
+   * Synchronizes a glossary dictionary with the given entries, sending as little data as possible.
+   * The glossary dictionary must belong to the specified glossary. See {@link
+   * #syncMultilingualGlossaryDictionary(String, String, String, GlossaryEntries)} for details.
+   *
+   * @param glossary The glossary that contains the dictionary to be synchronized.
+   * @param glossaryDict The source-target entry pairs the glossary dictionary should contain,
+   *     along with their language pair.
+   * @return {@link GlossarySyncResult} object describing the operation and the applied
+   *     differences.
+   * @throws InterruptedException If the thread is interrupted during execution of this function.
+   * @throws IllegalArgumentException If any argument is invalid.
+   * @throws DeepLException If any error occurs while communicating with the DeepL API, a {@link
+   *     DeepLException} or a derived class will be thrown.
+   */
+  public GlossarySyncResult syncMultilingualGlossaryDictionary(
+      MultilingualGlossaryInfo glossary, MultilingualGlossaryDictionaryEntries glossaryDict)
+      throws DeepLException, IllegalArgumentException, InterruptedException {
+    return syncMultilingualGlossaryDictionary(
+        glossary.getGlossaryId(),
+        glossaryDict.getSourceLanguageCode(),
+        glossaryDict.getTargetLanguageCode(),
+        glossaryDict.getEntries());
+  }
+
   /**
    * Deletes the glossary with the specified ID.
    *
@@ -655,6 +932,10 @@ public class DeepLClient extends Translator {
     String relativeUrl = String.format("/v3/glossaries/%s", glossaryId);
     HttpResponse response = httpClientWrapper.sendDeleteRequestWithBackoff(relativeUrl);
     this.checkResponse(response, false, true);
+    forgetDeletedGlossary(glossaryId);
+    if (glossarySnapshotCache != null) {
+      glossarySnapshotCache.remove(glossaryId);
+    }
   }
 
   /**
@@ -688,6 +969,8 @@ public class DeepLClient extends Translator {
     String relativeUrl = String.format("/v3/glossaries/%s/dictionaries%s", glossaryId, queryString);
     HttpResponse response = httpClientWrapper.sendDeleteRequestWithBackoff(relativeUrl);
     this.checkResponse(response, false, true);
+    rememberGlossaryDictionary(glossaryId, sourceLanguageCode, targetLanguageCode, null);
+    forgetGlossarySnapshot(glossaryId, sourceLanguageCode, targetLanguageCode);
   }
 
   /**
@@ -803,6 +1086,39 @@ public class DeepLClient extends Translator {
     return getAllStyleRules(null, null, null);
   }
 
+  /**
+   * Retrieves all available style rules page by page as a lazily populated stream. The first page
+   * is retrieved by this function; while the items of each page are consumed, the next page is
+   * retrieved in the background. Close the stream, for example using try-with-resources, when it
+   * may not be consumed entirely.
+   *
+   * @param pageSize Number of style rules to retrieve per page.
+   * @param detailed Optional flag indicating whether to include detailed configuration rules
+   *     including the configuredRules and customInstructions properties.
+   * @return Stream of {@link StyleRuleInfo} objects for all available style rules.
+   * @throws InterruptedException If the thread is interrupted during execution of this function.
+   * @throws IllegalArgumentException If pageSize is less than 1.
+   * @throws DeepLException If any error occurs while communicating with the DeepL API. Errors
+   *     retrieving later pages are thrown as {@link UncheckedDeepLException} during consumption.
+   */
+  public Stream<StyleRuleInfo> streamStyleRules(int pageSize, @Nullable Boolean detailed)
+      throws DeepLException, InterruptedException {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("pageSize must be positive");
+    }
+    return toStream(new PageIterator<>(page -> getAllStyleRules(page, pageSize, detailed)));
+  }
+
+  /**
+   * Functions the same as {@link DeepLClient#streamStyleRules(int, Boolean)} but with a page size
+   * of 25 and without detailed configuration rules.
+   *
+   * @see DeepLClient#streamStyleRules(int, Boolean)
+   */
+  public Stream<StyleRuleInfo> streamStyleRules() throws DeepLException, InterruptedException {
+    return streamStyleRules(DEFAULT_PAGE_SIZE, null);
+  }
+
   /**
    * Retrieves a list of translation memories available for the account associated with the DeepL
    * API auth key. The maximum number of translation memories returned is controlled by pageSize
@@ -861,6 +1177,39 @@ public class DeepLClient extends Translator {
     return listTranslationMemories(null, null);
   }
 
+  /**
+   * Retrieves all translation memories page by page as a lazily populated stream. The first page
+   * is retrieved by this function; while the items of each page are consumed, the next page is
+   * retrieved in the background. Close the stream, for example using try-with-resources, when it
+   * may not be consumed entirely.
+   *
+   * @param pageSize Number of translation memories to retrieve per page (max 25).
+   * @return Stream of {@link TranslationMemoryInfo} objects.
+   * @throws InterruptedException If the thread is interrupted during execution of this function.
+   * @throws IllegalArgumentException If pageSize is not between 1 and 25.
+   * @throws DeepLException If any error occurs while communicating with the DeepL API. Errors
+   *     retrieving later pages are thrown as {@link UncheckedDeepLException} during consumption.
+   */
+  public Stream<TranslationMemoryInfo> streamTranslationMemories(int pageSize)
+      throws DeepLException, InterruptedException {
+    if (pageSize < 1 || pageSize > MAX_TRANSLATION_MEMORY_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          "pageSize must be between 1 and " + MAX_TRANSLATION_MEMORY_PAGE_SIZE);
+    }
+    return toStream(new PageIterator<>(page -> listTranslationMemories(page, pageSize)));
+  }
+
+  /**
+   * Functions the same as {@link DeepLClient#streamTranslationMemories(int)} but with a page size
+   * of 25.
+   *
+   * @see DeepLClient#streamTranslationMemories(int)
+   */
+  public Stream<TranslationMemoryInfo> streamTranslationMemories()
+      throws DeepLException, InterruptedException {
+    return streamTranslationMemories(DEFAULT_PAGE_SIZE);
+  }
+
   /**
    * Creates a new style rule with the specified details and returns a {@link StyleRuleInfo} object
    * with details about the newly created style rule.
@@ -1100,13 +1449,20 @@ public class DeepLClient extends Translator {
   private MultilingualGlossaryInfo createGlossaryFromCsvInternal(
       String name, String sourceLanguageCode, String targetLanguageCode, String entries)
       throws DeepLException, InterruptedException {
-    ArrayList<KeyValuePair<String, String>> params =
-        createGlossaryDictionariesHttpParams(
-            sourceLanguageCode, targetLanguageCode, entries, "csv");
+    checkGlossaryLanguagesLocally(sourceLanguageCode, targetLanguageCode);
+    ArrayList<KeyValuePair<String, String>> params = new ArrayList<>();
     params.add(new KeyValuePair<>("name", name));
-    HttpResponse response = httpClientWrapper.sendRequestWithBackoff("/v3/glossaries", params);
+    params.add(new KeyValuePair<>("dictionaries[0].source_lang", sourceLanguageCode));
+    params.add(new KeyValuePair<>("dictionaries[0].target_lang", targetLanguageCode));
+    params.add(new KeyValuePair<>("dictionaries[0].entries_format", "csv"));
+    HttpContent content =
+        HttpContent.buildFormURLEncodedContent(
+            params,
+            Collections.singletonList(
+                new KeyValuePair<>("dictionaries[0].entries", output -> output.append(entries))));
+    HttpResponse response = httpClientWrapper.sendRequestWithBackoff("/v3/glossaries", content);
     checkResponse(response, false, false);
-    return jsonParser.parseMultilingualGlossaryInfo(response.getBody());
+    return rememberGlossary(jsonParser.parseMultilingualGlossaryInfo(response.getBody()));
   }
 
   /**
@@ -1120,21 +1476,77 @@ public class DeepLClient extends Translator {
       String entries,
       String entriesFormat)
       throws DeepLException, IllegalArgumentException, InterruptedException {
+    validateParameter("entries", entries);
+    return replaceGlossaryDictionaryInternal(
+        glossaryId,
+        sourceLanguageCode,
+        targetLanguageCode,
+        output -> output.append(entries),
+        entriesFormat);
+  }
+
+  /**
+   * Replaces the entries in the glossary with the specified ID for the given source and target
+   * languages, writing the entries directly into the request body in TSV format.
+   */
+  private MultilingualGlossaryDictionaryInfo replaceGlossaryDictionaryInternal(
+      String glossaryId,
+      String sourceLanguageCode,
+      String targetLanguageCode,
+      GlossaryEntries entries)
+      throws DeepLException, IllegalArgumentException, InterruptedException {
+    validateEntries(entries);
+    String contentHash = null;
+    if (glossarySnapshotCache != null) {
+      contentHash = GlossarySnapshotCache.contentHash(entries);
+      MultilingualGlossaryDictionaryInfo unchanged =
+          glossarySnapshotCache.getUnchanged(
+              glossaryId, sourceLanguageCode, targetLanguageCode, contentHash);
+      if (unchanged != null) {
+        return unchanged;
+      }
+    }
+    MultilingualGlossaryDictionaryInfo dictionaryInfo =
+        replaceGlossaryDictionaryInternal(
+            glossaryId, sourceLanguageCode, targetLanguageCode, entries::writeTsv, "tsv");
+    if (glossarySnapshotCache != null) {
+      glossarySnapshotCache.put(glossaryId, dictionaryInfo, contentHash);
+    }
+    return dictionaryInfo;
+  }
+
+  /**
+   * Replaces the entries in the glossary with the specified ID for the given source and target
+   * languages; the entries are URL-encoded while they are written to the request body.
+   */
+  private MultilingualGlossaryDictionaryInfo replaceGlossaryDictionaryInternal(
+      String glossaryId,
+      String sourceLanguageCode,
+      String targetLanguageCode,
+      HttpContent.FormValueWriter entries,
+      String entriesFormat)
+      throws DeepLException, IllegalArgumentException, InterruptedException {
     validateParameter("glossaryId", glossaryId);
     validateParameter("sourceLanguageCode", sourceLanguageCode);
     validateParameter("targetLanguageCode", targetLanguageCode);
-    validateParameter("entries", entries);
+    checkGlossaryLanguagesLocally(sourceLanguageCode, targetLanguageCode);
 
     ArrayList<KeyValuePair<String, String>> bodyParams = new ArrayList<>();
     bodyParams.add(new KeyValuePair<>("source_lang", sourceLanguageCode));
     bodyParams.add(new KeyValuePair<>("target_lang", targetLanguageCode));
-    bodyParams.add(new KeyValuePair<>("entries", entries));
     bodyParams.add(new KeyValuePair<>("entries_format", entriesFormat));
+    HttpContent content =
+        HttpContent.buildFormURLEncodedContent(
+            bodyParams, Collections.singletonList(new KeyValuePair<>("entries", entries)));
 
     String relativeUrl = String.format("/v3/glossaries/%s/dictionaries", glossaryId);
-    HttpResponse response = httpClientWrapper.sendPutRequestWithBackoff(relativeUrl, bodyParams);
+    HttpResponse response = httpClientWrapper.sendPutRequestWithBackoff(relativeUrl, content);
     checkResponse(response, false, true);
-    return jsonParser.parseMultilingualGlossaryDictionaryInfo(response.getBody());
+    MultilingualGlossaryDictionaryInfo glossaryDict =
+        jsonParser.parseMultilingualGlossaryDictionaryInfo(response.getBody());
+    rememberGlossaryDictionary(glossaryId, sourceLanguageCode, targetLanguageCode, glossaryDict);
+    forgetGlossarySnapshot(glossaryId, sourceLanguageCode, targetLanguageCode);
+    return glossaryDict;
   }
 
   /**
@@ -1148,18 +1560,55 @@ public class DeepLClient extends Translator {
       String entries,
       String entriesFormat)
       throws DeepLException, IllegalArgumentException, InterruptedException {
+    validateParameter("entries", entries);
+    return updateGlossaryDictionaryInternal(
+        glossaryId,
+        sourceLanguageCode,
+        targetLanguageCode,
+        output -> output.append(entries),
+        entriesFormat);
+  }
+
+  /**
+   * Updates the entries in the glossary with the specified ID for the given source and target
+   * languages, writing the entries directly into the request body in TSV format.
+   */
+  private MultilingualGlossaryInfo updateGlossaryDictionaryInternal(
+      String glossaryId,
+      String sourceLanguageCode,
+      String targetLanguageCode,
+      GlossaryEntries entries)
+      throws DeepLException, IllegalArgumentException, InterruptedException {
+    validateEntries(entries);
+    return updateGlossaryDictionaryInternal(
+        glossaryId, sourceLanguageCode, targetLanguageCode, entries::writeTsv, "tsv");
+  }
+
+  /**
+   * Updates the entries in the glossary with the specified ID for the given source and target
+   * languages; the entries are URL-encoded while they are written to the request body.
+   */
+  private MultilingualGlossaryInfo updateGlossaryDictionaryInternal(
+      String glossaryId,
+      String sourceLanguageCode,
+      String targetLanguageCode,
+      HttpContent.FormValueWriter entries,
+      String entriesFormat)
+      throws DeepLException, IllegalArgumentException, InterruptedException {
     validateParameter("glossaryId", glossaryId);
     validateParameter("sourceLanguageCode", sourceLanguageCode);
     validateParameter("targetLanguageCode", targetLanguageCode);
-    validateParameter("entries", entries);
+    checkGlossaryLanguagesLocally(sourceLanguageCode, targetLanguageCode);
 
-    ArrayList<KeyValuePair<String, String>> bodyParams =
-        createGlossaryDictionariesHttpParams(
+    HttpContent content =
+        createGlossaryDictionariesHttpContent(
             sourceLanguageCode, targetLanguageCode, entries, entriesFormat);
     String relativeUrl = String.format("/v3/glossaries/%s", glossaryId);
-    HttpResponse response = httpClientWrapper.sendPatchRequestWithBackoff(relativeUrl, bodyParams);
+    HttpResponse response = httpClientWrapper.sendPatchRequestWithBackoff(relativeUrl, content);
     checkResponse(response, false, true);
-    return jsonParser.parseMultilingualGlossaryInfo(response.getBody());
+    // The entries are merged into the dictionary, so its content is no longer known
+    forgetGlossarySnapshot(glossaryId, sourceLanguageCode, targetLanguageCode);
+    return rememberGlossary(jsonParser.parseMultilingualGlossaryInfo(response.getBody()));
   }
 
   /** Creates query string for the source and target languages */
@@ -1182,6 +1631,18 @@ public class DeepLClient extends Translator {
     }
   }
 
+  private static DeepLException unwrapFetchException(ExecutionException exception) {
+    Throwable cause = exception.getCause();
+    if (cause instanceof DeepLException) {
+      return (DeepLException) cause;
+    } else if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause;
+    } else if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return new DeepLException("Failed to retrieve glossary dictionary entries", cause);
+  }
+
   private void validateParameter(String paramName, String value) throws IllegalArgumentException {
     if (value == null || value.isEmpty()) {
       throw new IllegalArgumentException(
@@ -1189,6 +1650,46 @@ public class DeepLClient extends Translator {
     }
   }
 
+  private void validateEntries(GlossaryEntries entries) throws IllegalArgumentException {
+    if (entries == null || entries.isEmpty()) {
+      throw new IllegalArgumentException("Parameter entries must not be empty");
+    }
+  }
+
+  /** Records the synchronized entries in the snapshot cache, if one is used. */
+  private GlossarySyncResult recordGlossarySnapshot(
+      String glossaryId,
+      String sourceLanguageCode,
+      String targetLanguageCode,
+      GlossarySyncResult result,
+      @Nullable String contentHash) {
+    if (glossarySnapshotCache != null && contentHash != null) {
+      glossarySnapshotCache.put(
+          glossaryId,
+          new MultilingualGlossaryDictionaryInfo(
+              sourceLanguageCode, targetLanguageCode, result.getEntryCount()),
+          contentHash);
+    }
+    return result;
+  }
+
+  /** Removes the recorded snapshot of the glossary dictionary, if a snapshot cache is used. */
+  private void forgetGlossarySnapshot(
+      String glossaryId, String sourceLanguageCode, String targetLanguageCode) {
+    if (glossarySnapshotCache != null) {
+      glossarySnapshotCache.remove(glossaryId, sourceLanguageCode, targetLanguageCode);
+    }
+  }
+
+  private static boolean isSameLanguagePair(
+      MultilingualGlossaryDictionaryInfo dictionaryInfo,
+      MultilingualGlossaryDictionaryEntries glossaryDict) {
+    String sourceLanguageCode = glossaryDict.getSourceLanguageCode();
+    String targetLanguageCode = glossaryDict.getTargetLanguageCode();
+    return dictionaryInfo.getSourceLanguageCode().equalsIgnoreCase(sourceLanguageCode)
+        && dictionaryInfo.getTargetLanguageCode().equalsIgnoreCase(targetLanguageCode);
+  }
+
   protected static ArrayList<KeyValuePair<String, String>> createWriteHttpParams(
       List<String> texts, @Nullable String targetLang, @Nullable TextRephraseOptions options) {
     targetLang = LanguageCode.standardize(targetLang);
@@ -1214,6 +1715,35 @@ public class DeepLClient extends Translator {
     return params;
   }
 
+  protected static HttpContent createGlossaryHttpContent(
+      String name, List<MultilingualGlossaryDictionaryEntries> glossaryDicts) {
+    ArrayList<KeyValuePair<String, String>> bodyParams = new ArrayList<>();
+    ArrayList<KeyValuePair<String, HttpContent.FormValueWriter>> entriesParams = new ArrayList<>();
+    bodyParams.add(new KeyValuePair<>("name", name));
+    for (int i = 0; i < glossaryDicts.size(); i++) {
+      bodyParams.add(
+          new KeyValuePair<>(
+              String.format("dictionaries[%d].source_lang", i),
+              glossaryDicts.get(i).getSourceLanguageCode()));
+      bodyParams.add(
+          new KeyValuePair<>(
+              String.format("dictionaries[%d].target_lang", i),
+              glossaryDicts.get(i).getTargetLanguageCode()));
+      bodyParams.add(
+          new KeyValuePair<>(String.format("dictionaries[%d].entries_format", i), "tsv"));
+      entriesParams.add(
+          new KeyValuePair<>(
+              String.format("dictionaries[%d].entries", i),
+              glossaryDicts.get(i).getEntries()::writeTsv));
+    }
+    return HttpContent.buildFormURLEncodedContent(bodyParams, entriesParams);
+  }
+
+  /**
+   * @deprecated Use {@link #createGlossaryHttpContent} instead, which writes the entries directly
+   *     into the request body.
+   */
+  @Deprecated
   protected static ArrayList<KeyValuePair<String, String>> createGlossaryHttpParams(
       String name, List<MultilingualGlossaryDictionaryEntries> glossaryDicts) {
     ArrayList<KeyValuePair<String, String>> bodyParams = new ArrayList<>();
@@ -1237,6 +1767,26 @@ public class DeepLClient extends Translator {
     return bodyParams;
   }
 
+  protected static HttpContent createGlossaryDictionariesHttpContent(
+      String sourceLanguageCode,
+      String targetLanguageCode,
+      HttpContent.FormValueWriter entries,
+      String entriesFormat) {
+    ArrayList<KeyValuePair<String, String>> bodyParams = new ArrayList<>();
+    bodyParams.add(new KeyValuePair<>("dictionaries[0].source_lang", sourceLanguageCode));
+    bodyParams.add(new KeyValuePair<>("dictionaries[0].target_lang", targetLanguageCode));
+    bodyParams.add(new KeyValuePair<>("dictionaries[0].entries_format", entriesFormat));
+
+    return HttpContent.buildFormURLEncodedContent(
+        bodyParams,
+        Collections.singletonList(new KeyValuePair<>("dictionaries[0].entries", entries)));
+  }
+
+  /**
+   * @deprecated Use {@link #createGlossaryDictionariesHttpContent} instead, which writes the
+   *     entries directly into the request body.
+   */
+  @Deprecated
   protected static ArrayList<KeyValuePair<String, String>> createGlossaryDictionariesHttpParams(
       String sourceLanguageCode, String targetLanguageCode, String entries, String entriesFormat) {
     ArrayList<KeyValuePair<String, String>> bodyParams = new ArrayList<>();
@@ -8,6 +8,8 @@ import org.jetbrains.annotations.Nullable;
 /** {@inheritDoc} */
 @SuppressWarnings("deprecation")
 public class DeepLClientOptions extends TranslatorOptions {
+  @Nullable private GlossarySnapshotCache glossarySnapshotCache = null;
+
   /**
    * Set the version of the DeepL API to use. By default, this value is <code>
    * DeepLApiVersion.VERSION_2</code> and the most recent DeepL API version is used. Note that older
@@ -25,4 +27,22 @@ public class DeepLClientOptions extends TranslatorOptions {
   public @Nullable DeepLApiVersion getApiVersion() {
     return apiVersion;
   }
+
+  /**
+   * Set the cache of glossary dictionary snapshots. When set, replacing or synchronizing a
+   * multilingual glossary dictionary is skipped without sending any request if the entries have
+   * not changed since they were last uploaded. By default, no cache is used.
+   *
+   * @see GlossarySnapshotCache
+   */
+  public DeepLClientOptions setGlossarySnapshotCache(
+      @Nullable GlossarySnapshotCache glossarySnapshotCache) {
+    this.glossarySnapshotCache = glossarySnapshotCache;
+    return this;
+  }
+
+  /** Gets the current cache of glossary dictionary snapshots. */
+  public @Nullable GlossarySnapshotCache getGlossarySnapshotCache() {
+    return glossarySnapshotCache;
+  }
 }
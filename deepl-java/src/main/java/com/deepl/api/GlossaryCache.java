@@ -0,0 +1,152 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Client-side cache of glossary information, enabled using {@link
+ * TranslatorOptions#setGlossaryCacheTtl}. Glossaries are cached when they are created, listed or
+ * retrieved, so that {@link Translator#getGlossary} and {@link
+ * DeepLClient#getMultilingualGlossary} only send a request if the glossary is not cached or its
+ * time-to-live has elapsed. Glossaries that were not found or have been deleted are also cached,
+ * and retrieving them throws {@link GlossaryNotFoundException} without sending a request.
+ *
+ * <p>Changes made through the same client update the cache: updating a glossary caches the
+ * returned glossary, replacing or deleting a dictionary updates its entry count or removes it,
+ * and deleting a glossary caches it as not found. Glossaries that are not ready yet are not
+ * cached. If glossaries may be changed elsewhere, call {@link #invalidate} or {@link #clear}, or
+ * choose a time-to-live that bounds how long outdated information may be returned.
+ *
+ * @see Translator#getGlossaryCache()
+ */
+public class GlossaryCache {
+  private final long ttlNanos;
+  private final ConcurrentHashMap<String, Cached<GlossaryInfo>> glossaries =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Cached<MultilingualGlossaryInfo>>
+      multilingualGlossaries = new ConcurrentHashMap<>();
+
+  /** Cached glossary, or <code>null</code> value if the glossary does not exist. */
+  static class Cached<T> {
+    private final @Nullable T value;
+    private final long expiryNanos;
+
+    private Cached(@Nullable T value, long expiryNanos) {
+      this.value = value;
+      this.expiryNanos = expiryNanos;
+    }
+
+    /**
+     * @return The cached glossary.
+     * @throws GlossaryNotFoundException If the glossary is cached as not found.
+     */
+    T getOrThrow(String glossaryId) throws GlossaryNotFoundException {
+      if (value == null) {
+        throw new GlossaryNotFoundException(
+            String.format("Glossary not found, glossary %s is cached as not found", glossaryId));
+      }
+      return value;
+    }
+  }
+
+  GlossaryCache(Duration ttl) {
+    this.ttlNanos = ttl.toNanos();
+  }
+
+  /** Removes the cached information about the glossary with the given ID, if any. */
+  public void invalidate(String glossaryId) {
+    glossaries.remove(glossaryId);
+    multilingualGlossaries.remove(glossaryId);
+  }
+
+  /** Removes all cached glossary information. */
+  public void clear() {
+    glossaries.clear();
+    multilingualGlossaries.clear();
+  }
+
+  /** @return The cached glossary, or <code>null</code> if it is not cached or has expired. */
+  @Nullable
+  Cached<GlossaryInfo> getGlossary(String glossaryId) {
+    return getUnexpired(glossaries, glossaryId);
+  }
+
+  /** @return The cached glossary, or <code>null</code> if it is not cached or has expired. */
+  @Nullable
+  Cached<MultilingualGlossaryInfo> getMultilingualGlossary(String glossaryId) {
+    return getUnexpired(multilingualGlossaries, glossaryId);
+  }
+
+  void put(GlossaryInfo glossary) {
+    if (glossary.isReady()) {
+      glossaries.put(glossary.getGlossaryId(), new Cached<>(glossary, expiryNanos()));
+    } else {
+      glossaries.remove(glossary.getGlossaryId());
+    }
+  }
+
+  void put(MultilingualGlossaryInfo glossary) {
+    multilingualGlossaries.put(glossary.getGlossaryId(), new Cached<>(glossary, expiryNanos()));
+    // The v2 representation, for example its entry count, may have changed too
+    glossaries.remove(glossary.getGlossaryId());
+  }
+
+  void putNotFound(String glossaryId) {
+    long expiryNanos = expiryNanos();
+    glossaries.put(glossaryId, new Cached<>(null, expiryNanos));
+    multilingualGlossaries.put(glossaryId, new Cached<>(null, expiryNanos));
+  }
+
+  /**
+   * Returns the cached glossary with the given dictionary replaced, added or removed, without
+   * caching it.
+   *
+   * @param glossaryDict The new dictionary, or <code>null</code> if the dictionary was deleted.
+   * @return The updated glossary, or <code>null</code> if the glossary is not cached.
+   */
+  @Nullable
+  MultilingualGlossaryInfo withDictionary(
+      String glossaryId,
+      String sourceLanguageCode,
+      String targetLanguageCode,
+      @Nullable MultilingualGlossaryDictionaryInfo glossaryDict) {
+    Cached<MultilingualGlossaryInfo> cached = getMultilingualGlossary(glossaryId);
+    if (cached == null || cached.value == null) {
+      return null;
+    }
+    MultilingualGlossaryInfo glossary = cached.value;
+    List<MultilingualGlossaryDictionaryInfo> dictionaries = new ArrayList<>();
+    for (MultilingualGlossaryDictionaryInfo dictionary : glossary.getDictionaries()) {
+      if (!dictionary.getSourceLanguageCode().equalsIgnoreCase(sourceLanguageCode)
+          || !dictionary.getTargetLanguageCode().equalsIgnoreCase(targetLanguageCode)) {
+        dictionaries.add(dictionary);
+      }
+    }
+    if (glossaryDict != null) {
+      dictionaries.add(glossaryDict);
+    }
+    return new MultilingualGlossaryInfo(
+        glossary.getGlossaryId(), glossary.getName(), glossary.getCreationTime(), dictionaries);
+  }
+
+  private long expiryNanos() {
+    return System.nanoTime() + ttlNanos;
+  }
+
+  private static <T> @Nullable Cached<T> getUnexpired(
+      ConcurrentHashMap<String, Cached<T>> map, String glossaryId) {
+    Cached<T> cached = map.get(glossaryId);
+    if (cached == null) {
+      return null;
+    } else if (System.nanoTime() - cached.expiryNanos >= 0) {
+      map.remove(glossaryId, cached);
+      return null;
+    }
+    return cached;
+  }
+}
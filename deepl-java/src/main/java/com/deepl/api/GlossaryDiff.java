@@ -0,0 +1,86 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.util.*;
+
+/**
+ * Differences between the current entries of a glossary dictionary and the desired entries: the
+ * entries to add, the entries whose target term changed, and the source terms to remove.
+ */
+public class GlossaryDiff {
+  private final GlossaryEntries added = new GlossaryEntries();
+  private final GlossaryEntries changed = new GlossaryEntries();
+  private final List<String> removed = new ArrayList<>();
+  private final int unchangedCount;
+
+  /**
+   * Computes the differences that turn the current entries into the desired entries. Terms are
+   * compared exactly, including case and whitespace.
+   *
+   * @param current Entries currently in the glossary dictionary.
+   * @param desired Entries the glossary dictionary should contain.
+   */
+  public GlossaryDiff(Map<String, String> current, Map<String, String> desired) {
+    int unchanged = 0;
+    for (Map.Entry<String, String> entry : desired.entrySet()) {
+      String currentTarget = current.get(entry.getKey());
+      if (currentTarget == null) {
+        added.put(entry.getKey(), entry.getValue());
+      } else if (!currentTarget.equals(entry.getValue())) {
+        changed.put(entry.getKey(), entry.getValue());
+      } else {
+        unchanged++;
+      }
+    }
+    if (current.size() > unchanged + changed.size()) {
+      for (String sourceTerm : current.keySet()) {
+        if (!desired.containsKey(sourceTerm)) {
+          removed.add(sourceTerm);
+        }
+      }
+    }
+    this.unchangedCount = unchanged;
+  }
+
+  /** @return Entries whose source term is not in the current entries. */
+  public GlossaryEntries getAdded() {
+    return added;
+  }
+
+  /** @return Entries whose source term is in the current entries with a different target term. */
+  public GlossaryEntries getChanged() {
+    return changed;
+  }
+
+  /** @return Source terms in the current entries that are not in the desired entries. */
+  public List<String> getRemoved() {
+    return removed;
+  }
+
+  /** @return Number of entries that are identical in the current and desired entries. */
+  public int getUnchangedCount() {
+    return unchangedCount;
+  }
+
+  /** @return <code>true</code> if the current entries already equal the desired entries. */
+  public boolean isEmpty() {
+    return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+  }
+
+  /** @return New GlossaryEntries containing the added and changed entries. */
+  public GlossaryEntries getAddedAndChanged() {
+    GlossaryEntries result = new GlossaryEntries();
+    result.putAll(added);
+    result.putAll(changed);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "GlossaryDiff{added=%d, changed=%d, removed=%d, unchanged=%d}",
+        added.size(), changed.size(), removed.size(), unchangedCount);
+  }
+}
@@ -4,63 +4,110 @@
 package com.deepl.api;
 
 import com.deepl.api.utils.*;
+import java.io.*;
 import java.util.*;
 import org.jetbrains.annotations.*;
 
-/** Stores the entries of a glossary. */
+/**
+ * Stores the entries of a glossary.
+ *
+ * <p>GlossaryEntries is not thread-safe. Entries passed to a request are encoded while the request
+ * is written, so they must not be modified until the call returns; if they are, the request fails
+ * with a {@link ConnectionException} instead of sending a partial body.
+ */
 public class GlossaryEntries implements Map<String, String> {
-  private final Map<String, String> entries = new HashMap<>();
+  /**
+   * Bit masks of invalid characters, one per block of 64 characters: C0 and C1 control characters,
+   * and the Unicode line and paragraph separators.
+   */
+  private static final long[] INVALID_CHAR_MASKS = new long[(Character.MAX_VALUE + 1) >>> 6];
+
+  static {
+    INVALID_CHAR_MASKS[0] = 0xFFFFFFFFL; // U+0000 to U+001F
+    INVALID_CHAR_MASKS[2] = 0xFFFFFFFFL; // U+0080 to U+009F
+    INVALID_CHAR_MASKS['\u2028' >>> 6] = (1L << ('\u2028' & 63)) | (1L << ('\u2029' & 63));
+  }
+
+  private final Map<String, String> entries;
 
   /** Construct an empty GlossaryEntries. */
-  public GlossaryEntries() {}
+  public GlossaryEntries() {
+    this.entries = new HashMap<>();
+  }
 
   /** Initializes a new GlossaryEntries with the entry pairs in the given map. */
   public GlossaryEntries(Map<String, String> entryPairs) {
+    this();
     this.putAll(entryPairs);
   }
 
+  private GlossaryEntries(CompactStringMap entries) {
+    this.entries = entries;
+  }
+
+  /**
+   * Constructs an empty GlossaryEntries with a compact backing store, intended for very large
+   * glossaries that are kept in memory. All terms are packed into a single byte array and indexed
+   * by primitive int arrays, so typical glossaries need less than half the memory of the default
+   * store. In exchange, terms are decoded into new strings each time they are returned, and the
+   * entries returned by {@link #entrySet()} do not support {@link Entry#setValue}.
+   */
+  public static GlossaryEntries compact() {
+    return new GlossaryEntries(new CompactStringMap());
+  }
+
   /**
    * Converts the given tab-separated-value (TSV) string of glossary entries into a new
    * GlossaryEntries object. Whitespace is trimmed from the start and end of each term.
    */
   public static GlossaryEntries fromTsv(String tsv) {
-    GlossaryEntries result = new GlossaryEntries();
-    String[] lines = tsv.split("(\\r\\n|\\n|\\r)");
-    int lineNumber = 0;
-    for (String line : lines) {
-      ++lineNumber;
-      String lineTrimmed = trimWhitespace(line);
-      if (lineTrimmed.isEmpty()) {
-        continue;
-      }
-      String[] splitLine = lineTrimmed.split("\\t");
-      if (splitLine.length < 2) {
-        throw new IllegalArgumentException(
-            String.format(
-                "Entry on line %d does not contain a term separator: %s", lineNumber, lineTrimmed));
-      } else if (splitLine.length > 2) {
-        throw new IllegalArgumentException(
-            String.format(
-                "Entry on line %d contains more than one term separator: %s", lineNumber, line));
-      } else {
-        String sourceTerm = trimWhitespace(splitLine[0]);
-        String targetTerm = trimWhitespace(splitLine[1]);
-        validateGlossaryTerm(sourceTerm);
-        validateGlossaryTerm(targetTerm);
-        if (result.containsKey(sourceTerm)) {
-          throw new IllegalArgumentException(
-              String.format(
-                  "Entry on line %d duplicates source term '%s'", lineNumber, sourceTerm));
-        }
-        result.put(sourceTerm, targetTerm);
-      }
+    try {
+      return GlossaryEntriesParser.parseTsv(new StringReader(tsv), "TSV string");
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
     }
+  }
 
-    if (result.entries.isEmpty()) {
-      throw new IllegalArgumentException("TSV string contains no valid entries");
+  /**
+   * Reads tab-separated-value (TSV) glossary entries from the given reader into a new
+   * GlossaryEntries object, in a single pass without reading the whole input into memory.
+   * Whitespace is trimmed from the start and end of each term. The reader is not closed.
+   *
+   * @param reader Reader providing the TSV content.
+   * @return GlossaryEntries containing the entries read.
+   * @throws IOException If an I/O error occurs while reading.
+   * @throws IllegalArgumentException If the content contains invalid entries.
+   */
+  public static GlossaryEntries fromTsv(Reader reader) throws IOException {
+    return GlossaryEntriesParser.parseTsv(reader, "TSV");
+  }
+
+  /**
+   * Converts the given comma-separated-value (CSV) string of glossary entries into a new
+   * GlossaryEntries object. Each line contains the source and target term, optionally followed by
+   * the source and target language, which are ignored. Terms may be enclosed in double quotes.
+   */
+  public static GlossaryEntries fromCsv(String csv) {
+    try {
+      return fromCsv(new StringReader(csv));
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
     }
+  }
 
-    return result;
+  /**
+   * Reads comma-separated-value (CSV) glossary entries from the given reader into a new
+   * GlossaryEntries object, in a single pass without reading the whole input into memory. The
+   * reader is not closed.
+   *
+   * @param reader Reader providing the CSV content.
+   * @return GlossaryEntries containing the entries read.
+   * @throws IOException If an I/O error occurs while reading.
+   * @throws IllegalArgumentException If the content contains invalid entries.
+   * @see GlossaryEntries#fromCsv(String)
+   */
+  public static GlossaryEntries fromCsv(Reader reader) throws IOException {
+    return GlossaryEntriesParser.parseCsv(reader);
   }
 
   @Override
@@ -111,6 +158,11 @@ public class GlossaryEntries implements Map<String, String> {
     return entries.put(sourceTerm, targetTerm);
   }
 
+  /** Adds the given entry without validating the terms, which the caller has already checked. */
+  String putValidated(String sourceTerm, String targetTerm) {
+    return entries.put(sourceTerm, targetTerm);
+  }
+
   @Override
   public String remove(Object key) {
     return entries.remove(key);
@@ -155,19 +207,87 @@ public class GlossaryEntries implements Map<String, String> {
    * @param term String containing term to check.
    */
   public static void validateGlossaryTerm(String term) throws IllegalArgumentException {
+    String error = describeInvalidTerm(term);
+    if (error != null) {
+      throw new IllegalArgumentException(error);
+    }
+  }
+
+  /**
+   * Checks the validity of all terms in the given entries, using the same rules as {@link
+   * #validateGlossaryTerm}. Unlike adding the entries one by one, this does not stop at the first
+   * invalid term, and is faster for valid entries.
+   *
+   * @param entries Entries to check, for example before creating a glossary from them.
+   * @return Report listing all invalid terms.
+   */
+  public static GlossaryValidationReport validate(Map<String, String> entries) {
+    GlossaryValidationReport report = new GlossaryValidationReport();
+    for (Map.Entry<String, String> entryPair : entries.entrySet()) {
+      String sourceTerm = entryPair.getKey();
+      String targetTerm = entryPair.getValue();
+      boolean sourceValid = isValidTerm(sourceTerm);
+      boolean targetValid = isValidTerm(targetTerm);
+      if (sourceValid && targetValid) {
+        continue;
+      }
+      report.addInvalidEntry(
+          sourceTerm,
+          sourceValid ? null : describeInvalidTerm(sourceTerm),
+          targetValid ? null : describeInvalidTerm(targetTerm));
+    }
+    return report;
+  }
+
+  /** Returns whether the term is valid, without allocating. */
+  static boolean isValidTerm(@Nullable String term) {
+    if (term == null) {
+      return false;
+    }
+    int left = 0;
+    int right = term.length() - 1;
+    while (left <= right && isTrimmedWhitespace(term.charAt(left))) {
+      left++;
+    }
+    if (left > right) {
+      return false;
+    }
+    while (isTrimmedWhitespace(term.charAt(right))) {
+      right--;
+    }
+    // Combine the mask bits of all characters without branching, and check them once at the end;
+    // shifting a long by a char uses its lowest 6 bits, the index within the block
+    long invalid = 0;
+    for (int i = left; i <= right; i++) {
+      char ch = term.charAt(i);
+      invalid |= INVALID_CHAR_MASKS[ch >>> 6] >>> ch;
+    }
+    return (invalid & 1) == 0;
+  }
+
+  /** Returns the reason the term is invalid, or <code>null</code> if it is valid. */
+  private static @Nullable String describeInvalidTerm(@Nullable String term) {
+    if (isValidTerm(term)) {
+      return null;
+    } else if (term == null) {
+      return "Term must not be null";
+    }
     String termTrimmed = trimWhitespace(term);
     if (termTrimmed.isEmpty()) {
-      throw new IllegalArgumentException(
-          String.format("Term '%s' contains no non-whitespace characters", term));
+      return String.format("Term '%s' contains no non-whitespace characters", term);
     }
     for (int i = 0; i < termTrimmed.length(); ++i) {
       char ch = termTrimmed.charAt(i);
       if ((ch <= 31) || (128 <= ch && ch <= 159) || ch == '\u2028' || ch == '\u2029') {
-        throw new IllegalArgumentException(
-            String.format(
-                "Term '%s' contains invalid character: '%c' (U+%04d)", term, ch, (int) ch));
+        return String.format(
+            "Term '%s' contains invalid character: '%c' (U+%04d)", term, ch, (int) ch);
       }
     }
+    return null;
+  }
+
+  private static boolean isTrimmedWhitespace(char ch) {
+    return ch == ' ' || ch == '\t';
   }
 
   /**
@@ -178,13 +298,30 @@ public class GlossaryEntries implements Map<String, String> {
    */
   public String toTsv() {
     StringBuilder builder = new StringBuilder();
+    try {
+      writeTsv(builder);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Writes the glossary entries in tab-separated-value (TSV) format to the given output, without
+   * building the complete TSV string first.
+   *
+   * @param output Destination of the entries, for example a {@link Writer}.
+   * @throws IOException If an I/O error occurs while writing to the output.
+   */
+  public void writeTsv(Appendable output) throws IOException {
+    boolean first = true;
     for (Map.Entry<String, String> entryPair : entries.entrySet()) {
-      if (builder.length() > 0) {
-        builder.append("\n");
+      if (!first) {
+        output.append('\n');
       }
-      builder.append(entryPair.getKey()).append("\t").append(entryPair.getValue());
+      first = false;
+      output.append(entryPair.getKey()).append('\t').append(entryPair.getValue());
     }
-    return builder.toString();
   }
 
   /**
@@ -0,0 +1,281 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Parses glossary entries in TSV or CSV format in a single pass over a {@link Reader}. Only the
+ * current line is buffered, so memory use is proportional to the parsed entries rather than the
+ * input size.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class GlossaryEntriesParser {
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Reader reader;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int position = 0;
+  private int limit = 0;
+  private int lineNumber = 1;
+  private int entryLineNumber = 1;
+  private final StringBuilder current = new StringBuilder();
+
+  private GlossaryEntriesParser(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Parses tab-separated-value (TSV) glossary entries, one entry per line. Whitespace is trimmed
+   * from the start and end of each term, and empty lines are ignored.
+   *
+   * @param inputName Name of the input used in the error message if it contains no entries.
+   */
+  static GlossaryEntries parseTsv(Reader reader, String inputName) throws IOException {
+    GlossaryEntriesParser parser = new GlossaryEntriesParser(reader);
+    GlossaryEntries result = new GlossaryEntries();
+    while (parser.readLine()) {
+      parser.addTsvEntry(result);
+    }
+    if (result.isEmpty()) {
+      throw new IllegalArgumentException(inputName + " contains no valid entries");
+    }
+    return result;
+  }
+
+  /**
+   * Parses comma-separated-value (CSV) glossary entries, one entry per record. Each record contains
+   * the source and target term, optionally followed by the source and target language, which are
+   * ignored. Terms may be enclosed in double quotes, with double quotes inside quoted terms escaped
+   * by doubling them. Whitespace is trimmed from the start and end of unquoted terms, and empty
+   * lines are ignored.
+   */
+  static GlossaryEntries parseCsv(Reader reader) throws IOException {
+    GlossaryEntriesParser parser = new GlossaryEntriesParser(reader);
+    GlossaryEntries result = new GlossaryEntries();
+    List<String> fields = new ArrayList<>(4);
+    while (parser.readCsvRecord(fields)) {
+      parser.addCsvEntry(result, fields);
+    }
+    if (result.isEmpty()) {
+      throw new IllegalArgumentException("CSV contains no valid entries");
+    }
+    return result;
+  }
+
+  private void addTsvEntry(GlossaryEntries result) {
+    int start = skipWhitespace(current, 0, current.length());
+    if (start == current.length()) {
+      return;
+    }
+    int end = trimEnd(current, start, current.length());
+    int separator = indexOfTab(current, start, end);
+    if (separator < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Entry on line %d does not contain a term separator: %s",
+              entryLineNumber, current.substring(start, end)));
+    } else if (indexOfTab(current, separator + 1, end) >= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Entry on line %d contains more than one term separator: %s",
+              entryLineNumber, current));
+    }
+    String sourceTerm = trimmedSubstring(current, start, separator);
+    String targetTerm = trimmedSubstring(current, separator + 1, end);
+    addEntry(result, sourceTerm, targetTerm);
+  }
+
+  private void addCsvEntry(GlossaryEntries result, List<String> fields) {
+    if (fields.size() == 1 && fields.get(0).isEmpty()) {
+      return;
+    }
+    if (fields.size() == 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Entry on line %d does not contain a term separator: %s",
+              entryLineNumber, fields.get(0)));
+    } else if (fields.size() != 2 && fields.size() != 4) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Entry on line %d contains %d fields, expected source and target term, optionally "
+                  + "followed by source and target language",
+              entryLineNumber, fields.size()));
+    }
+    addEntry(result, fields.get(0), fields.get(1));
+  }
+
+  private void addEntry(GlossaryEntries result, String sourceTerm, String targetTerm) {
+    GlossaryEntries.validateGlossaryTerm(sourceTerm);
+    GlossaryEntries.validateGlossaryTerm(targetTerm);
+    if (result.containsKey(sourceTerm)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Entry on line %d duplicates source term '%s'", entryLineNumber, sourceTerm));
+    }
+    result.putValidated(sourceTerm, targetTerm);
+  }
+
+  /**
+   * Reads the next line into {@link #current}, excluding the line terminator.
+   *
+   * @return <code>false</code> if the end of input was reached before any character was read.
+   */
+  private boolean readLine() throws IOException {
+    current.setLength(0);
+    int ch = read();
+    if (ch == -1) {
+      return false;
+    }
+    entryLineNumber = lineNumber;
+    while (!isLineEnd(ch)) {
+      current.append((char) ch);
+      ch = read();
+    }
+    endLine(ch);
+    return true;
+  }
+
+  /**
+   * Reads the next CSV record into the given list of fields. Quoted fields may span several lines.
+   *
+   * @return <code>false</code> if the end of input was reached before any character was read.
+   */
+  private boolean readCsvRecord(List<String> fields) throws IOException {
+    fields.clear();
+    int ch = read();
+    if (ch == -1) {
+      return false;
+    }
+    entryLineNumber = lineNumber;
+    while (true) {
+      current.setLength(0);
+      while (isWhitespace(ch)) {
+        current.append((char) ch);
+        ch = read();
+      }
+      if (ch == '"') {
+        current.setLength(0);
+        readQuotedField();
+        fields.add(current.toString());
+        ch = read();
+        while (isWhitespace(ch)) {
+          ch = read();
+        }
+        if (ch != ',' && !isLineEnd(ch)) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "Entry on line %d contains characters after a quoted term", entryLineNumber));
+        }
+      } else {
+        while (ch != ',' && !isLineEnd(ch)) {
+          current.append((char) ch);
+          ch = read();
+        }
+        fields.add(trimmedSubstring(current, 0, current.length()));
+      }
+      if (ch != ',') {
+        endLine(ch);
+        return true;
+      }
+      ch = read();
+    }
+  }
+
+  /** Reads a quoted field into {@link #current}, after the opening quote has been read. */
+  private void readQuotedField() throws IOException {
+    while (true) {
+      int ch = read();
+      if (ch == -1) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Entry on line %d contains a quoted term without closing quote",
+                entryLineNumber));
+      } else if (ch == '"') {
+        if (peek() != '"') {
+          return;
+        }
+        read();
+      } else if (ch == '\n' || (ch == '\r' && peek() != '\n')) {
+        ++lineNumber;
+      }
+      current.append((char) ch);
+    }
+  }
+
+  /**
+   * Consumes the remainder of a line terminator or end of input, treating "\r\n" as a single
+   * terminator.
+   */
+  private void endLine(int ch) throws IOException {
+    if (ch == '\r' && peek() == '\n') {
+      read();
+    }
+    ++lineNumber;
+  }
+
+  private int read() throws IOException {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    return buffer[position++];
+  }
+
+  private int peek() throws IOException {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    return buffer[position];
+  }
+
+  private boolean fill() throws IOException {
+    int count = reader.read(buffer, 0, buffer.length);
+    while (count == 0) {
+      count = reader.read(buffer, 0, buffer.length);
+    }
+    position = 0;
+    limit = Math.max(count, 0);
+    return count > 0;
+  }
+
+  private static int indexOfTab(CharSequence chars, int start, int end) {
+    for (int i = start; i < end; ++i) {
+      if (chars.charAt(i) == '\t') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int skipWhitespace(CharSequence chars, int start, int end) {
+    while (start < end && isWhitespace(chars.charAt(start))) {
+      ++start;
+    }
+    return start;
+  }
+
+  private static int trimEnd(CharSequence chars, int start, int end) {
+    while (end > start && isWhitespace(chars.charAt(end - 1))) {
+      --end;
+    }
+    return end;
+  }
+
+  private static String trimmedSubstring(StringBuilder chars, int start, int end) {
+    start = skipWhitespace(chars, start, end);
+    end = trimEnd(chars, start, end);
+    return chars.substring(start, end);
+  }
+
+  private static boolean isLineEnd(int ch) {
+    return ch == -1 || ch == '\n' || ch == '\r';
+  }
+
+  /** Matches the whitespace trimmed by {@link GlossaryEntries}: spaces and tabs. */
+  private static boolean isWhitespace(int ch) {
+    return ch == ' ' || ch == '\t';
+  }
+}
@@ -4,6 +4,7 @@
 package com.deepl.api;
 
 import com.google.gson.annotations.*;
+import java.util.Objects;
 
 /**
  * Information about a language pair supported for glossaries.
@@ -37,4 +38,19 @@ public class GlossaryLanguagePair {
   public String getTargetLanguage() {
     return targetLang;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null) return false;
+    if (getClass() != o.getClass()) return false;
+    GlossaryLanguagePair pair = (GlossaryLanguagePair) o;
+    return Objects.equals(pair.sourceLang, sourceLang)
+        && Objects.equals(pair.targetLang, targetLang);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(sourceLang, targetLang);
+  }
 }
@@ -0,0 +1,247 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index from glossary ID and language pair to a content hash and entry count of the entries last
+ * uploaded for that glossary dictionary. When set using {@link
+ * DeepLClientOptions#setGlossarySnapshotCache}, {@link DeepLClient} skips replacing or
+ * synchronizing glossary dictionaries whose entries have not changed, without sending any
+ * request.
+ *
+ * <p>The cache can be persisted to a file, so that unchanged glossaries are also skipped after a
+ * restart. It assumes glossaries are only modified through clients using the same cache; if a
+ * glossary may have been modified elsewhere, call {@link #remove(String)} or {@link #clear()}.
+ *
+ * <p>The cache is only an optimization, so failing to write the file does not fail the API call
+ * that changed it: all snapshots are discarded instead, and the file is deleted if possible, so
+ * that the next uploads are sent and recorded afresh.
+ */
+public class GlossarySnapshotCache {
+  private final @Nullable Path file;
+  private final ConcurrentHashMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+  /** Serializes file writes; a lock rather than synchronized, so that virtual threads unmount. */
+  private final ReentrantLock saveLock = new ReentrantLock();
+
+  private static class Snapshot {
+    private final String glossaryId;
+    private final String sourceLanguageCode;
+    private final String targetLanguageCode;
+    private final String contentHash;
+    private final long entryCount;
+
+    private Snapshot(
+        String glossaryId,
+        String sourceLanguageCode,
+        String targetLanguageCode,
+        String contentHash,
+        long entryCount) {
+      this.glossaryId = glossaryId;
+      this.sourceLanguageCode = sourceLanguageCode;
+      this.targetLanguageCode = targetLanguageCode;
+      this.contentHash = contentHash;
+      this.entryCount = entryCount;
+    }
+  }
+
+  /** Creates an empty cache that is kept in memory only. */
+  public GlossarySnapshotCache() {
+    this.file = null;
+  }
+
+  /**
+   * Creates a cache persisted to the given file. Existing snapshots are loaded from the file if it
+   * exists, and the file is rewritten whenever the cache changes.
+   *
+   * @param file Path of the file storing the snapshots.
+   * @throws IOException If the file exists but could not be read.
+   */
+  public GlossarySnapshotCache(Path file) throws IOException {
+    this.file = file;
+    if (Files.exists(file)) {
+      for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+        String[] fields = line.split("\t");
+        if (fields.length != 5) {
+          continue;
+        }
+        try {
+          Snapshot snapshot =
+              new Snapshot(fields[0], fields[1], fields[2], fields[3], Long.parseLong(fields[4]));
+          snapshots.put(key(fields[0], fields[1], fields[2]), snapshot);
+        } catch (NumberFormatException ignored) {
+          // Skip malformed lines, the snapshot is recreated on the next upload
+        }
+      }
+    }
+  }
+
+  /**
+   * Computes a hash of the given glossary entries that does not depend on their order.
+   *
+   * @param entries Glossary entries to hash.
+   * @return Hexadecimal SHA-256 hash of the entries sorted by source term.
+   */
+  public static String contentHash(Map<String, String> entries) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("SHA-256 is not available", exception);
+    }
+    String[] sourceTerms = entries.keySet().toArray(new String[0]);
+    Arrays.sort(sourceTerms);
+    for (String sourceTerm : sourceTerms) {
+      // Tabs and newlines are not allowed in terms, so they separate terms unambiguously
+      digest.update(sourceTerm.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) '\t');
+      digest.update(entries.get(sourceTerm).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) '\n');
+    }
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest.digest()) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  /**
+   * Returns the recorded glossary dictionary if its entries had the given content hash when last
+   * uploaded.
+   *
+   * @param glossaryId ID of the glossary containing the dictionary.
+   * @param sourceLanguageCode Language code of the source terms language.
+   * @param targetLanguageCode Language code of the target terms language.
+   * @param contentHash Content hash of the entries, see {@link #contentHash}.
+   * @return The recorded dictionary, or <code>null</code> if no snapshot with the given content
+   *     hash is recorded.
+   */
+  public @Nullable MultilingualGlossaryDictionaryInfo getUnchanged(
+      String glossaryId, String sourceLanguageCode, String targetLanguageCode, String contentHash) {
+    Snapshot snapshot = snapshots.get(key(glossaryId, sourceLanguageCode, targetLanguageCode));
+    if (snapshot == null || !snapshot.contentHash.equals(contentHash)) {
+      return null;
+    }
+    return new MultilingualGlossaryDictionaryInfo(
+        snapshot.sourceLanguageCode, snapshot.targetLanguageCode, snapshot.entryCount);
+  }
+
+  /**
+   * Records the content hash of the entries uploaded for a glossary dictionary.
+   *
+   * @param glossaryId ID of the glossary containing the dictionary.
+   * @param glossaryDict The glossary dictionary as returned by the DeepL API.
+   * @param contentHash Content hash of the entries, see {@link #contentHash}.
+   */
+  public void put(
+      String glossaryId, MultilingualGlossaryDictionaryInfo glossaryDict, String contentHash) {
+    Snapshot snapshot =
+        new Snapshot(
+            glossaryId,
+            glossaryDict.getSourceLanguageCode(),
+            glossaryDict.getTargetLanguageCode(),
+            contentHash,
+            glossaryDict.getEntryCount());
+    String key =
+        key(glossaryId, glossaryDict.getSourceLanguageCode(), glossaryDict.getTargetLanguageCode());
+    Snapshot previous = snapshots.put(key, snapshot);
+    if (previous == null
+        || !previous.contentHash.equals(contentHash)
+        || previous.entryCount != snapshot.entryCount) {
+      save();
+    }
+  }
+
+  /** Removes the snapshot of the specified glossary dictionary. */
+  public void remove(String glossaryId, String sourceLanguageCode, String targetLanguageCode) {
+    if (snapshots.remove(key(glossaryId, sourceLanguageCode, targetLanguageCode)) != null) {
+      save();
+    }
+  }
+
+  /** Removes the snapshots of all dictionaries in the specified glossary. */
+  public void remove(String glossaryId) {
+    if (snapshots.values().removeIf(snapshot -> snapshot.glossaryId.equals(glossaryId))) {
+      save();
+    }
+  }
+
+  /** Removes all snapshots. */
+  public void clear() {
+    snapshots.clear();
+    save();
+  }
+
+  /**
+   * Rewrites the cache file, replacing it atomically where the file system supports it, or
+   * discards all snapshots if the file cannot be written.
+   */
+  private void save() {
+    if (file == null) {
+      return;
+    }
+    saveLock.lock();
+    try {
+      writeFile(file);
+    } catch (IOException exception) {
+      // Neither the snapshots in memory nor the file may be trusted after a partial update
+      snapshots.clear();
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException ignored) {
+        // The outdated file remains, its snapshots are replaced by the next successful write
+      }
+    } finally {
+      saveLock.unlock();
+    }
+  }
+
+  private void writeFile(Path file) throws IOException {
+    StringBuilder content = new StringBuilder();
+    for (Snapshot snapshot : snapshots.values()) {
+      content
+          .append(snapshot.glossaryId)
+          .append('\t')
+          .append(snapshot.sourceLanguageCode)
+          .append('\t')
+          .append(snapshot.targetLanguageCode)
+          .append('\t')
+          .append(snapshot.contentHash)
+          .append('\t')
+          .append(snapshot.entryCount)
+          .append('\n');
+    }
+    Path directory = file.toAbsolutePath().getParent();
+    Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      Files.write(temporary, content.toString().getBytes(StandardCharsets.UTF_8));
+      try {
+        Files.move(
+            temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException exception) {
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private static String key(
+      String glossaryId, String sourceLanguageCode, String targetLanguageCode) {
+    return glossaryId
+        + '\t'
+        + sourceLanguageCode.toLowerCase(Locale.ENGLISH)
+        + '\t'
+        + targetLanguageCode.toLowerCase(Locale.ENGLISH);
+  }
+}
@@ -0,0 +1,50 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+/**
+ * Result of {@link DeepLClient#syncMultilingualGlossaryDictionary}, describing the operation used
+ * to bring the glossary dictionary up to date and the differences that were applied.
+ */
+public class GlossarySyncResult {
+  /** Operation sent to the DeepL API to synchronize a glossary dictionary. */
+  public enum Operation {
+    /** The dictionary already contained the desired entries, no request was sent. */
+    None,
+
+    /** Only the added and changed entries were sent, and merged into the dictionary. */
+    Update,
+
+    /** All entries were sent, replacing the dictionary, because entries had to be removed. */
+    Replace,
+
+    /** The dictionary was deleted, because no entries are desired. */
+    Delete,
+  }
+
+  private final Operation operation;
+  private final GlossaryDiff diff;
+  private final long entryCount;
+
+  GlossarySyncResult(Operation operation, GlossaryDiff diff, long entryCount) {
+    this.operation = operation;
+    this.diff = diff;
+    this.entryCount = entryCount;
+  }
+
+  /** @return The operation sent to the DeepL API. */
+  public Operation getOperation() {
+    return operation;
+  }
+
+  /** @return Differences between the previous and the desired entries. */
+  public GlossaryDiff getDiff() {
+    return diff;
+  }
+
+  /** @return Number of entries in the dictionary after synchronizing. */
+  public long getEntryCount() {
+    return entryCount;
+  }
+}
@@ -0,0 +1,243 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.util.*;
+
+/**
+ * Finds glossary source terms in texts, to decide which texts need a glossary when translating.
+ * For example, texts without any source term of a glossary can be translated in a separate request
+ * without the glossary.
+ *
+ * <p>The source terms are compiled into an Aho-Corasick automaton, so each text is scanned once in
+ * time linear in its length, regardless of the number of terms. Terms are matched anywhere in the
+ * text, also inside longer words, and by default ignoring case, so that a text is only reported
+ * as not containing any term if the glossary cannot apply to it. Note that this does not detect
+ * inflected forms of terms that differ from the source term other than by a suffix.
+ *
+ * <p>Instances are immutable and may be shared between threads.
+ */
+public class GlossaryTermMatcher {
+  private final String[] terms;
+  private final boolean ignoreCase;
+
+  /** Hash table of trie edges; keys are node index shifted left by 16 bits plus the character. */
+  private final long[] edgeKeys;
+
+  private final int[] edgeTargets;
+  private final int edgeShift;
+
+  /** Per-node arrays, indexed by node; node 0 is the root. */
+  private final int[] failureLinks;
+
+  /** Index of the term ending at the node, or -1. */
+  private final int[] nodeTerms;
+
+  /** Nearest node along the failure links at which a term ends, or -1. */
+  private final int[] outputLinks;
+
+  /** Whether a term ends at the node or at any node along its failure links. */
+  private final boolean[] matchingNodes;
+
+  /**
+   * Creates a matcher for the given source terms that ignores case.
+   *
+   * @param sourceTerms Source terms to find, for example the keys of {@link GlossaryEntries}.
+   */
+  public GlossaryTermMatcher(Iterable<String> sourceTerms) {
+    this(sourceTerms, true);
+  }
+
+  /**
+   * Creates a matcher for the given source terms.
+   *
+   * @param sourceTerms Source terms to find, for example the keys of {@link GlossaryEntries}.
+   * @param ignoreCase If <code>true</code>, terms are matched regardless of case, comparing each
+   *     character separately.
+   */
+  public GlossaryTermMatcher(Iterable<String> sourceTerms, boolean ignoreCase) {
+    this.ignoreCase = ignoreCase;
+    List<String> termList = new ArrayList<>();
+    long nodeCapacity = 1;
+    for (String term : sourceTerms) {
+      if (term != null && !term.isEmpty()) {
+        termList.add(term);
+        nodeCapacity += term.length();
+      }
+    }
+    if (nodeCapacity > Integer.MAX_VALUE / 4) {
+      throw new IllegalArgumentException("Too many glossary terms");
+    }
+    this.terms = termList.toArray(new String[0]);
+
+    int edgeCapacity = Integer.highestOneBit((int) nodeCapacity) * 4;
+    this.edgeKeys = new long[edgeCapacity];
+    this.edgeTargets = new int[edgeCapacity];
+    this.edgeShift = 64 - Integer.numberOfTrailingZeros(edgeCapacity);
+
+    // Build the trie, keeping the children of each node as a linked list for the traversal below
+    int[] nodeTermsBuilder = new int[(int) nodeCapacity];
+    int[] firstChildren = new int[(int) nodeCapacity];
+    int[] nextSiblings = new int[(int) nodeCapacity];
+    char[] nodeChars = new char[(int) nodeCapacity];
+    Arrays.fill(nodeTermsBuilder, -1);
+    int nodeCount = 1;
+    for (int termIndex = 0; termIndex < terms.length; termIndex++) {
+      String term = terms[termIndex];
+      int node = 0;
+      for (int i = 0; i < term.length(); i++) {
+        char c = fold(term.charAt(i));
+        int child = getChild(node, c);
+        if (child < 0) {
+          child = nodeCount++;
+          putChild(node, c, child);
+          nodeChars[child] = c;
+          nextSiblings[child] = firstChildren[node];
+          firstChildren[node] = child;
+        }
+        node = child;
+      }
+      if (nodeTermsBuilder[node] < 0) {
+        nodeTermsBuilder[node] = termIndex;
+      }
+    }
+
+    // Compute failure links breadth-first, so that the links of shorter prefixes are known
+    this.nodeTerms = Arrays.copyOf(nodeTermsBuilder, nodeCount);
+    this.failureLinks = new int[nodeCount];
+    this.outputLinks = new int[nodeCount];
+    this.matchingNodes = new boolean[nodeCount];
+    outputLinks[0] = -1;
+    int[] queue = new int[nodeCount];
+    int queueEnd = 0;
+    for (int child = firstChildren[0]; child != 0; child = nextSiblings[child]) {
+      queue[queueEnd++] = child;
+    }
+    for (int queueStart = 0; queueStart < queueEnd; queueStart++) {
+      int node = queue[queueStart];
+      int failure = failureLinks[node];
+      outputLinks[node] = nodeTerms[failure] >= 0 ? failure : outputLinks[failure];
+      matchingNodes[node] = nodeTerms[node] >= 0 || matchingNodes[failure];
+      for (int child = firstChildren[node]; child != 0; child = nextSiblings[child]) {
+        failureLinks[child] = step(failure, nodeChars[child]);
+        queue[queueEnd++] = child;
+      }
+    }
+  }
+
+  /** @return Number of non-empty source terms the matcher was created with. */
+  public int getTermCount() {
+    return terms.length;
+  }
+
+  /**
+   * Checks whether the text contains any of the source terms. The scan stops at the first match.
+   *
+   * @param text Text to scan.
+   * @return <code>true</code> if the text contains at least one source term.
+   */
+  public boolean containsTerm(String text) {
+    int node = 0;
+    for (int i = 0; i < text.length(); i++) {
+      node = step(node, fold(text.charAt(i)));
+      if (matchingNodes[node]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Finds the source terms contained in the text.
+   *
+   * @param text Text to scan.
+   * @return Source terms contained in the text, each listed once, in the order in which their
+   *     first occurrence ends in the text.
+   */
+  public List<String> findTerms(String text) {
+    List<String> found = new ArrayList<>();
+    BitSet seen = new BitSet(terms.length);
+    int node = 0;
+    for (int i = 0; i < text.length(); i++) {
+      node = step(node, fold(text.charAt(i)));
+      if (!matchingNodes[node]) {
+        continue;
+      }
+      for (int output = nodeTerms[node] >= 0 ? node : outputLinks[node];
+          output >= 0;
+          output = outputLinks[output]) {
+        int termIndex = nodeTerms[output];
+        if (!seen.get(termIndex)) {
+          seen.set(termIndex);
+          found.add(terms[termIndex]);
+        }
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Checks which of the texts contain any of the source terms.
+   *
+   * @param texts Texts to scan.
+   * @return Set of the indices of the texts containing at least one source term.
+   */
+  public BitSet findTextsContainingTerms(List<String> texts) {
+    BitSet result = new BitSet(texts.size());
+    for (int i = 0; i < texts.size(); i++) {
+      if (containsTerm(texts.get(i))) {
+        result.set(i);
+      }
+    }
+    return result;
+  }
+
+  /** Returns the node reached from the given node by the character, following failure links. */
+  private int step(int node, char c) {
+    while (true) {
+      int child = getChild(node, c);
+      if (child >= 0) {
+        return child;
+      } else if (node == 0) {
+        return 0;
+      }
+      node = failureLinks[node];
+    }
+  }
+
+  private char fold(char c) {
+    return ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+  }
+
+  private int getChild(int node, char c) {
+    long key = edgeKey(node, c);
+    for (int slot = edgeSlot(key); ; slot = (slot + 1) & (edgeKeys.length - 1)) {
+      if (edgeKeys[slot] == key) {
+        return edgeTargets[slot];
+      } else if (edgeKeys[slot] == 0) {
+        return -1;
+      }
+    }
+  }
+
+  private void putChild(int node, char c, int child) {
+    long key = edgeKey(node, c);
+    int slot = edgeSlot(key);
+    while (edgeKeys[slot] != 0) {
+      slot = (slot + 1) & (edgeKeys.length - 1);
+    }
+    edgeKeys[slot] = key;
+    edgeTargets[slot] = child;
+  }
+
+  /** Returns the key of an edge; never zero, because zero marks an empty slot. */
+  private static long edgeKey(int node, char c) {
+    return (((long) node << 16) | c) + 1;
+  }
+
+  private int edgeSlot(long key) {
+    // Fibonacci hashing spreads consecutive node indices over the table
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> edgeShift);
+  }
+}
@@ -0,0 +1,68 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.util.*;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Result of {@link GlossaryEntries#validate}, listing all invalid terms in a set of glossary
+ * entries.
+ */
+public class GlossaryValidationReport {
+  private static final int MAX_ERRORS_IN_MESSAGE = 10;
+
+  private final List<String> invalidSourceTerms = new ArrayList<>();
+  private final List<String> errors = new ArrayList<>();
+
+  GlossaryValidationReport() {}
+
+  void addInvalidEntry(
+      String sourceTerm, @Nullable String sourceTermError, @Nullable String targetTermError) {
+    invalidSourceTerms.add(sourceTerm);
+    if (sourceTermError != null) {
+      errors.add(sourceTermError);
+    }
+    if (targetTermError != null) {
+      errors.add(targetTermError);
+    }
+  }
+
+  /** @return <code>true</code> if all terms are valid. */
+  public boolean isValid() {
+    return errors.isEmpty();
+  }
+
+  /** @return Source terms of the entries with an invalid source or target term. */
+  public List<String> getInvalidSourceTerms() {
+    return invalidSourceTerms;
+  }
+
+  /** @return Descriptions of all invalid terms, as thrown by adding the entries one by one. */
+  public List<String> getErrors() {
+    return errors;
+  }
+
+  /**
+   * Throws an exception describing the invalid terms, if any.
+   *
+   * @throws IllegalArgumentException If any term is invalid.
+   */
+  public void throwIfInvalid() throws IllegalArgumentException {
+    if (isValid()) {
+      return;
+    }
+    StringBuilder message =
+        new StringBuilder(
+            String.format(
+                "%d glossary entries contain invalid terms: ", invalidSourceTerms.size()));
+    for (int i = 0; i < Math.min(errors.size(), MAX_ERRORS_IN_MESSAGE); i++) {
+      message.append(i > 0 ? "; " : "").append(errors.get(i));
+    }
+    if (errors.size() > MAX_ERRORS_IN_MESSAGE) {
+      message.append(String.format("; and %d more", errors.size() - MAX_ERRORS_IN_MESSAGE));
+    }
+    throw new IllegalArgumentException(message.toString());
+  }
+}
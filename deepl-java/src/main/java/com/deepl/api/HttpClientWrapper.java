@@ -9,9 +9,11 @@ import java.io.*;
 import java.net.*;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import org.apache.http.HttpHost;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
@@ -30,23 +32,75 @@ class HttpClientWrapper {
   private static final String POST = "POST";
   private static final String DELETE = "DELETE";
   private static final String PUT = "PUT";
+
+  // Pseudo status codes of attempts without a response
+  private static final int NOT_SENT = 0;
+  private static final int CONNECTION_FAILED = -1;
+
+  /** Runs hedged and asynchronous requests, unless virtual threads are used. */
+  private static final ExecutorService platformRequestExecutor =
+      new ThreadPoolExecutor(
+          0,
+          Integer.MAX_VALUE,
+          60,
+          TimeUnit.SECONDS,
+          new SynchronousQueue<>(),
+          VirtualThreads.newThreadFactory("deepl-request", false));
+
+  /**
+   * Schedules asynchronous retries and polling; scheduled tasks only hand over to the request
+   * executor, so a single thread serves all waiting requests.
+   */
+  private static final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "deepl-scheduler");
+            thread.setDaemon(true);
+            return thread;
+          });
+
   private final String serverUrl;
   private final Map<String, String> headers;
   private final Duration minTimeout;
   private final @Nullable Proxy proxy;
   private final int maxRetries;
+  private final @Nullable CircuitBreaker circuitBreaker;
+  private final @Nullable RequestHedging requestHedging;
+  private final @Nullable RetryBudget retryBudget;
+  private final @Nullable RequestScheduler requestScheduler;
+  private final @Nullable ConcurrencyLimiter concurrencyLimiter;
+  private final boolean virtualThreads;
+  private final ExecutorService requestExecutor;
 
   public HttpClientWrapper(
-      String serverUrl,
-      Map<String, String> headers,
-      Duration minTimeout,
-      @Nullable Proxy proxy,
-      int maxRetries) {
+      String serverUrl, Map<String, String> headers, TranslatorOptions options) {
     this.serverUrl = serverUrl;
     this.headers = headers;
-    this.minTimeout = minTimeout;
-    this.proxy = proxy;
-    this.maxRetries = maxRetries;
+    this.minTimeout = options.getTimeout();
+    this.proxy = options.getProxy();
+    this.maxRetries = options.getMaxRetries();
+    this.circuitBreaker = options.getCircuitBreaker();
+    this.requestHedging = options.getRequestHedging();
+    this.retryBudget = options.getRetryBudget();
+    this.requestScheduler = options.getRequestScheduler();
+    this.concurrencyLimiter = options.getConcurrencyLimiter();
+    ExecutorService virtualThreadExecutor =
+        options.getVirtualThreads()
+            ? VirtualThreads.newVirtualThreadPerTaskExecutor("deepl-request")
+            : null;
+    this.virtualThreads = virtualThreadExecutor != null;
+    this.requestExecutor =
+        virtualThreadExecutor != null ? virtualThreadExecutor : platformRequestExecutor;
+  }
+
+  /** Returns whether concurrent requests run on virtual threads. */
+  boolean usesVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /** Returns the executor running hedged and asynchronous requests. */
+  Executor getRequestExecutor() {
+    return requestExecutor;
   }
 
   public HttpResponse sendGetRequestWithBackoff(String relativeUrl)
@@ -54,6 +108,11 @@ class HttpClientWrapper {
     return sendRequestWithBackoff(GET, relativeUrl, null).toStringResponse();
   }
 
+  public HttpResponseStream sendGetRequestStreamWithBackoff(String relativeUrl)
+      throws InterruptedException, DeepLException {
+    return sendRequestWithBackoff(GET, relativeUrl, null);
+  }
+
   public HttpResponse sendDeleteRequestWithBackoff(
       String relativeUrl, @Nullable Iterable<KeyValuePair<String, String>> params)
       throws InterruptedException, DeepLException {
@@ -78,6 +137,136 @@ class HttpClientWrapper {
     return sendRequestWithBackoff(POST, relativeUrl, content).toStringResponse();
   }
 
+  public HttpResponse sendRequestWithBackoff(
+      String relativeUrl,
+      @Nullable Iterable<KeyValuePair<String, String>> params,
+      RequestContext context)
+      throws InterruptedException, DeepLException {
+    HttpContent content = HttpContent.buildFormURLEncodedContent(params);
+    return sendRequestWithBackoff(POST, relativeUrl, content, context).toStringResponse();
+  }
+
+  public HttpResponse sendRequestWithBackoff(String relativeUrl, HttpContent content)
+      throws InterruptedException, DeepLException {
+    return sendRequestWithBackoff(POST, relativeUrl, content).toStringResponse();
+  }
+
+  public HttpResponse sendRequestWithBackoff(
+      String relativeUrl, HttpContent content, RequestContext context)
+      throws InterruptedException, DeepLException {
+    return sendRequestWithBackoff(POST, relativeUrl, content, context).toStringResponse();
+  }
+
+  public HttpResponse sendHedgedRequestWithBackoff(
+      String relativeUrl,
+      @Nullable Iterable<KeyValuePair<String, String>> params,
+      RequestContext context)
+      throws InterruptedException, DeepLException {
+    HttpContent content = HttpContent.buildFormURLEncodedContent(params);
+    return sendHedgedRequestWithBackoff(relativeUrl, content, context);
+  }
+
+  /**
+   * Sends a POST request that is hedged if request hedging is enabled: if the request has not
+   * completed after the hedge delay, a duplicate request is sent and the first successful response
+   * is returned, cancelling the other request. The request must be safe to send twice.
+   */
+  public HttpResponse sendHedgedRequestWithBackoff(
+      String relativeUrl, HttpContent content, RequestContext context)
+      throws InterruptedException, DeepLException {
+    if (requestHedging == null) {
+      return sendRequestWithBackoff(relativeUrl, content, context);
+    }
+    RequestHedging hedging = requestHedging;
+    // Both requests share the deadline
+    RequestContext startedContext = context.start();
+    hedging.onRequest();
+    if (retryBudget != null) {
+      retryBudget.onRequest();
+    }
+    CompletionService<HttpResponse> completionService =
+        new ExecutorCompletionService<>(requestExecutor);
+    Cancellation primaryCancellation = new Cancellation();
+    Future<HttpResponse> primary =
+        completionService.submit(
+            () -> sendHedgeAttempt(relativeUrl, content, startedContext, primaryCancellation));
+    Cancellation hedgeCancellation = null;
+    Future<HttpResponse> hedge = null;
+    Future<HttpResponse> winner = null;
+    try {
+      winner = completionService.poll(hedging.getHedgeDelayNanos(), TimeUnit.NANOSECONDS);
+      if (winner == null && hedging.tryAcquireHedge()) {
+        Cancellation cancellation = new Cancellation();
+        hedgeCancellation = cancellation;
+        hedge =
+            completionService.submit(
+                () -> sendHedgeAttempt(relativeUrl, content, startedContext, cancellation));
+        winner = completionService.take();
+        if (!isSuccessful(winner)) {
+          // Wait for the other request, and use its outcome if it succeeds
+          Future<HttpResponse> other = completionService.take();
+          if (isSuccessful(other)) {
+            winner = other;
+          }
+        }
+        if (winner == hedge) {
+          hedging.onHedgeWin();
+        }
+      } else if (winner == null) {
+        winner = primary;
+      }
+      return getHedgeResult(winner);
+    } finally {
+      // Only cancel the other request: disconnecting a completed request closes its connection
+      if (winner != primary) {
+        primaryCancellation.cancel();
+        primary.cancel(true);
+      }
+      if (hedge != null && hedgeCancellation != null && winner != hedge) {
+        hedgeCancellation.cancel();
+        hedge.cancel(true);
+      }
+    }
+  }
+
+  private HttpResponse sendHedgeAttempt(
+      String relativeUrl, HttpContent content, RequestContext context, Cancellation cancellation)
+      throws InterruptedException, DeepLException {
+    long startNanos = System.nanoTime();
+    HttpResponse response =
+        sendRequestWithBackoff(POST, relativeUrl, content, context, cancellation, false)
+            .toStringResponse();
+    if (requestHedging != null && !isFailure(response.getCode())) {
+      requestHedging.recordResponseTime(System.nanoTime() - startNanos);
+    }
+    return response;
+  }
+
+  private static boolean isSuccessful(Future<HttpResponse> future) throws InterruptedException {
+    try {
+      return !isFailure(future.get().getCode());
+    } catch (ExecutionException | CancellationException exception) {
+      return false;
+    }
+  }
+
+  private static HttpResponse getHedgeResult(Future<HttpResponse> future)
+      throws InterruptedException, DeepLException {
+    try {
+      return future.get();
+    } catch (ExecutionException exception) {
+      Throwable cause = exception.getCause();
+      if (cause instanceof DeepLException) {
+        throw (DeepLException) cause;
+      } else if (cause instanceof InterruptedException) {
+        throw new ConnectionException("Request was interrupted", false, cause);
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new DeepLException("Request failed", cause);
+    }
+  }
+
   public HttpResponse sendPutRequestWithBackoff(
       String relativeUrl, @Nullable Iterable<KeyValuePair<String, String>> params)
       throws InterruptedException, DeepLException {
@@ -85,6 +274,11 @@ class HttpClientWrapper {
     return sendRequestWithBackoff(PUT, relativeUrl, content).toStringResponse();
   }
 
+  public HttpResponse sendPutRequestWithBackoff(String relativeUrl, HttpContent content)
+      throws InterruptedException, DeepLException {
+    return sendRequestWithBackoff(PUT, relativeUrl, content).toStringResponse();
+  }
+
   public HttpResponse sendJsonRequestWithBackoff(String relativeUrl, String jsonBody)
       throws InterruptedException, DeepLException {
     HttpContent content = HttpContent.buildJsonContent(jsonBody);
@@ -109,28 +303,53 @@ class HttpClientWrapper {
     return sendPatchRequestWithBackoff(relativeUrl, content);
   }
 
-  private HttpResponse sendPatchRequestWithBackoff(String relativeUrl, HttpContent content)
+  public HttpResponse sendPatchRequestWithBackoff(String relativeUrl, HttpContent content)
       throws InterruptedException, DeepLException {
-    BackoffTimer backoffTimer = new BackoffTimer(this.minTimeout);
+    return sendPatchRequestWithBackoff(relativeUrl, content, RequestContext.DEFAULT);
+  }
+
+  public HttpResponse sendPatchRequestWithBackoff(
+      String relativeUrl, HttpContent content, RequestContext context)
+      throws InterruptedException, DeepLException {
+    BackoffTimer backoffTimer = new BackoffTimer(context.getAttemptTimeout(this.minTimeout));
+    String endpoint = CircuitBreaker.endpointOf(relativeUrl);
+    context = context.start();
+    if (retryBudget != null) {
+      retryBudget.onRequest();
+    }
     while (true) {
+      acquireSlot(context, endpoint);
+      int statusCode = NOT_SENT;
+      long startNanos = 0;
       try {
-        HttpResponse response = sendPatchRequest(relativeUrl, content, backoffTimer);
-        if (backoffTimer.getNumRetries() >= this.maxRetries) {
-          return response;
-        } else if (response.getCode() != 429 && response.getCode() < 500) {
-          return response;
-        }
-      } catch (ConnectionException exception) {
-        if (!exception.getShouldRetry() || backoffTimer.getNumRetries() >= this.maxRetries) {
-          throw exception;
+        long timeoutMillis = context.limitTimeoutMillis(backoffTimer.getTimeoutMillis());
+        long permit = acquirePermission(endpoint);
+        startNanos = System.nanoTime();
+        try {
+          HttpResponse response = sendPatchRequest(relativeUrl, content, timeoutMillis, context);
+          statusCode = response.getCode();
+          boolean failed = isFailure(response.getCode());
+          onResult(endpoint, permit, startNanos, failed);
+          if (!failed || isLastAttempt(backoffTimer, endpoint, context)) {
+            return response;
+          }
+        } catch (ConnectionException exception) {
+          statusCode = CONNECTION_FAILED;
+          onResult(endpoint, permit, startNanos, true);
+          if (!exception.getShouldRetry() || isLastAttempt(backoffTimer, endpoint, context)) {
+            throw exception;
+          }
         }
+      } finally {
+        releaseSlot(context, endpoint, startNanos, statusCode);
       }
       backoffTimer.sleepUntilRetry();
     }
   }
 
   private HttpResponse sendPatchRequest(
-      String relativeUrl, HttpContent content, BackoffTimer backoffTimer) throws DeepLException {
+      String relativeUrl, HttpContent content, long timeoutMs, RequestContext context)
+      throws DeepLException {
     HttpClientBuilder builder = HttpClients.custom();
     if (proxy != null) {
       InetSocketAddress addr = (InetSocketAddress) proxy.address();
@@ -142,8 +361,8 @@ class HttpClientWrapper {
       // Set timeouts
       RequestConfig requestConfig =
           RequestConfig.custom()
-              .setConnectTimeout((int) backoffTimer.getTimeoutMillis())
-              .setSocketTimeout((int) backoffTimer.getTimeoutMillis())
+              .setConnectTimeout((int) timeoutMs)
+              .setSocketTimeout((int) timeoutMs)
               .build();
       request.setConfig(requestConfig);
 
@@ -151,9 +370,15 @@ class HttpClientWrapper {
       for (Map.Entry<String, String> entry : this.headers.entrySet()) {
         request.setHeader(entry.getKey(), entry.getValue());
       }
+      for (Map.Entry<String, String> entry : context.getHeaders().entrySet()) {
+        request.setHeader(entry.getKey(), entry.getValue());
+      }
 
       request.setHeader("Content-Type", content.getContentType());
-      request.setEntity(new ByteArrayEntity(content.getContent()));
+      request.setEntity(
+          content.isStreamed()
+              ? new HttpContentEntity(content)
+              : new ByteArrayEntity(content.getContent()));
 
       // Execute the request
       org.apache.http.HttpResponse response = httpClient.execute(request);
@@ -177,8 +402,16 @@ class HttpClientWrapper {
   public HttpResponseStream downloadWithBackoff(
       String relativeUrl, @Nullable Iterable<KeyValuePair<String, String>> params)
       throws InterruptedException, DeepLException {
+    return downloadWithBackoff(relativeUrl, params, RequestContext.DEFAULT);
+  }
+
+  public HttpResponseStream downloadWithBackoff(
+      String relativeUrl,
+      @Nullable Iterable<KeyValuePair<String, String>> params,
+      RequestContext context)
+      throws InterruptedException, DeepLException {
     HttpContent content = HttpContent.buildFormURLEncodedContent(params);
-    return sendRequestWithBackoff(POST, relativeUrl, content);
+    return sendRequestWithBackoff(POST, relativeUrl, content, context);
   }
 
   public HttpResponse uploadWithBackoff(
@@ -187,6 +420,16 @@ class HttpClientWrapper {
       String fileName,
       InputStream inputStream)
       throws InterruptedException, DeepLException {
+    return uploadWithBackoff(relativeUrl, params, fileName, inputStream, RequestContext.DEFAULT);
+  }
+
+  public HttpResponse uploadWithBackoff(
+      String relativeUrl,
+      @Nullable Iterable<KeyValuePair<String, String>> params,
+      String fileName,
+      InputStream inputStream,
+      RequestContext context)
+      throws InterruptedException, DeepLException {
     ArrayList<KeyValuePair<String, Object>> fields = new ArrayList<>();
     fields.add(new KeyValuePair<>("file", new NamedStream(fileName, inputStream)));
     if (params != null) {
@@ -201,40 +444,198 @@ class HttpClientWrapper {
     } catch (Exception e) {
       throw new DeepLException("Failed building request", e);
     }
-    return sendRequestWithBackoff(POST, relativeUrl, content).toStringResponse();
+    return sendRequestWithBackoff(POST, relativeUrl, content, context).toStringResponse();
+  }
+
+  /**
+   * Sends a POST request with exponential backoff without blocking the calling thread. Each attempt
+   * runs on a shared executor, and waiting between attempts is scheduled, so no thread is occupied
+   * while waiting to retry.
+   */
+  public CompletableFuture<HttpResponse> sendRequestWithBackoffAsync(
+      String relativeUrl,
+      @Nullable Iterable<KeyValuePair<String, String>> params,
+      RequestContext context) {
+    CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+    try {
+      HttpContent content = HttpContent.buildFormURLEncodedContent(params);
+      new AsyncRequest(POST, relativeUrl, content, context.start(), result).start();
+    } catch (DeepLException exception) {
+      result.completeExceptionally(exception);
+    }
+    return result;
+  }
+
+  /** Runs the task on the request executor after the delay, without blocking a thread. */
+  void runAfter(Duration delay, Runnable task) {
+    scheduler.schedule(() -> requestExecutor.execute(task), delay.toNanos(), TimeUnit.NANOSECONDS);
   }
 
-  // Sends a request with exponential backoff
   private HttpResponseStream sendRequestWithBackoff(
       String method, String relativeUrl, HttpContent content)
       throws InterruptedException, DeepLException {
-    BackoffTimer backoffTimer = new BackoffTimer(this.minTimeout);
+    return sendRequestWithBackoff(method, relativeUrl, content, RequestContext.DEFAULT);
+  }
+
+  private HttpResponseStream sendRequestWithBackoff(
+      String method, String relativeUrl, HttpContent content, RequestContext context)
+      throws InterruptedException, DeepLException {
+    return sendRequestWithBackoff(method, relativeUrl, content, context, null, true);
+  }
+
+  // Sends a request with exponential backoff, within the deadline of the context. The attempts of
+  // a hedged request pass countRequest false, as the retry budget counts the request only once.
+  private HttpResponseStream sendRequestWithBackoff(
+      String method,
+      String relativeUrl,
+      HttpContent content,
+      RequestContext context,
+      @Nullable Cancellation cancellation,
+      boolean countRequest)
+      throws InterruptedException, DeepLException {
+    BackoffTimer backoffTimer = new BackoffTimer(context.getAttemptTimeout(this.minTimeout));
+    String endpoint = CircuitBreaker.endpointOf(relativeUrl);
+    context = context.start();
+    if (retryBudget != null && countRequest) {
+      retryBudget.onRequest();
+    }
     while (true) {
+      acquireSlot(context, endpoint);
+      int statusCode = NOT_SENT;
+      long startNanos = 0;
       try {
-        HttpResponseStream response =
-            sendRequest(method, serverUrl + relativeUrl, backoffTimer.getTimeoutMillis(), content);
-        if (backoffTimer.getNumRetries() >= this.maxRetries) {
-          return response;
-        } else if (response.getCode() != 429 && response.getCode() < 500) {
-          return response;
-        }
-        response.close();
-      } catch (ConnectionException exception) {
-        if (!exception.getShouldRetry() || backoffTimer.getNumRetries() >= this.maxRetries) {
-          throw exception;
+        long timeoutMillis = context.limitTimeoutMillis(backoffTimer.getTimeoutMillis());
+        long permit = acquirePermission(endpoint);
+        startNanos = System.nanoTime();
+        try {
+          HttpResponseStream response =
+              sendRequest(
+                  method, serverUrl + relativeUrl, timeoutMillis, content, context, cancellation);
+          statusCode = response.getCode();
+          boolean failed = isFailure(response.getCode());
+          onResult(endpoint, permit, startNanos, failed);
+          if (!failed || isLastAttempt(backoffTimer, endpoint, context)) {
+            return response;
+          }
+          response.close();
+        } catch (ConnectionException exception) {
+          if (cancellation != null && cancellation.isCancelled()) {
+            // Not a failure of the API, the request was aborted by hedging
+            onCancelled(endpoint, permit);
+            throw exception;
+          }
+          statusCode = CONNECTION_FAILED;
+          onResult(endpoint, permit, startNanos, true);
+          if (!exception.getShouldRetry() || isLastAttempt(backoffTimer, endpoint, context)) {
+            throw exception;
+          }
         }
+      } finally {
+        releaseSlot(context, endpoint, startNanos, statusCode);
       }
       backoffTimer.sleepUntilRetry();
     }
   }
 
+  /**
+   * Returns whether a failed attempt must not be retried, because the retries are used up, the
+   * circuit has opened, the retry could not start before the deadline, or the retry budget is
+   * exhausted. The last response or error is then returned instead.
+   */
+  private boolean isLastAttempt(
+      BackoffTimer backoffTimer, String endpoint, RequestContext context) {
+    // The retry budget is checked last, so that a token is only taken for an actual retry
+    return backoffTimer.getNumRetries() >= context.getMaxRetries(this.maxRetries)
+        || isCircuitOpen(endpoint)
+        || !context.hasTimeAfter(backoffTimer.getTimeUntilRetry())
+        || (retryBudget != null && !retryBudget.tryAcquireRetry());
+  }
+
+  /** Responses with these status codes are retried and count as failures for the circuit. */
+  private static boolean isFailure(int code) {
+    return code == 429 || code >= 500;
+  }
+
+  private long acquirePermission(String endpoint) throws CircuitBreakerOpenException {
+    return circuitBreaker != null ? circuitBreaker.acquirePermission(endpoint) : 0;
+  }
+
+  private void onResult(String endpoint, long permit, long startNanos, boolean failed) {
+    if (circuitBreaker != null) {
+      circuitBreaker.onResult(endpoint, permit, System.nanoTime() - startNanos, failed);
+    }
+  }
+
+  private void onCancelled(String endpoint, long permit) {
+    if (circuitBreaker != null) {
+      circuitBreaker.onCancelled(endpoint, permit);
+    }
+  }
+
+  /**
+   * Waits for the concurrency limiter and request scheduler, if any, to permit a request. The
+   * limiter is acquired first, so that no scheduler slot is held while waiting for the limit.
+   */
+  private void acquireSlot(RequestContext context, String endpoint)
+      throws InterruptedException, ConnectionException {
+    if (concurrencyLimiter != null) {
+      concurrencyLimiter.acquire(endpoint, context.getDeadline());
+    }
+    if (requestScheduler != null) {
+      try {
+        requestScheduler.acquire(context.getPriority(), context.getDeadline());
+      } catch (InterruptedException | ConnectionException exception) {
+        releaseLimitedSlot(endpoint);
+        throw exception;
+      }
+    }
+  }
+
+  /**
+   * Frees the slot of a completed attempt.
+   *
+   * @param startNanos Time the request was sent.
+   * @param statusCode Status code of the response, {@link #NOT_SENT} or {@link
+   *     #CONNECTION_FAILED}.
+   */
+  private void releaseSlot(
+      RequestContext context, String endpoint, long startNanos, int statusCode) {
+    if (concurrencyLimiter != null) {
+      concurrencyLimiter.release(
+          endpoint,
+          statusCode != NOT_SENT ? System.nanoTime() - startNanos : -1,
+          statusCode == CONNECTION_FAILED || statusCode == 429 || statusCode == 503);
+    }
+    if (requestScheduler != null) {
+      requestScheduler.release(context.getPriority(), statusCode == 429);
+    }
+  }
+
+  private void releaseLimitedSlot(String endpoint) {
+    if (concurrencyLimiter != null) {
+      concurrencyLimiter.release(endpoint, -1, false);
+    }
+  }
+
+  private boolean isCircuitOpen(String endpoint) {
+    return circuitBreaker != null && circuitBreaker.isOpen(endpoint);
+  }
+
   private HttpResponseStream sendRequest(
-      String method, String urlString, long timeoutMs, HttpContent content)
+      String method,
+      String urlString,
+      long timeoutMs,
+      HttpContent content,
+      RequestContext context,
+      @Nullable Cancellation cancellation)
       throws ConnectionException {
     try {
       URL url = new URL(urlString);
       HttpURLConnection connection =
           (HttpURLConnection) (proxy != null ? url.openConnection(proxy) : url.openConnection());
+      if (cancellation != null) {
+        cancellation.setConnection(connection);
+      }
 
       connection.setRequestMethod(method);
       connection.setConnectTimeout((int) timeoutMs);
@@ -244,13 +645,19 @@ class HttpClientWrapper {
       for (Map.Entry<String, String> entry : this.headers.entrySet()) {
         connection.setRequestProperty(entry.getKey(), entry.getValue());
       }
+      for (Map.Entry<String, String> entry : context.getHeaders().entrySet()) {
+        connection.setRequestProperty(entry.getKey(), entry.getValue());
+      }
 
       if (content != null) {
         connection.setDoOutput(true);
         connection.setRequestProperty(CONTENT_TYPE, content.getContentType());
 
+        if (content.isStreamed()) {
+          connection.setFixedLengthStreamingMode(content.getContentLength());
+        }
         try (OutputStream output = connection.getOutputStream()) {
-          output.write(content.getContent());
+          content.writeTo(output);
         }
       }
 
@@ -266,4 +673,215 @@ class HttpClientWrapper {
       throw new ConnectionException(e.getMessage(), false, e);
     }
   }
+
+  /**
+   * Request sent with exponential backoff, where each attempt runs on the request executor and the
+   * next attempt is scheduled, following the same retry rules as the blocking loop.
+   */
+  private class AsyncRequest {
+    private final String method;
+    private final String relativeUrl;
+    private final HttpContent content;
+    private final RequestContext context;
+    private final CompletableFuture<HttpResponse> result;
+    private final BackoffTimer backoffTimer;
+    private final String endpoint;
+
+    /** Start time and status code of the current attempt. */
+    private long startNanos;
+
+    private int statusCode;
+
+    AsyncRequest(
+        String method,
+        String relativeUrl,
+        HttpContent content,
+        RequestContext context,
+        CompletableFuture<HttpResponse> result) {
+      this.method = method;
+      this.relativeUrl = relativeUrl;
+      this.content = content;
+      this.context = context;
+      this.backoffTimer = new BackoffTimer(context.getAttemptTimeout(minTimeout));
+      this.result = result;
+      this.endpoint = CircuitBreaker.endpointOf(relativeUrl);
+    }
+
+    void start() {
+      if (retryBudget != null) {
+        retryBudget.onRequest();
+      }
+      submitAttempt();
+    }
+
+    private void submitAttempt() {
+      if (result.isDone()) {
+        // Cancelled by the caller while waiting to retry
+        return;
+      }
+      // Wait for the slots without occupying a thread, within the deadline of the call
+      Instant deadline = context.getDeadline();
+      CompletableFuture<Void> limited =
+          concurrencyLimiter != null
+              ? concurrencyLimiter.acquireAsync(endpoint, deadline, scheduler)
+              : CompletableFuture.completedFuture(null);
+      limited.whenComplete(
+          (limitedIgnored, limitedException) -> {
+            if (limitedException != null) {
+              result.completeExceptionally(limitedException);
+              return;
+            }
+            if (requestScheduler == null) {
+              executeAttempt();
+              return;
+            }
+            requestScheduler
+                .acquireAsync(context.getPriority(), deadline, scheduler)
+                .whenComplete(
+                    (ignored, exception) -> {
+                      if (exception == null) {
+                        executeAttempt();
+                        return;
+                      }
+                      releaseLimitedSlot(endpoint);
+                      result.completeExceptionally(exception);
+                    });
+          });
+    }
+
+    private void executeAttempt() {
+      try {
+        requestExecutor.execute(this::attempt);
+      } catch (RejectedExecutionException exception) {
+        releaseSlot(context, endpoint, 0, NOT_SENT);
+        result.completeExceptionally(exception);
+      }
+    }
+
+    private void attempt() {
+      Runnable continuation = () -> {};
+      statusCode = NOT_SENT;
+      try {
+        continuation = sendAttempt();
+      } finally {
+        releaseSlot(context, endpoint, startNanos, statusCode);
+      }
+      // Completed after freeing the slot, so that dependent requests may use it
+      continuation.run();
+    }
+
+    /**
+     * Sends an attempt, recording its status code.
+     *
+     * @return Continuation completing the result or scheduling the next attempt.
+     */
+    private Runnable sendAttempt() {
+      if (result.isDone()) {
+        // Cancelled by the caller
+        return () -> {};
+      }
+      long permit;
+      long timeoutMillis;
+      try {
+        timeoutMillis = context.limitTimeoutMillis(backoffTimer.getTimeoutMillis());
+        permit = acquirePermission(endpoint);
+      } catch (DeepLException exception) {
+        return () -> result.completeExceptionally(exception);
+      }
+      startNanos = System.nanoTime();
+      try {
+        HttpResponseStream response =
+            sendRequest(method, serverUrl + relativeUrl, timeoutMillis, content, context, null);
+        statusCode = response.getCode();
+        boolean failed = isFailure(response.getCode());
+        onResult(endpoint, permit, startNanos, failed);
+        if (!failed || isLastAttempt(backoffTimer, endpoint, context)) {
+          HttpResponse stringResponse = response.toStringResponse();
+          return () -> result.complete(stringResponse);
+        }
+        response.close();
+      } catch (ConnectionException exception) {
+        statusCode = CONNECTION_FAILED;
+        onResult(endpoint, permit, startNanos, true);
+        if (!exception.getShouldRetry() || isLastAttempt(backoffTimer, endpoint, context)) {
+          return () -> result.completeExceptionally(exception);
+        }
+      } catch (DeepLException exception) {
+        return () -> result.completeExceptionally(exception);
+      }
+      return () ->
+          scheduler.schedule(
+              () -> {
+                backoffTimer.startRetry();
+                submitAttempt();
+              },
+              backoffTimer.getTimeUntilRetry().toNanos(),
+              TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /** Allows another thread to abort a request by disconnecting its connection. */
+  private static class Cancellation {
+    private volatile boolean cancelled;
+    private volatile @Nullable HttpURLConnection connection;
+
+    boolean isCancelled() {
+      return cancelled;
+    }
+
+    void setConnection(HttpURLConnection connection) throws ConnectionException {
+      this.connection = connection;
+      if (cancelled) {
+        connection.disconnect();
+        throw new ConnectionException("Request was cancelled", false, null);
+      }
+    }
+
+    void cancel() {
+      cancelled = true;
+      HttpURLConnection current = connection;
+      if (current != null) {
+        current.disconnect();
+      }
+    }
+  }
+
+  /** Apache HTTP entity that writes streamed {@link HttpContent} directly to the request. */
+  private static class HttpContentEntity extends AbstractHttpEntity {
+    private final HttpContent content;
+
+    HttpContentEntity(HttpContent content) {
+      this.content = content;
+      setContentType(content.getContentType());
+    }
+
+    @Override
+    public boolean isRepeatable() {
+      return true;
+    }
+
+    @Override
+    public long getContentLength() {
+      try {
+        return content.getContentLength();
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }
+
+    @Override
+    public InputStream getContent() {
+      return new ByteArrayInputStream(content.getContent());
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+      content.writeTo(output);
+    }
+
+    @Override
+    public boolean isStreaming() {
+      return false;
+    }
+  }
 }
@@ -0,0 +1,133 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import com.deepl.api.utils.RefreshAheadValue;
+import java.time.Duration;
+import java.util.*;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Client-side cache of the languages and glossary language pairs supported by the DeepL API,
+ * enabled using {@link TranslatorOptions#setLanguageCacheTtl}. Cached data is refreshed in the
+ * background shortly before it expires, so lookups rarely wait for an API request. Lookups accept
+ * language codes in any casing and take constant time once the data is loaded.
+ *
+ * @see Translator#getLanguageCache()
+ */
+public class LanguageCache {
+  private final RefreshAheadValue<LanguageIndex> sourceLanguages;
+  private final RefreshAheadValue<LanguageIndex> targetLanguages;
+  private final RefreshAheadValue<GlossaryLanguageIndex> glossaryLanguages;
+
+  LanguageCache(
+      Duration ttl,
+      RefreshAheadValue.Loader<List<Language>> sourceLanguageLoader,
+      RefreshAheadValue.Loader<List<Language>> targetLanguageLoader,
+      RefreshAheadValue.Loader<List<GlossaryLanguagePair>> glossaryLanguageLoader) {
+    this.sourceLanguages =
+        new RefreshAheadValue<>(ttl, () -> new LanguageIndex(sourceLanguageLoader.load()));
+    this.targetLanguages =
+        new RefreshAheadValue<>(ttl, () -> new LanguageIndex(targetLanguageLoader.load()));
+    this.glossaryLanguages =
+        new RefreshAheadValue<>(
+            ttl, () -> new GlossaryLanguageIndex(glossaryLanguageLoader.load()));
+  }
+
+  /**
+   * @return Unmodifiable list of cached source or target languages.
+   * @throws InterruptedException If the thread is interrupted while loading the languages.
+   * @throws DeepLException If any error occurs while loading the languages.
+   */
+  public List<Language> getLanguages(LanguageType languageType)
+      throws DeepLException, InterruptedException {
+    return getIndex(languageType).languages;
+  }
+
+  /** @return Unmodifiable list of cached glossary language pairs. */
+  public List<GlossaryLanguagePair> getGlossaryLanguages()
+      throws DeepLException, InterruptedException {
+    return glossaryLanguages.get().pairs;
+  }
+
+  /**
+   * @param langCode Language code, for example "de" or "en-US".
+   * @return The cached {@link Language} of the given type with the given code, or <code>null
+   *     </code> if the language is not supported.
+   */
+  public @Nullable Language getLanguage(String langCode, LanguageType languageType)
+      throws DeepLException, InterruptedException {
+    return getIndex(languageType).byCode.get(LanguageCode.standardize(langCode));
+  }
+
+  /** @return <code>true</code> if the given language code is a supported source language. */
+  public boolean isSourceLanguage(String langCode) throws DeepLException, InterruptedException {
+    return getLanguage(langCode, LanguageType.Source) != null;
+  }
+
+  /** @return <code>true</code> if the given language code is a supported target language. */
+  public boolean isTargetLanguage(String langCode) throws DeepLException, InterruptedException {
+    return getLanguage(langCode, LanguageType.Target) != null;
+  }
+
+  /**
+   * @return <code>true</code> if the given language code is a supported target language that
+   *     supports the {@link TextTranslationOptions#setFormality} option.
+   */
+  public boolean supportsFormality(String targetLang) throws DeepLException, InterruptedException {
+    Language language = getLanguage(targetLang, LanguageType.Target);
+    return language != null && Boolean.TRUE.equals(language.getSupportsFormality());
+  }
+
+  /**
+   * @return <code>true</code> if glossaries are supported for the given source and target
+   *     language. Regional variants are ignored, as for glossaries.
+   */
+  public boolean isGlossaryLanguagePair(String sourceLang, String targetLang)
+      throws DeepLException, InterruptedException {
+    Set<String> targets =
+        glossaryLanguages.get().targetsBySource.get(LanguageCode.removeRegionalVariant(sourceLang));
+    return targets != null && targets.contains(LanguageCode.removeRegionalVariant(targetLang));
+  }
+
+  /** Discards all cached data, so the next lookup requests it from the DeepL API again. */
+  public void invalidate() {
+    sourceLanguages.invalidate();
+    targetLanguages.invalidate();
+    glossaryLanguages.invalidate();
+  }
+
+  private LanguageIndex getIndex(LanguageType languageType)
+      throws DeepLException, InterruptedException {
+    return languageType == LanguageType.Target ? targetLanguages.get() : sourceLanguages.get();
+  }
+
+  private static class LanguageIndex {
+    private final List<Language> languages;
+    private final Map<String, Language> byCode;
+
+    private LanguageIndex(List<Language> languages) {
+      this.languages = Collections.unmodifiableList(new ArrayList<>(languages));
+      this.byCode = new HashMap<>();
+      for (Language language : languages) {
+        byCode.put(language.getCode(), language);
+      }
+    }
+  }
+
+  private static class GlossaryLanguageIndex {
+    private final List<GlossaryLanguagePair> pairs;
+    private final Map<String, Set<String>> targetsBySource;
+
+    private GlossaryLanguageIndex(List<GlossaryLanguagePair> pairs) {
+      this.pairs = Collections.unmodifiableList(new ArrayList<>(pairs));
+      this.targetsBySource = new HashMap<>();
+      for (GlossaryLanguagePair pair : pairs) {
+        String source = LanguageCode.removeRegionalVariant(pair.getSourceLanguage());
+        String target = LanguageCode.removeRegionalVariant(pair.getTargetLanguage());
+        targetsBySource.computeIfAbsent(source, key -> new HashSet<>()).add(target);
+      }
+    }
+  }
+}
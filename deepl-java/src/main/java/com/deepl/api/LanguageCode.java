@@ -4,6 +4,8 @@
 package com.deepl.api;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * Language codes for the languages currently supported by DeepL translation. New languages may be
@@ -119,6 +121,60 @@ public class LanguageCode {
   /** Chinese language code, may be used as source or target language. */
   public static final String Chinese = "zh";
 
+  /** Upper bound on the number of language codes learned from the API, see {@link #learn}. */
+  private static final int MAX_LEARNED_CODES = 256;
+
+  /**
+   * Maps common spellings of language codes (standardized, lower-case and upper-case) to the single
+   * standardized instance, so that {@link #standardize} does not allocate for known codes.
+   */
+  private static final ConcurrentHashMap<String, String> standardizedCodes =
+      new ConcurrentHashMap<>();
+
+  private static final AtomicInteger learnedCodeCount = new AtomicInteger();
+
+  static {
+    String[] knownCodes = {
+      Arabic,
+      Bulgarian,
+      Czech,
+      Danish,
+      German,
+      Greek,
+      English,
+      EnglishBritish,
+      EnglishAmerican,
+      Spanish,
+      Estonian,
+      Finnish,
+      French,
+      Hungarian,
+      Indonesian,
+      Italian,
+      Japanese,
+      Korean,
+      Lithuanian,
+      Latvian,
+      Norwegian,
+      Dutch,
+      Polish,
+      Portuguese,
+      PortugueseBrazilian,
+      PortugueseEuropean,
+      Romanian,
+      Russian,
+      Slovak,
+      Slovenian,
+      Swedish,
+      Turkish,
+      Ukrainian,
+      Chinese,
+    };
+    for (String code : knownCodes) {
+      addStandardizedCode(code);
+    }
+  }
+
   /**
    * Removes the regional variant (if any) from the given language code.
    *
@@ -138,6 +194,10 @@ public class LanguageCode {
    * @return String containing the standardized language code.
    */
   public static String standardize(String langCode) {
+    String standardized = standardizedCodes.get(langCode);
+    if (standardized != null) {
+      return standardized;
+    }
     String[] parts = langCode.split("-", 2);
     if (parts.length == 1) {
       return parts[0].toLowerCase(Locale.ENGLISH);
@@ -145,4 +205,26 @@ public class LanguageCode {
       return parts[0].toLowerCase(Locale.ENGLISH) + "-" + parts[1].toUpperCase(Locale.ENGLISH);
     }
   }
+
+  /**
+   * Adds the given language code, for example one returned by {@link Translator#getLanguages}, to
+   * the codes {@link #standardize} resolves without allocating. At most {@value
+   * #MAX_LEARNED_CODES} codes are learned, further codes are standardized as before.
+   *
+   * @param langCode Language code to learn.
+   */
+  static void learn(String langCode) {
+    String standardized = standardize(langCode);
+    if (standardizedCodes.containsKey(standardized)
+        || learnedCodeCount.incrementAndGet() > MAX_LEARNED_CODES) {
+      return;
+    }
+    addStandardizedCode(standardized);
+  }
+
+  private static void addStandardizedCode(String standardized) {
+    standardizedCodes.putIfAbsent(standardized, standardized);
+    standardizedCodes.putIfAbsent(standardized.toLowerCase(Locale.ENGLISH), standardized);
+    standardizedCodes.putIfAbsent(standardized.toUpperCase(Locale.ENGLISH), standardized);
+  }
 }
@@ -0,0 +1,131 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-call settings passed to {@link HttpClientWrapper}, captured from {@link BaseRequestOptions}.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+final class RequestContext {
+  static final RequestContext DEFAULT =
+      new RequestContext(null, null, null, null, Collections.emptyMap(), RequestPriority.Normal);
+
+  private final @Nullable Duration timeout;
+  private final @Nullable Instant deadline;
+  private final @Nullable Duration attemptTimeout;
+  private final @Nullable Integer maxRetries;
+  private final Map<String, String> headers;
+  private final RequestPriority priority;
+
+  private RequestContext(
+      @Nullable Duration timeout,
+      @Nullable Instant deadline,
+      @Nullable Duration attemptTimeout,
+      @Nullable Integer maxRetries,
+      Map<String, String> headers,
+      RequestPriority priority) {
+    this.timeout = timeout;
+    this.deadline = deadline;
+    this.attemptTimeout = attemptTimeout;
+    this.maxRetries = maxRetries;
+    this.headers = headers;
+    this.priority = priority;
+  }
+
+  static RequestContext of(@Nullable BaseRequestOptions options) {
+    if (options == null) {
+      return DEFAULT;
+    }
+    Map<String, String> extraHeaders = options.getExtraHeaders();
+    if (options.getTimeout() == null
+        && options.getDeadline() == null
+        && options.getAttemptTimeout() == null
+        && options.getMaxRetries() == null
+        && (extraHeaders == null || extraHeaders.isEmpty())
+        && options.getPriority() == null) {
+      return DEFAULT;
+    }
+    return new RequestContext(
+        options.getTimeout(),
+        options.getDeadline(),
+        options.getAttemptTimeout(),
+        options.getMaxRetries(),
+        extraHeaders == null || extraHeaders.isEmpty()
+            ? Collections.emptyMap()
+            : Collections.unmodifiableMap(new LinkedHashMap<>(extraHeaders)),
+        options.getPriority() != null ? options.getPriority() : RequestPriority.Normal);
+  }
+
+  /**
+   * Returns a context whose timeout, counted from now, is applied to the deadline. Call this once
+   * at the start of an operation, so that all of its requests share the same deadline.
+   */
+  RequestContext start() {
+    if (timeout == null) {
+      return this;
+    }
+    Instant timeoutDeadline = Instant.now().plus(timeout);
+    return new RequestContext(
+        null,
+        deadline != null && deadline.isBefore(timeoutDeadline) ? deadline : timeoutDeadline,
+        attemptTimeout,
+        maxRetries,
+        headers,
+        priority);
+  }
+
+  /** Returns the minimum attempt timeout, or the client's timeout if not overridden. */
+  Duration getAttemptTimeout(Duration clientTimeout) {
+    return attemptTimeout != null ? attemptTimeout : clientTimeout;
+  }
+
+  /** Returns the maximum number of retries, or the client's maximum if not overridden. */
+  int getMaxRetries(int clientMaxRetries) {
+    return maxRetries != null ? maxRetries : clientMaxRetries;
+  }
+
+  /** Returns the priority class used by the {@link RequestScheduler}. */
+  RequestPriority getPriority() {
+    return priority;
+  }
+
+  /** Returns the time by which the call must complete, or <code>null</code> if unlimited. */
+  @Nullable Instant getDeadline() {
+    return deadline;
+  }
+
+  /** Returns the headers to add to each request, overriding the client's headers. */
+  Map<String, String> getHeaders() {
+    return headers;
+  }
+
+  /**
+   * Limits the timeout of the next attempt to the time remaining until the deadline.
+   *
+   * @param timeoutMillis Timeout in milliseconds without a deadline.
+   * @throws DeadlineExceededException If the deadline has passed.
+   */
+  long limitTimeoutMillis(long timeoutMillis) throws DeadlineExceededException {
+    if (deadline == null) {
+      return timeoutMillis;
+    }
+    long remainingMillis = Duration.between(Instant.now(), deadline).toMillis();
+    if (remainingMillis <= 0) {
+      // A timeout of zero would wait indefinitely
+      throw new DeadlineExceededException("Request deadline exceeded", null);
+    }
+    return Math.min(timeoutMillis, remainingMillis);
+  }
+
+  /** Returns whether time remains until the deadline after waiting for the given duration. */
+  boolean hasTimeAfter(Duration wait) {
+    return deadline == null || Instant.now().plus(wait).isBefore(deadline);
+  }
+}
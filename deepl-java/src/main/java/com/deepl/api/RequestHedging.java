@@ -0,0 +1,188 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedging of text translation requests, set using {@link TranslatorOptions#setRequestHedging}, to
+ * cut tail latency caused by a few slow responses.
+ *
+ * <p>If a text translation has not completed after the hedge delay, a duplicate request is sent
+ * and the first successful response is used; the other request is cancelled. The hedge delay is
+ * the configured percentile of recent response times, by default the 95th, limited to the minimum
+ * and maximum delay; until enough response times are recorded, the maximum delay is used.
+ *
+ * <p>Hedged requests are billed like any other request, so the number of hedged requests is
+ * limited by a budget: each request adds the budget ratio to a token bucket, by default 0.05, and
+ * each hedged request takes one token. Requests that would be hedged while the bucket is empty are
+ * not hedged, so hedging adds at most 5% load by default.
+ *
+ * <p>Configure the hedging before passing it to {@link TranslatorOptions}. One instance may be
+ * shared by several clients to share the response times and budget.
+ */
+public class RequestHedging {
+  private static final int SAMPLE_COUNT = 256;
+  private static final int MINIMUM_SAMPLES = 20;
+  private static final int SAMPLES_PER_UPDATE = 16;
+
+  private double percentile = 0.95;
+  private Duration minDelay = Duration.ofMillis(10);
+  private Duration maxDelay = Duration.ofSeconds(2);
+  private double budgetRatio = 0.05;
+  private double maxBudgetTokens = 10;
+
+  /** Ring buffer of recent response times; this and the fields below are guarded by the lock. */
+  private final long[] sampleNanos = new long[SAMPLE_COUNT];
+
+  private int sampleIndex;
+  private int sampleTotal;
+  private int samplesSinceUpdate;
+  private double budgetTokens;
+  private volatile long delayNanos = -1;
+
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder hedgedRequestCount = new LongAdder();
+  private final LongAdder hedgeWinCount = new LongAdder();
+  private final LongAdder budgetExhaustedCount = new LongAdder();
+
+  /**
+   * Set the percentile of recent response times, between 0 and 1 exclusive, after which a request
+   * is hedged. Defaults to 0.95.
+   */
+  public RequestHedging setPercentile(double percentile) {
+    if (!(percentile > 0 && percentile < 1)) {
+      throw new IllegalArgumentException("percentile must be between 0 and 1");
+    }
+    this.percentile = percentile;
+    return this;
+  }
+
+  /** Set the minimum hedge delay. Defaults to 10 milliseconds. */
+  public RequestHedging setMinDelay(Duration minDelay) {
+    this.minDelay = minDelay;
+    return this;
+  }
+
+  /**
+   * Set the maximum hedge delay, also used until enough response times are recorded. Defaults to 2
+   * seconds.
+   */
+  public RequestHedging setMaxDelay(Duration maxDelay) {
+    this.maxDelay = maxDelay;
+    return this;
+  }
+
+  /**
+   * Set the maximum ratio of hedged requests to requests, between 0 and 1. Defaults to 0.05.
+   *
+   * @param budgetRatio Tokens added to the budget per request; each hedged request takes one.
+   * @param maxBurst Maximum number of tokens the budget may hold, allowing a burst of hedged
+   *     requests after a quiet period.
+   */
+  public RequestHedging setBudget(double budgetRatio, int maxBurst) {
+    if (!(budgetRatio >= 0 && budgetRatio <= 1) || maxBurst < 1) {
+      throw new IllegalArgumentException("invalid hedging budget");
+    }
+    this.budgetRatio = budgetRatio;
+    this.maxBudgetTokens = maxBurst;
+    return this;
+  }
+
+  /** Gets the current percentile. */
+  public double getPercentile() {
+    return percentile;
+  }
+
+  /** Gets the current minimum hedge delay. */
+  public Duration getMinDelay() {
+    return minDelay;
+  }
+
+  /** Gets the current maximum hedge delay. */
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  /** Gets the current budget ratio. */
+  public double getBudgetRatio() {
+    return budgetRatio;
+  }
+
+  /** @return Delay after which the next request would be hedged. */
+  public Duration getHedgeDelay() {
+    return Duration.ofNanos(getHedgeDelayNanos());
+  }
+
+  /** @return Total number of requests eligible for hedging. */
+  public long getRequestCount() {
+    return requestCount.sum();
+  }
+
+  /** @return Total number of requests for which a duplicate request was sent. */
+  public long getHedgedRequestCount() {
+    return hedgedRequestCount.sum();
+  }
+
+  /** @return Total number of hedged requests where the duplicate request completed first. */
+  public long getHedgeWinCount() {
+    return hedgeWinCount.sum();
+  }
+
+  /**
+   * @return Total number of requests that exceeded the hedge delay but were not hedged because the
+   *     budget was exhausted.
+   */
+  public long getBudgetExhaustedCount() {
+    return budgetExhaustedCount.sum();
+  }
+
+  /** Counts a request and adds its share to the budget. */
+  synchronized void onRequest() {
+    requestCount.increment();
+    budgetTokens = Math.min(maxBudgetTokens, budgetTokens + budgetRatio);
+  }
+
+  /** Takes a token from the budget to hedge a request, if available. */
+  synchronized boolean tryAcquireHedge() {
+    if (budgetTokens < 1) {
+      budgetExhaustedCount.increment();
+      return false;
+    }
+    budgetTokens -= 1;
+    hedgedRequestCount.increment();
+    return true;
+  }
+
+  void onHedgeWin() {
+    hedgeWinCount.increment();
+  }
+
+  long getHedgeDelayNanos() {
+    long delay = delayNanos;
+    return delay >= 0 ? delay : maxDelay.toNanos();
+  }
+
+  /** Records the response time of a completed request. */
+  void recordResponseTime(long nanos) {
+    long[] sorted = null;
+    synchronized (this) {
+      sampleNanos[sampleIndex] = nanos;
+      sampleIndex = (sampleIndex + 1) % SAMPLE_COUNT;
+      sampleTotal = Math.min(sampleTotal + 1, SAMPLE_COUNT);
+      // Recompute the percentile periodically, so that most requests only store their sample
+      if (sampleTotal >= MINIMUM_SAMPLES && ++samplesSinceUpdate >= SAMPLES_PER_UPDATE) {
+        samplesSinceUpdate = 0;
+        sorted = Arrays.copyOf(sampleNanos, sampleTotal);
+      }
+    }
+    if (sorted != null) {
+      Arrays.sort(sorted);
+      long delay = sorted[(int) Math.min(sorted.length - 1, (long) (percentile * sorted.length))];
+      delayNanos = Math.max(minDelay.toNanos(), Math.min(maxDelay.toNanos(), delay));
+    }
+  }
+}
@@ -0,0 +1,19 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+/**
+ * Priority class of a call, set using {@link BaseRequestOptions#setPriority} and used by the
+ * {@link RequestScheduler} to order requests. Declared from highest to lowest priority.
+ */
+public enum RequestPriority {
+  /** Latency-sensitive calls, for example made while a user waits for the result. */
+  Interactive,
+
+  /** Calls without a priority set. */
+  Normal,
+
+  /** Throughput-oriented calls, for example bulk text or document jobs, that yield to others. */
+  Batch,
+}
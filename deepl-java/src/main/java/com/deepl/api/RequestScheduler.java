@@ -0,0 +1,372 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Client-side scheduler, set using {@link TranslatorOptions#setRequestScheduler}, that limits the
+ * number of concurrent requests and shares them between the {@link RequestPriority} classes, so
+ * that bulk jobs do not delay interactive calls.
+ *
+ * <p>Each request attempt, including retries, waits in the queue of its priority class until fewer
+ * than the maximum number of concurrent requests are in flight. Waiting requests are dispatched by
+ * weighted fair queuing: each class receives a share of the dispatched requests proportional to
+ * its weight, by default 8 for {@link RequestPriority#Interactive}, 4 for {@link
+ * RequestPriority#Normal} and 1 for {@link RequestPriority#Batch}, while a class without waiting
+ * requests leaves its share to the others. Waiting between retries does not occupy a slot.
+ *
+ * <p>When the DeepL API responds with status 429, the scheduler is throttled for the throttle
+ * duration: waiting requests are then dispatched strictly by priority, and batch requests may only
+ * occupy half of the slots, so that batch traffic yields before interactive traffic.
+ *
+ * <p>Configure the scheduler before passing it to {@link TranslatorOptions}. One instance may be
+ * shared by several clients to share the limit, for example clients using the same API key.
+ */
+public class RequestScheduler {
+  private int maxConcurrentRequests = 8;
+  private Duration throttleDuration = Duration.ofSeconds(10);
+  private final EnumMap<RequestPriority, PriorityClass> classes =
+      new EnumMap<>(RequestPriority.class);
+
+  /** Fields below are guarded by this scheduler. */
+  private int inFlight;
+
+  private double virtualTime;
+  private long lastThrottledNanos;
+  private boolean throttledOnce;
+
+  public RequestScheduler() {
+    classes.put(RequestPriority.Interactive, new PriorityClass(8));
+    classes.put(RequestPriority.Normal, new PriorityClass(4));
+    classes.put(RequestPriority.Batch, new PriorityClass(1));
+  }
+
+  /** Set the maximum number of requests in flight at once. Defaults to 8. */
+  public synchronized RequestScheduler setMaxConcurrentRequests(int maxConcurrentRequests) {
+    if (maxConcurrentRequests < 1) {
+      throw new IllegalArgumentException("maxConcurrentRequests must be positive");
+    }
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    return this;
+  }
+
+  /**
+   * Set the weight of a priority class, its share of dispatched requests relative to the other
+   * classes with waiting requests. Defaults to 8 for interactive, 4 for normal and 1 for batch.
+   */
+  public synchronized RequestScheduler setWeight(RequestPriority priority, int weight) {
+    if (weight < 1) {
+      throw new IllegalArgumentException("weight must be positive");
+    }
+    classes.get(priority).weight = weight;
+    return this;
+  }
+
+  /**
+   * Set how long the scheduler remains throttled after a response with status 429. Defaults to 10
+   * seconds.
+   */
+  public synchronized RequestScheduler setThrottleDuration(Duration throttleDuration) {
+    this.throttleDuration = throttleDuration;
+    return this;
+  }
+
+  /** Gets the current maximum number of concurrent requests. */
+  public synchronized int getMaxConcurrentRequests() {
+    return maxConcurrentRequests;
+  }
+
+  /** Gets the current weight of the priority class. */
+  public synchronized int getWeight(RequestPriority priority) {
+    return classes.get(priority).weight;
+  }
+
+  /** Gets the current throttle duration. */
+  public synchronized Duration getThrottleDuration() {
+    return throttleDuration;
+  }
+
+  /** @return <code>true</code> if a response with status 429 was received recently. */
+  public synchronized boolean isThrottled() {
+    return isThrottled(System.nanoTime());
+  }
+
+  /** Returns a snapshot of the metrics of the priority class. */
+  public synchronized Metrics getMetrics(RequestPriority priority) {
+    PriorityClass priorityClass = classes.get(priority);
+    return new Metrics(
+        priorityClass.queue.size(),
+        priorityClass.inFlight,
+        priorityClass.dispatchedCount,
+        priorityClass.totalWaitNanos,
+        priorityClass.maxWaitNanos,
+        priorityClass.throttledCount);
+  }
+
+  /** Returns snapshots of the metrics of all priority classes. */
+  public synchronized Map<RequestPriority, Metrics> getAllMetrics() {
+    Map<RequestPriority, Metrics> metrics = new EnumMap<>(RequestPriority.class);
+    for (RequestPriority priority : RequestPriority.values()) {
+      metrics.put(priority, getMetrics(priority));
+    }
+    return metrics;
+  }
+
+  /** Snapshot of the queue and dispatch metrics of a priority class. */
+  public static class Metrics {
+    private final int queueDepth;
+    private final int inFlight;
+    private final long dispatchedCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    private final long throttledCount;
+
+    private Metrics(
+        int queueDepth,
+        int inFlight,
+        long dispatchedCount,
+        long totalWaitNanos,
+        long maxWaitNanos,
+        long throttledCount) {
+      this.queueDepth = queueDepth;
+      this.inFlight = inFlight;
+      this.dispatchedCount = dispatchedCount;
+      this.totalWaitNanos = totalWaitNanos;
+      this.maxWaitNanos = maxWaitNanos;
+      this.throttledCount = throttledCount;
+    }
+
+    /** @return Number of requests currently waiting. */
+    public int getQueueDepth() {
+      return queueDepth;
+    }
+
+    /** @return Number of requests currently in flight. */
+    public int getInFlight() {
+      return inFlight;
+    }
+
+    /** @return Total number of requests dispatched. */
+    public long getDispatchedCount() {
+      return dispatchedCount;
+    }
+
+    /** @return Total time dispatched requests waited in the queue. */
+    public Duration getTotalWaitTime() {
+      return Duration.ofNanos(totalWaitNanos);
+    }
+
+    /** @return Average time dispatched requests waited in the queue, or zero if there are none. */
+    public Duration getAverageWaitTime() {
+      return Duration.ofNanos(dispatchedCount > 0 ? totalWaitNanos / dispatchedCount : 0);
+    }
+
+    /** @return Longest time a dispatched request waited in the queue. */
+    public Duration getMaxWaitTime() {
+      return Duration.ofNanos(maxWaitNanos);
+    }
+
+    /** @return Total number of responses with status 429. */
+    public long getThrottledCount() {
+      return throttledCount;
+    }
+  }
+
+  /**
+   * Waits until a request of the priority class may be sent; {@link #release} must be called once
+   * it completes.
+   *
+   * @param deadline Time after which to stop waiting, or <code>null</code> to wait indefinitely.
+   * @throws DeadlineExceededException If the deadline passed while waiting.
+   */
+  void acquire(RequestPriority priority, @Nullable Instant deadline)
+      throws InterruptedException, DeadlineExceededException {
+    Waiter waiter = enqueue(priority);
+    try {
+      if (deadline == null) {
+        waiter.granted.get();
+      } else {
+        long remainingNanos = Duration.between(Instant.now(), deadline).toNanos();
+        waiter.granted.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+      }
+    } catch (TimeoutException exception) {
+      abandon(waiter);
+      throw new DeadlineExceededException("Request deadline exceeded while queued", null);
+    } catch (InterruptedException exception) {
+      abandon(waiter);
+      throw exception;
+    } catch (ExecutionException exception) {
+      // Waiters are never completed exceptionally
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  /**
+   * Returns a future completed once a request of the priority class may be sent; {@link #release}
+   * must be called once it completes.
+   *
+   * @param deadline Time after which to stop waiting, or <code>null</code> to wait indefinitely.
+   * @param timer Executor completing the future exceptionally with {@link
+   *     DeadlineExceededException} once the deadline passes while waiting.
+   */
+  CompletableFuture<Void> acquireAsync(
+      RequestPriority priority, @Nullable Instant deadline, ScheduledExecutorService timer) {
+    Waiter waiter = enqueue(priority);
+    if (deadline != null && !waiter.granted.isDone()) {
+      long remainingNanos = Duration.between(Instant.now(), deadline).toNanos();
+      ScheduledFuture<?> timeout =
+          timer.schedule(
+              () -> {
+                // Remove the waiter before failing it, unless it was dispatched concurrently
+                if (dequeue(waiter)) {
+                  String message = "Request deadline exceeded while queued";
+                  waiter.granted.completeExceptionally(
+                      new DeadlineExceededException(message, null));
+                }
+              },
+              Math.max(0, remainingNanos),
+              TimeUnit.NANOSECONDS);
+      waiter.granted.whenComplete((ignored, exception) -> timeout.cancel(false));
+    }
+    return waiter.granted;
+  }
+
+  /**
+   * Frees the slot of a completed request and dispatches waiting requests.
+   *
+   * @param throttled Whether the response had status 429.
+   */
+  void release(RequestPriority priority, boolean throttled) {
+    List<Waiter> granted;
+    synchronized (this) {
+      PriorityClass priorityClass = classes.get(priority);
+      priorityClass.inFlight--;
+      inFlight--;
+      if (throttled) {
+        priorityClass.throttledCount++;
+        lastThrottledNanos = System.nanoTime();
+        throttledOnce = true;
+      }
+      granted = dispatch();
+    }
+    grant(granted);
+  }
+
+  private Waiter enqueue(RequestPriority priority) {
+    Waiter waiter = new Waiter(priority);
+    List<Waiter> granted;
+    synchronized (this) {
+      PriorityClass priorityClass = classes.get(priority);
+      waiter.finishTag =
+          Math.max(virtualTime, priorityClass.lastFinishTag) + 1.0 / priorityClass.weight;
+      priorityClass.lastFinishTag = waiter.finishTag;
+      priorityClass.queue.addLast(waiter);
+      granted = dispatch();
+    }
+    grant(granted);
+    return waiter;
+  }
+
+  private void abandon(Waiter waiter) {
+    if (dequeue(waiter)) {
+      return;
+    }
+    // Dispatched concurrently, so give the slot back
+    release(waiter.priority, false);
+  }
+
+  /** Removes the waiter from its queue, returning <code>false</code> if it was dispatched. */
+  private synchronized boolean dequeue(Waiter waiter) {
+    return classes.get(waiter.priority).queue.remove(waiter);
+  }
+
+  /**
+   * Removes the waiters to dispatch from the queues, ordered by finish tag, or strictly by priority
+   * while throttled.
+   */
+  private List<Waiter> dispatch() {
+    List<Waiter> granted = null;
+    long now = System.nanoTime();
+    boolean throttled = isThrottled(now);
+    while (inFlight < maxConcurrentRequests) {
+      PriorityClass next = null;
+      for (Map.Entry<RequestPriority, PriorityClass> entry : classes.entrySet()) {
+        PriorityClass priorityClass = entry.getValue();
+        if (priorityClass.queue.isEmpty()) {
+          continue;
+        }
+        if (throttled) {
+          if (entry.getKey() == RequestPriority.Batch
+              && priorityClass.inFlight >= Math.max(1, maxConcurrentRequests / 2)) {
+            continue;
+          }
+          next = priorityClass;
+          break;
+        }
+        if (next == null
+            || priorityClass.queue.peekFirst().finishTag < next.queue.peekFirst().finishTag) {
+          next = priorityClass;
+        }
+      }
+      if (next == null) {
+        break;
+      }
+      Waiter waiter = next.queue.pollFirst();
+      virtualTime = Math.max(virtualTime, waiter.finishTag);
+      long waitNanos = now - waiter.enqueuedNanos;
+      next.inFlight++;
+      next.dispatchedCount++;
+      next.totalWaitNanos += waitNanos;
+      next.maxWaitNanos = Math.max(next.maxWaitNanos, waitNanos);
+      inFlight++;
+      if (granted == null) {
+        granted = new ArrayList<>();
+      }
+      granted.add(waiter);
+    }
+    return granted != null ? granted : Collections.emptyList();
+  }
+
+  private boolean isThrottled(long now) {
+    return throttledOnce && now - lastThrottledNanos < throttleDuration.toNanos();
+  }
+
+  /** Completes the futures outside the lock, as they may run the dispatched requests. */
+  private static void grant(List<Waiter> granted) {
+    for (Waiter waiter : granted) {
+      waiter.granted.complete(null);
+    }
+  }
+
+  private static class PriorityClass {
+    final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    int weight;
+    double lastFinishTag;
+    int inFlight;
+    long dispatchedCount;
+    long totalWaitNanos;
+    long maxWaitNanos;
+    long throttledCount;
+
+    PriorityClass(int weight) {
+      this.weight = weight;
+    }
+  }
+
+  private static class Waiter {
+    final RequestPriority priority;
+    final long enqueuedNanos = System.nanoTime();
+    final CompletableFuture<Void> granted = new CompletableFuture<>();
+    double finishTag;
+
+    Waiter(RequestPriority priority) {
+      this.priority = priority;
+    }
+  }
+}
@@ -0,0 +1,120 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.util.*;
+import java.util.concurrent.*;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Validates languages and glossaries of requests locally, using the supported languages from a
+ * {@link LanguageCache} and the language pairs of glossaries the {@link Translator} has created or
+ * retrieved. Invalid requests are rejected with an {@link IllegalArgumentException} before any
+ * request is sent; glossaries not seen by the {@link Translator} are left to the DeepL API to
+ * check.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class RequestValidator {
+  private final LanguageCache languageCache;
+
+  /** Language pairs of known glossaries, keyed by glossary ID. */
+  private final ConcurrentHashMap<String, List<GlossaryLanguagePair>> glossaryLanguagePairs =
+      new ConcurrentHashMap<>();
+
+  RequestValidator(LanguageCache languageCache) {
+    this.languageCache = languageCache;
+  }
+
+  /**
+   * Checks the languages, formality and glossary of a translation request.
+   *
+   * @throws IllegalArgumentException If the request would be rejected by the DeepL API.
+   */
+  void checkTranslation(
+      @Nullable String sourceLang,
+      String targetLang,
+      @Nullable Formality formality,
+      @Nullable String glossaryId)
+      throws DeepLException, InterruptedException {
+    if (sourceLang != null && !languageCache.isSourceLanguage(sourceLang)) {
+      throw new IllegalArgumentException(
+          String.format("sourceLang=\"%s\" is not a supported source language", sourceLang));
+    }
+    if (!languageCache.isTargetLanguage(targetLang)) {
+      throw new IllegalArgumentException(
+          String.format("targetLang=\"%s\" is not a supported target language", targetLang));
+    }
+    if ((formality == Formality.More || formality == Formality.Less)
+        && !languageCache.supportsFormality(targetLang)) {
+      throw new IllegalArgumentException(
+          String.format("targetLang=\"%s\" does not support formality", targetLang));
+    }
+    if (glossaryId != null && sourceLang != null) {
+      List<GlossaryLanguagePair> pairs = glossaryLanguagePairs.get(glossaryId);
+      if (pairs != null && !containsLanguagePair(pairs, sourceLang, targetLang)) {
+        throw new IllegalArgumentException(
+            String.format(
+                "glossary %s does not contain a dictionary for sourceLang=\"%s\" and "
+                    + "targetLang=\"%s\"",
+                glossaryId, sourceLang, targetLang));
+      }
+    }
+  }
+
+  /**
+   * Checks that glossaries are supported for the given language pair.
+   *
+   * @throws IllegalArgumentException If the language pair is not supported for glossaries.
+   */
+  void checkGlossaryLanguagePair(String sourceLang, String targetLang)
+      throws DeepLException, InterruptedException {
+    if (!languageCache.isGlossaryLanguagePair(sourceLang, targetLang)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "glossaries are not supported for sourceLang=\"%s\" and targetLang=\"%s\"",
+              sourceLang, targetLang));
+    }
+  }
+
+  void rememberGlossary(GlossaryInfo glossary) {
+    if (glossary.getSourceLang() == null || glossary.getTargetLang() == null) {
+      return;
+    }
+    glossaryLanguagePairs.put(
+        glossary.getGlossaryId(),
+        Collections.singletonList(
+            new GlossaryLanguagePair(glossary.getSourceLang(), glossary.getTargetLang())));
+  }
+
+  void rememberGlossary(MultilingualGlossaryInfo glossary) {
+    List<GlossaryLanguagePair> pairs = new ArrayList<>();
+    if (glossary.getDictionaries() != null) {
+      for (MultilingualGlossaryDictionaryInfo dictionary : glossary.getDictionaries()) {
+        pairs.add(
+            new GlossaryLanguagePair(
+                dictionary.getSourceLanguageCode(), dictionary.getTargetLanguageCode()));
+      }
+    }
+    glossaryLanguagePairs.put(glossary.getGlossaryId(), pairs);
+  }
+
+  /** Forgets the glossary, for example after it was deleted or its dictionaries changed. */
+  void forgetGlossary(String glossaryId) {
+    glossaryLanguagePairs.remove(glossaryId);
+  }
+
+  private static boolean containsLanguagePair(
+      List<GlossaryLanguagePair> pairs, String sourceLang, String targetLang) {
+    String source = LanguageCode.removeRegionalVariant(sourceLang);
+    String target = LanguageCode.removeRegionalVariant(targetLang);
+    for (GlossaryLanguagePair pair : pairs) {
+      if (LanguageCode.removeRegionalVariant(pair.getSourceLanguage()).equals(source)
+          && LanguageCode.removeRegionalVariant(pair.getTargetLanguage()).equals(target)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,116 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits retries across all requests of a client, set using {@link
+ * TranslatorOptions#setRetryBudget}, so that retries cannot multiply the load while the DeepL API
+ * is degraded.
+ *
+ * <p>The budget is a token bucket: each request adds the retry ratio to the bucket, by default 0.1,
+ * and each retry takes one token, so retries are limited to about 10% of recent requests.
+ * Additionally, the bucket refills by the minimum number of retries per second, so that clients
+ * sending few requests can still retry. If the bucket is empty, a failed request is not retried,
+ * and its error is returned immediately. The bucket holds at most the maximum number of tokens,
+ * and starts full.
+ *
+ * <p>Configure the budget before passing it to {@link TranslatorOptions}. One instance may be
+ * shared by several clients to share the budget.
+ */
+public class RetryBudget {
+  private double retryRatio = 0.1;
+  private double minRetriesPerSecond = 1;
+  private double maxTokens = 10;
+
+  private double tokens = maxTokens;
+  private long lastRefillNanos = System.nanoTime();
+
+  private final LongAdder retryCount = new LongAdder();
+  private final LongAdder rejectedRetryCount = new LongAdder();
+
+  /** Set the tokens added per request, between 0 and 1. Defaults to 0.1. */
+  public RetryBudget setRetryRatio(double retryRatio) {
+    if (!(retryRatio >= 0 && retryRatio <= 1)) {
+      throw new IllegalArgumentException("retryRatio must be between 0 and 1");
+    }
+    this.retryRatio = retryRatio;
+    return this;
+  }
+
+  /** Set the tokens added per second regardless of requests. Defaults to 1. */
+  public RetryBudget setMinRetriesPerSecond(double minRetriesPerSecond) {
+    if (!(minRetriesPerSecond >= 0)) {
+      throw new IllegalArgumentException("minRetriesPerSecond must not be negative");
+    }
+    this.minRetriesPerSecond = minRetriesPerSecond;
+    return this;
+  }
+
+  /** Set the maximum number of tokens, which is also the initial number. Defaults to 10. */
+  public synchronized RetryBudget setMaxTokens(int maxTokens) {
+    if (maxTokens < 0) {
+      throw new IllegalArgumentException("maxTokens must not be negative");
+    }
+    this.maxTokens = maxTokens;
+    this.tokens = maxTokens;
+    return this;
+  }
+
+  /** Gets the current retry ratio. */
+  public double getRetryRatio() {
+    return retryRatio;
+  }
+
+  /** Gets the current minimum number of retries per second. */
+  public double getMinRetriesPerSecond() {
+    return minRetriesPerSecond;
+  }
+
+  /** Gets the current maximum number of tokens. */
+  public double getMaxTokens() {
+    return maxTokens;
+  }
+
+  /** @return Number of retries currently available. */
+  public synchronized double getAvailableTokens() {
+    refill();
+    return tokens;
+  }
+
+  /** @return Total number of retries permitted by the budget. */
+  public long getRetryCount() {
+    return retryCount.sum();
+  }
+
+  /** @return Total number of retries not made because the budget was exhausted. */
+  public long getRejectedRetryCount() {
+    return rejectedRetryCount.sum();
+  }
+
+  /** Adds the share of a new request to the budget. */
+  synchronized void onRequest() {
+    refill();
+    tokens = Math.min(maxTokens, tokens + retryRatio);
+  }
+
+  /** Takes a token to retry a failed request, if available. */
+  synchronized boolean tryAcquireRetry() {
+    refill();
+    if (tokens < 1) {
+      rejectedRetryCount.increment();
+      return false;
+    }
+    tokens -= 1;
+    retryCount.increment();
+    return true;
+  }
+
+  private void refill() {
+    long now = System.nanoTime();
+    tokens = Math.min(maxTokens, tokens + (now - lastRefillNanos) / 1e9 * minRetriesPerSecond);
+    lastRefillNanos = now;
+  }
+}
@@ -0,0 +1,350 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import com.deepl.api.utils.ReactiveStreams.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Translates a stream of texts with backpressure: a {@link Processor} subscribing to a publisher
+ * of texts and publishing a {@link TextResult} per text, in the same order.
+ *
+ * <p>Texts are only requested from the upstream publisher as the downstream subscriber requests
+ * results, limited to the texts of the maximum number of concurrent batches. Received texts are
+ * sent in batches of up to the maximum batch size using {@link Translator#translateTextAsync};
+ * a partial batch is sent once all requested texts have been received, the upstream publisher
+ * completes, or the first text of the batch has waited for the maximum batch delay. While the
+ * DeepL API throttles requests, batches are retried with backoff and remain in flight, so no
+ * further texts are requested upstream until they complete.
+ *
+ * <p>If a batch fails after its retries, the results of the preceding batches are published, the
+ * upstream subscription is cancelled and the error is passed to the subscriber. Only one
+ * subscriber is supported.
+ *
+ * <p>The interfaces match {@code java.util.concurrent.Flow}, so on Java 9 and later the processor
+ * may be adapted to a {@code Flow.Processor<String, TextResult>} by forwarding each method.
+ */
+public class TextTranslationProcessor implements Processor<String, TextResult> {
+  private final Translator translator;
+  private final @Nullable String sourceLang;
+  private final String targetLang;
+  private final @Nullable TextTranslationOptions options;
+
+  private int maxBatchSize = 50;
+  private int maxConcurrentBatches = 2;
+  private Duration maxBatchDelay = Duration.ofMillis(100);
+
+  private final AtomicReference<Subscriber<? super TextResult>> downstream =
+      new AtomicReference<>();
+  private volatile @Nullable Subscription upstream;
+  private final Queue<String> received = new ConcurrentLinkedQueue<>();
+  private final AtomicLong requested = new AtomicLong();
+  private final AtomicInteger drainCount = new AtomicInteger();
+  private volatile boolean upstreamDone;
+  private volatile @Nullable Throwable upstreamError;
+  private volatile boolean cancelled;
+  private volatile @Nullable Throwable requestError;
+  private volatile long batchDelayElapsedGeneration = -1;
+
+  /** Fields below are only accessed while draining. */
+  private final List<String> pending = new ArrayList<>();
+
+  private final Deque<Batch> batches = new ArrayDeque<>();
+  private long upstreamOutstanding;
+  private long emitted;
+  private long batchDelayGeneration;
+  private boolean batchDelayScheduled;
+  private boolean terminated;
+
+  /**
+   * Creates a processor translating texts with the given translator.
+   *
+   * @param translator Translator used to send the requests.
+   * @param sourceLang Language code of the input language, or <code>null</code> to use
+   *     auto-detection.
+   * @param targetLang Language code of the desired output language.
+   * @param options Options influencing translation, or <code>null</code> to use defaults.
+   */
+  public TextTranslationProcessor(
+      Translator translator,
+      @Nullable String sourceLang,
+      String targetLang,
+      @Nullable TextTranslationOptions options) {
+    this.translator = translator;
+    this.sourceLang = sourceLang;
+    this.targetLang = targetLang;
+    this.options = options;
+  }
+
+  /** Set the maximum number of texts per request, between 1 and 50. Defaults to 50. */
+  public TextTranslationProcessor setMaxBatchSize(int maxBatchSize) {
+    if (maxBatchSize < 1 || maxBatchSize > 50) {
+      throw new IllegalArgumentException("maxBatchSize must be between 1 and 50");
+    }
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  /** Set the maximum number of requests in flight at once. Defaults to 2. */
+  public TextTranslationProcessor setMaxConcurrentBatches(int maxConcurrentBatches) {
+    if (maxConcurrentBatches < 1) {
+      throw new IllegalArgumentException("maxConcurrentBatches must be positive");
+    }
+    this.maxConcurrentBatches = maxConcurrentBatches;
+    return this;
+  }
+
+  /**
+   * Set the maximum time a received text waits for further texts before a partial batch is sent.
+   * Defaults to 100 milliseconds.
+   */
+  public TextTranslationProcessor setMaxBatchDelay(Duration maxBatchDelay) {
+    this.maxBatchDelay = maxBatchDelay;
+    return this;
+  }
+
+  /** Gets the current maximum batch size. */
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /** Gets the current maximum number of concurrent batches. */
+  public int getMaxConcurrentBatches() {
+    return maxConcurrentBatches;
+  }
+
+  /** Gets the current maximum batch delay. */
+  public Duration getMaxBatchDelay() {
+    return maxBatchDelay;
+  }
+
+  @Override
+  public void subscribe(Subscriber<? super TextResult> subscriber) {
+    if (!downstream.compareAndSet(null, subscriber)) {
+      subscriber.onSubscribe(
+          new Subscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {}
+          });
+      subscriber.onError(
+          new IllegalStateException("TextTranslationProcessor supports only one subscriber"));
+      return;
+    }
+    subscriber.onSubscribe(
+        new Subscription() {
+          @Override
+          public void request(long n) {
+            if (n <= 0) {
+              requestError =
+                  new IllegalArgumentException("Number of requested items must be positive");
+              cancelled = true;
+            } else {
+              requested.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+            }
+            drain();
+          }
+
+          @Override
+          public void cancel() {
+            cancelled = true;
+            drain();
+          }
+        });
+    drain();
+  }
+
+  @Override
+  public void onSubscribe(Subscription subscription) {
+    if (upstream != null || cancelled) {
+      subscription.cancel();
+      return;
+    }
+    upstream = subscription;
+    drain();
+  }
+
+  @Override
+  public void onNext(String text) {
+    received.add(text);
+    drain();
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    upstreamError = throwable;
+    upstreamDone = true;
+    drain();
+  }
+
+  @Override
+  public void onComplete() {
+    upstreamDone = true;
+    drain();
+  }
+
+  /**
+   * Processes all signals on one thread at a time: any thread signalling while another drains
+   * only increments the count, and the draining thread loops until the count is consumed.
+   */
+  private void drain() {
+    if (drainCount.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      drainOnce();
+      missed = drainCount.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void drainOnce() {
+    Subscriber<? super TextResult> subscriber = downstream.get();
+    if (terminated) {
+      received.clear();
+      return;
+    }
+    if (subscriber == null) {
+      return;
+    }
+    if (cancelled) {
+      terminate(requestError);
+      return;
+    }
+
+    for (String text; (text = received.poll()) != null; ) {
+      pending.add(text);
+      upstreamOutstanding = Math.max(0, upstreamOutstanding - 1);
+    }
+    sendBatches();
+
+    while (!batches.isEmpty()) {
+      Batch batch = batches.peekFirst();
+      if (!batch.future.isDone()) {
+        break;
+      }
+      List<TextResult> results;
+      try {
+        results = batch.future.join();
+      } catch (CompletionException exception) {
+        terminate(exception.getCause());
+        return;
+      } catch (CancellationException exception) {
+        terminate(exception);
+        return;
+      }
+      if (emitted == requested.get()) {
+        break;
+      }
+      subscriber.onNext(results.get(batch.emittedCount++));
+      emitted++;
+      if (batch.emittedCount == results.size()) {
+        batches.pollFirst();
+      }
+    }
+
+    if (upstreamDone && pending.isEmpty() && batches.isEmpty()) {
+      terminated = true;
+      Throwable error = upstreamError;
+      if (error != null) {
+        subscriber.onError(error);
+      } else {
+        subscriber.onComplete();
+      }
+      return;
+    }
+
+    requestUpstream();
+  }
+
+  private void sendBatches() {
+    while (!pending.isEmpty() && batches.size() < maxConcurrentBatches) {
+      boolean flush =
+          upstreamDone
+              || upstreamOutstanding == 0
+              || batchDelayElapsedGeneration == batchDelayGeneration;
+      if (pending.size() < maxBatchSize && !flush) {
+        break;
+      }
+      List<String> texts =
+          new ArrayList<>(pending.subList(0, Math.min(maxBatchSize, pending.size())));
+      pending.subList(0, texts.size()).clear();
+      batchDelayGeneration++;
+      batchDelayScheduled = false;
+      CompletableFuture<List<TextResult>> future;
+      try {
+        future = translator.translateTextAsync(texts, sourceLang, targetLang, options);
+      } catch (RuntimeException exception) {
+        // Invalid texts fail their batch, so the results of the preceding batches are published
+        future = new CompletableFuture<>();
+        future.completeExceptionally(exception);
+      }
+      Batch batch = new Batch(future, texts.size());
+      batches.addLast(batch);
+      batch.future.whenComplete((results, exception) -> drain());
+    }
+    if (!pending.isEmpty() && !batchDelayScheduled) {
+      batchDelayScheduled = true;
+      long generation = batchDelayGeneration;
+      translator.httpClientWrapper.runAfter(
+          maxBatchDelay,
+          () -> {
+            batchDelayElapsedGeneration = generation;
+            drain();
+          });
+    }
+  }
+
+  private void requestUpstream() {
+    Subscription subscription = upstream;
+    if (subscription == null || upstreamDone) {
+      return;
+    }
+    long held = pending.size() + upstreamOutstanding;
+    for (Batch batch : batches) {
+      held += batch.size - batch.emittedCount;
+    }
+    long capacity = (long) maxBatchSize * maxConcurrentBatches;
+    long wanted = Math.min(requested.get() - emitted, capacity) - held;
+    if (wanted > 0) {
+      upstreamOutstanding += wanted;
+      subscription.request(wanted);
+    }
+  }
+
+  private void terminate(@Nullable Throwable error) {
+    terminated = true;
+    cancelled = true;
+    Subscription subscription = upstream;
+    if (subscription != null && !upstreamDone) {
+      subscription.cancel();
+    }
+    for (Batch batch : batches) {
+      batch.future.cancel(true);
+    }
+    batches.clear();
+    pending.clear();
+    received.clear();
+    if (error != null) {
+      downstream.get().onError(error);
+    }
+  }
+
+  private static class Batch {
+    final CompletableFuture<List<TextResult>> future;
+    final int size;
+    int emittedCount;
+
+    Batch(CompletableFuture<List<TextResult>> future, int size) {
+      this.future = future;
+      this.size = size;
+    }
+  }
+}
@@ -3,14 +3,20 @@
 // license that can be found in the LICENSE file.
 package com.deepl.api;
 
+import com.deepl.api.http.HttpContent;
 import com.deepl.api.http.HttpResponse;
 import com.deepl.api.http.HttpResponseStream;
+import com.deepl.api.parsing.JsonArrayIterator;
 import com.deepl.api.parsing.Parser;
 import com.deepl.api.utils.*;
 import com.google.gson.*;
 import java.io.*;
 import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -23,10 +29,15 @@ public class Translator {
   private static final String DEEPL_SERVER_URL_FREE = "https://api-free.deepl.com";
   /** Base URL for DeepL API Pro accounts */
   private static final String DEEPL_SERVER_URL_PRO = "https://api.deepl.com";
+  /** Language cache time-to-live used for local validation if none is configured. */
+  private static final Duration DEFAULT_LANGUAGE_CACHE_TTL = Duration.ofHours(1);
 
   protected final Parser jsonParser = new Parser();
   protected final HttpClientWrapper httpClientWrapper;
   protected final DeepLApiVersion apiVersion;
+  private final @Nullable LanguageCache languageCache;
+  private final @Nullable GlossaryCache glossaryCache;
+  final @Nullable RequestValidator requestValidator;
 
   /**
    * Initializes a new Translator object using your Authentication Key.
@@ -64,9 +75,25 @@ public class Translator {
         "User-Agent",
         constructUserAgentString(options.getSendPlatformInfo(), options.getAppInfo()));
 
-    this.httpClientWrapper =
-        new HttpClientWrapper(
-            serverUrl, headers, options.getTimeout(), options.getProxy(), options.getMaxRetries());
+    this.httpClientWrapper = new HttpClientWrapper(serverUrl, headers, options);
+    Duration languageCacheTtl = options.getLanguageCacheTtl();
+    if (languageCacheTtl == null && options.getLocalValidation()) {
+      languageCacheTtl = DEFAULT_LANGUAGE_CACHE_TTL;
+    }
+    this.languageCache =
+        languageCacheTtl != null
+            ? new LanguageCache(
+                languageCacheTtl,
+                () -> fetchLanguages(LanguageType.Source),
+                () -> fetchLanguages(LanguageType.Target),
+                this::fetchGlossaryLanguages)
+            : null;
+    this.requestValidator =
+        options.getLocalValidation() ? new RequestValidator(languageCache) : null;
+    this.glossaryCache =
+        options.getGlossaryCacheTtl() != null
+            ? new GlossaryCache(options.getGlossaryCacheTtl())
+            : null;
   }
 
   /**
@@ -201,9 +228,14 @@ public class Translator {
       throws DeepLException, InterruptedException {
     Iterable<KeyValuePair<String, String>> params =
         createHttpParams(texts, sourceLang, targetLang, options);
+    checkTranslationLocally(
+        sourceLang,
+        targetLang,
+        options != null ? options.getFormality() : null,
+        options != null ? options.getGlossaryId() : null);
     HttpResponse response =
-        httpClientWrapper.sendRequestWithBackoff(
-            String.format("/%s/translate", this.apiVersion), params);
+        httpClientWrapper.sendHedgedRequestWithBackoff(
+            String.format("/%s/translate", this.apiVersion), params, RequestContext.of(options));
     checkResponse(response, false, false);
     return jsonParser.parseTextResult(response.getBody());
   }
@@ -250,6 +282,270 @@ public class Translator {
     return translateText(texts, sourceLang, targetLang, null);
   }
 
+  /**
+   * Functions the same as {@link Translator#translateText(List, String, String,
+   * TextTranslationOptions)} but returns immediately. The request and any retries run on a shared
+   * executor, and no thread is occupied while waiting to retry. Requests are not hedged. With
+   * {@link TranslatorOptions#setLocalValidation}, the languages and options are checked on the
+   * executor too, as the check may retrieve the supported languages first.
+   *
+   * @return Future completed with the translated texts, or completed exceptionally with a {@link
+   *     DeepLException} if any error occurs while communicating with the DeepL API, or with an
+   *     {@link IllegalArgumentException} if local validation rejects the request. Cancelling the
+   *     future prevents further retries.
+   * @throws IllegalArgumentException If any argument is invalid.
+   * @see Translator#translateText(List, String, String, TextTranslationOptions)
+   */
+  public CompletableFuture<List<TextResult>> translateTextAsync(
+      List<String> texts,
+      @Nullable String sourceLang,
+      String targetLang,
+      @Nullable TextTranslationOptions options) {
+    Iterable<KeyValuePair<String, String>> params =
+        createHttpParams(texts, sourceLang, targetLang, options);
+    String relativeUrl = String.format("/%s/translate", this.apiVersion);
+    RequestContext context = RequestContext.of(options);
+    CompletableFuture<List<TextResult>> result = new CompletableFuture<>();
+    if (requestValidator == null) {
+      sendTranslationAsync(relativeUrl, params, context, result);
+    } else {
+      CompletableFuture.runAsync(
+              () -> {
+                try {
+                  checkTranslationLocally(
+                      sourceLang,
+                      targetLang,
+                      options != null ? options.getFormality() : null,
+                      options != null ? options.getGlossaryId() : null);
+                } catch (InterruptedException exception) {
+                  Thread.currentThread().interrupt();
+                  throw new CompletionException(exception);
+                } catch (DeepLException exception) {
+                  throw new CompletionException(exception);
+                }
+              },
+              httpClientWrapper.getRequestExecutor())
+          .whenComplete(
+              (ignored, exception) -> {
+                if (exception != null) {
+                  result.completeExceptionally(exception);
+                } else {
+                  sendTranslationAsync(relativeUrl, params, context, result);
+                }
+              });
+    }
+    return result;
+  }
+
+  /**
+   * Sends a text translation request, completing the result with the parsed response. Cancelling
+   * the result cancels the request, as {@link CompletableFuture} does not propagate cancellation to
+   * the futures it depends on.
+   */
+  private void sendTranslationAsync(
+      String relativeUrl,
+      Iterable<KeyValuePair<String, String>> params,
+      RequestContext context,
+      CompletableFuture<List<TextResult>> result) {
+    if (result.isDone()) {
+      // Cancelled by the caller during local validation
+      return;
+    }
+    CompletableFuture<HttpResponse> response =
+        httpClientWrapper.sendRequestWithBackoffAsync(relativeUrl, params, context);
+    result.whenComplete(
+        (results, exception) -> {
+          if (result.isCancelled()) {
+            response.cancel(true);
+          }
+        });
+    response.whenComplete(
+        (stringResponse, requestException) -> {
+          if (requestException != null) {
+            result.completeExceptionally(requestException);
+            return;
+          }
+          try {
+            checkResponse(stringResponse, false, false);
+            result.complete(jsonParser.parseTextResult(stringResponse.getBody()));
+          } catch (DeepLException | RuntimeException exception) {
+            result.completeExceptionally(exception);
+          }
+        });
+  }
+
+  /**
+   * Functions the same as {@link Translator#translateTextAsync(List, String, String,
+   * TextTranslationOptions)} but translates a single text.
+   *
+   * @see Translator#translateTextAsync(List, String, String, TextTranslationOptions)
+   */
+  public CompletableFuture<TextResult> translateTextAsync(
+      String text,
+      @Nullable String sourceLang,
+      String targetLang,
+      @Nullable TextTranslationOptions options) {
+    CompletableFuture<List<TextResult>> results =
+        translateTextAsync(Collections.singletonList(text), sourceLang, targetLang, options);
+    CompletableFuture<TextResult> result = results.thenApply(textResults -> textResults.get(0));
+    // Cancellation is not propagated to the futures a stage depends on
+    result.whenComplete(
+        (textResult, exception) -> {
+          if (result.isCancelled()) {
+            results.cancel(true);
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Translates the texts into each of the target languages, sending the requests for all target
+   * languages concurrently. With {@link TranslatorOptions#setVirtualThreads} on Java 21 and later,
+   * each request runs on its own virtual thread.
+   *
+   * @param texts Texts to translate.
+   * @param sourceLang Language code of the input language, or <code>null</code> to use
+   *     auto-detection.
+   * @param targetLangs Language codes of the desired output languages.
+   * @param options Options influencing translation, or <code>null</code> to use defaults.
+   * @return Map from each target language code to the translated texts, in the order of the
+   *     target languages.
+   * @throws InterruptedException If the thread is interrupted while waiting for the translations;
+   *     any outstanding requests are cancelled.
+   * @throws DeepLException If any error occurs while communicating with the DeepL API; the first
+   *     error is thrown and outstanding requests are cancelled.
+   * @see Translator#translateText(List, String, String, TextTranslationOptions)
+   */
+  public Map<String, List<TextResult>> translateTextToTargets(
+      List<String> texts,
+      @Nullable String sourceLang,
+      List<String> targetLangs,
+      @Nullable TextTranslationOptions options)
+      throws DeepLException, InterruptedException {
+    if (targetLangs.isEmpty()) {
+      throw new IllegalArgumentException("targetLangs must not be empty");
+    }
+    List<Future<List<TextResult>>> futures = new ArrayList<>(targetLangs.size());
+    try {
+      for (String targetLang : targetLangs) {
+        FutureTask<List<TextResult>> task =
+            new FutureTask<>(() -> translateText(texts, sourceLang, targetLang, options));
+        futures.add(task);
+        httpClientWrapper.getRequestExecutor().execute(task);
+      }
+      Map<String, List<TextResult>> results = new LinkedHashMap<>();
+      for (int i = 0; i < targetLangs.size(); i++) {
+        try {
+          results.put(targetLangs.get(i), futures.get(i).get());
+        } catch (ExecutionException exception) {
+          Throwable cause = exception.getCause();
+          if (cause instanceof DeepLException) {
+            throw (DeepLException) cause;
+          } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+          }
+          throw new DeepLException("Translation failed", cause);
+        }
+      }
+      return results;
+    } finally {
+      for (Future<List<TextResult>> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Creates a factory for threads running requests, using virtual threads if enabled in the
+   * {@link TranslatorOptions}.
+   */
+  ThreadFactory newThreadFactory(String namePrefix) {
+    return VirtualThreads.newThreadFactory(namePrefix, httpClientWrapper.usesVirtualThreads());
+  }
+
+  /**
+   * Checks the specified languages and options are valid, and compiles them into an immutable,
+   * pre-encoded form that may be reused for any number of translations. Use this function when
+   * translating many texts with the same languages and options, to avoid rebuilding the request
+   * parameters on every call.
+   *
+   * @param sourceLang Language code of the input language, or <code>null</code> to use
+   *     auto-detection.
+   * @param targetLang Language code of the desired output language.
+   * @param options Options influencing translation.
+   * @return Compiled options to pass to {@link Translator#translateText(List,
+   *     CompiledTextTranslationOptions)}.
+   * @throws IllegalArgumentException If any argument is invalid.
+   * @throws InterruptedException If the thread is interrupted while loading languages for local
+   *     validation.
+   * @throws DeepLException If an error occurs while encoding the request parameters.
+   */
+  public CompiledTextTranslationOptions compileTextTranslationOptions(
+      @Nullable String sourceLang, String targetLang, @Nullable TextTranslationOptions options)
+      throws DeepLException, InterruptedException {
+    ArrayList<KeyValuePair<String, String>> params =
+        createHttpParamsCommon(
+            sourceLang,
+            targetLang,
+            options != null ? options.getFormality() : null,
+            options != null ? options.getGlossaryId() : null);
+    checkTranslationLocally(
+        sourceLang,
+        targetLang,
+        options != null ? options.getFormality() : null,
+        options != null ? options.getGlossaryId() : null);
+    addTextTranslationOptionParams(params, options);
+    boolean textOverridden =
+        options != null
+            && options.getExtraBodyParameters() != null
+            && options.getExtraBodyParameters().containsKey("text");
+    return new CompiledTextTranslationOptions(
+        sourceLang == null ? null : LanguageCode.standardize(sourceLang),
+        LanguageCode.standardize(targetLang),
+        HttpContent.encodeFormURLEncodedParams(params),
+        textOverridden,
+        RequestContext.of(options));
+  }
+
+  /**
+   * Translate specified texts using languages and options compiled with {@link
+   * Translator#compileTextTranslationOptions}.
+   *
+   * @param texts List of texts to translate; each text must not be empty.
+   * @param compiledOptions Compiled languages and options influencing translation.
+   * @return List of texts translated into specified target language, and detected source language.
+   * @throws InterruptedException If the thread is interrupted during execution of this function.
+   * @throws DeepLException If any error occurs while communicating with the DeepL API.
+   */
+  public List<TextResult> translateText(
+      List<String> texts, CompiledTextTranslationOptions compiledOptions)
+      throws DeepLException, InterruptedException {
+    checkValidTexts(texts);
+    HttpContent content =
+        HttpContent.buildFormURLEncodedContent(
+            compiledOptions.getEncodedParams(),
+            "text",
+            compiledOptions.isTextOverridden() ? Collections.emptyList() : texts);
+    HttpResponse response =
+        httpClientWrapper.sendHedgedRequestWithBackoff(
+            String.format("/%s/translate", this.apiVersion),
+            content,
+            compiledOptions.getRequestContext());
+    checkResponse(response, false, false);
+    return jsonParser.parseTextResult(response.getBody());
+  }
+
+  /**
+   * Functions the same as {@link Translator#translateText(List, CompiledTextTranslationOptions)}
+   * but translates a single text.
+   *
+   * @see Translator#translateText(List, CompiledTextTranslationOptions)
+   */
+  public TextResult translateText(String text, CompiledTextTranslationOptions compiledOptions)
+      throws DeepLException, InterruptedException {
+    return translateText(Collections.singletonList(text), compiledOptions).get(0);
+  }
+
   /**
    * Retrieves the usage in the current billing period for this DeepL account. This function can
    * also be used to check connectivity with the DeepL API and that the account has access.
@@ -300,6 +596,14 @@ public class Translator {
    */
   public List<Language> getLanguages(LanguageType languageType)
       throws DeepLException, InterruptedException {
+    if (languageCache != null) {
+      return languageCache.getLanguages(languageType);
+    }
+    return fetchLanguages(languageType);
+  }
+
+  private List<Language> fetchLanguages(LanguageType languageType)
+      throws DeepLException, InterruptedException {
     ArrayList<KeyValuePair<String, String>> params = new ArrayList<>();
     if (languageType == LanguageType.Target) {
       params.add(new KeyValuePair<>("type", "target"));
@@ -308,7 +612,11 @@ public class Translator {
         httpClientWrapper.sendRequestWithBackoff(
             String.format("/%s/languages", apiVersion), params);
     checkResponse(response, false, false);
-    return jsonParser.parseLanguages(response.getBody());
+    List<Language> languages = jsonParser.parseLanguages(response.getBody());
+    for (Language language : languages) {
+      LanguageCode.learn(language.getCode());
+    }
+    return languages;
   }
 
   /**
@@ -322,6 +630,36 @@ public class Translator {
    */
   public List<GlossaryLanguagePair> getGlossaryLanguages()
       throws DeepLException, InterruptedException {
+    if (languageCache != null) {
+      return languageCache.getGlossaryLanguages();
+    }
+    return fetchGlossaryLanguages();
+  }
+
+  /**
+   * Returns the cache of supported languages and glossary language pairs, providing constant-time
+   * lookups such as whether a language code is a supported target language.
+   *
+   * @return The {@link LanguageCache}, or <code>null</code> if no time-to-live was set using
+   *     {@link TranslatorOptions#setLanguageCacheTtl}.
+   */
+  public @Nullable LanguageCache getLanguageCache() {
+    return languageCache;
+  }
+
+  /**
+   * Returns the cache of glossary information, which can be used to invalidate glossaries that
+   * were changed by other clients.
+   *
+   * @return The {@link GlossaryCache}, or <code>null</code> if no time-to-live was set using
+   *     {@link TranslatorOptions#setGlossaryCacheTtl}.
+   */
+  public @Nullable GlossaryCache getGlossaryCache() {
+    return glossaryCache;
+  }
+
+  private List<GlossaryLanguagePair> fetchGlossaryLanguages()
+      throws DeepLException, InterruptedException {
     HttpResponse response =
         httpClientWrapper.sendGetRequestWithBackoff(
             String.format("/%s/glossary-language-pairs", apiVersion));
@@ -408,9 +746,12 @@ public class Translator {
       throws DocumentTranslationException {
     DocumentHandle handle = null;
     try {
-      handle = translateDocumentUpload(inputStream, fileName, sourceLang, targetLang, options);
-      DocumentStatus status = translateDocumentWaitUntilDone(handle);
-      translateDocumentDownload(handle, outputStream);
+      // All steps share the deadline, including waiting for the translation to complete
+      RequestContext context = RequestContext.of(options).start();
+      handle =
+          translateDocumentUpload(inputStream, fileName, sourceLang, targetLang, options, context);
+      DocumentStatus status = translateDocumentWaitUntilDone(handle, context);
+      translateDocumentDownload(handle, outputStream, context);
       return status;
     } catch (Exception exception) {
       throw new DocumentTranslationException(
@@ -460,10 +801,19 @@ public class Translator {
       throws DeepLException, IOException, InterruptedException {
     Iterable<KeyValuePair<String, String>> params =
         createHttpParams(sourceLang, targetLang, options);
+    checkTranslationLocally(
+        sourceLang,
+        targetLang,
+        options != null ? options.getFormality() : null,
+        options != null ? options.getGlossaryId() : null);
     try (FileInputStream inputStream = new FileInputStream(inputFile)) {
       HttpResponse response =
           httpClientWrapper.uploadWithBackoff(
-              String.format("/%s/document", apiVersion), params, inputFile.getName(), inputStream);
+              String.format("/%s/document", apiVersion),
+              params,
+              inputFile.getName(),
+              inputStream,
+              RequestContext.of(options));
       checkResponse(response, false, false);
       return jsonParser.parseDocumentHandle(response.getBody());
     }
@@ -504,11 +854,28 @@ public class Translator {
       String targetLang,
       @Nullable DocumentTranslationOptions options)
       throws DeepLException, InterruptedException {
+    return translateDocumentUpload(
+        inputStream, fileName, sourceLang, targetLang, options, RequestContext.of(options));
+  }
+
+  private DocumentHandle translateDocumentUpload(
+      InputStream inputStream,
+      String fileName,
+      @Nullable String sourceLang,
+      String targetLang,
+      @Nullable DocumentTranslationOptions options,
+      RequestContext context)
+      throws DeepLException, InterruptedException {
     Iterable<KeyValuePair<String, String>> params =
         createHttpParams(sourceLang, targetLang, options);
+    checkTranslationLocally(
+        sourceLang,
+        targetLang,
+        options != null ? options.getFormality() : null,
+        options != null ? options.getGlossaryId() : null);
     HttpResponse response =
         httpClientWrapper.uploadWithBackoff(
-            String.format("/%s/document/", apiVersion), params, fileName, inputStream);
+            String.format("/%s/document/", apiVersion), params, fileName, inputStream, context);
     checkResponse(response, false, false);
     return jsonParser.parseDocumentHandle(response.getBody());
   }
@@ -536,10 +903,15 @@ public class Translator {
    */
   public DocumentStatus translateDocumentStatus(DocumentHandle handle)
       throws DeepLException, InterruptedException {
+    return translateDocumentStatus(handle, RequestContext.DEFAULT);
+  }
+
+  private DocumentStatus translateDocumentStatus(DocumentHandle handle, RequestContext context)
+      throws DeepLException, InterruptedException {
     ArrayList<KeyValuePair<String, String>> params = new ArrayList<>();
     params.add(new KeyValuePair<>("document_key", handle.getDocumentKey()));
     String relativeUrl = String.format("/%s/document/%s", apiVersion, handle.getDocumentId());
-    HttpResponse response = httpClientWrapper.sendRequestWithBackoff(relativeUrl, params);
+    HttpResponse response = httpClientWrapper.sendRequestWithBackoff(relativeUrl, params, context);
     checkResponse(response, false, false);
     return jsonParser.parseDocumentStatus(response.getBody());
   }
@@ -557,10 +929,20 @@ public class Translator {
    */
   public DocumentStatus translateDocumentWaitUntilDone(DocumentHandle handle)
       throws InterruptedException, DeepLException {
-    DocumentStatus status = translateDocumentStatus(handle);
+    return translateDocumentWaitUntilDone(handle, RequestContext.DEFAULT);
+  }
+
+  private DocumentStatus translateDocumentWaitUntilDone(
+      DocumentHandle handle, RequestContext context) throws InterruptedException, DeepLException {
+    DocumentStatus status = translateDocumentStatus(handle, context);
     while (status.ok() && !status.done()) {
-      Thread.sleep(calculateDocumentWaitTimeMillis(status.getSecondsRemaining()));
-      status = translateDocumentStatus(handle);
+      long waitTimeMillis = calculateDocumentWaitTimeMillis(status.getSecondsRemaining());
+      if (!context.hasTimeAfter(Duration.ofMillis(waitTimeMillis))) {
+        throw new DeadlineExceededException(
+            "Deadline exceeded while waiting for document translation to complete", null);
+      }
+      Thread.sleep(waitTimeMillis);
+      status = translateDocumentStatus(handle, context);
     }
 
     if (!status.ok()) {
@@ -571,6 +953,60 @@ public class Translator {
     return status;
   }
 
+  /**
+   * Functions the same as {@link Translator#translateDocumentWaitUntilDone(DocumentHandle)} but
+   * returns immediately. Status requests run on a shared executor, and waiting between them is
+   * scheduled, so no thread is occupied while the document is being translated.
+   *
+   * @param handle Handle associated with document translation to wait for.
+   * @return Future completed with the status when document translation completed, or completed
+   *     exceptionally with a {@link DeepLException} if the translation failed or any error occurs
+   *     while communicating with the DeepL API. Cancelling the future stops polling.
+   */
+  public CompletableFuture<DocumentStatus> translateDocumentWaitUntilDoneAsync(
+      DocumentHandle handle) {
+    CompletableFuture<DocumentStatus> result = new CompletableFuture<>();
+    pollDocumentStatus(handle, result);
+    return result;
+  }
+
+  private void pollDocumentStatus(DocumentHandle handle, CompletableFuture<DocumentStatus> result) {
+    ArrayList<KeyValuePair<String, String>> params = new ArrayList<>();
+    params.add(new KeyValuePair<>("document_key", handle.getDocumentKey()));
+    String relativeUrl = String.format("/%s/document/%s", apiVersion, handle.getDocumentId());
+    httpClientWrapper
+        .sendRequestWithBackoffAsync(relativeUrl, params, RequestContext.DEFAULT)
+        .whenComplete(
+            (response, exception) -> {
+              if (result.isDone()) {
+                return;
+              }
+              try {
+                if (exception != null) {
+                  throw exception;
+                }
+                checkResponse(response, false, false);
+                DocumentStatus status = jsonParser.parseDocumentStatus(response.getBody());
+                if (!status.ok()) {
+                  String message =
+                      (status.getErrorMessage() != null)
+                          ? status.getErrorMessage()
+                          : "Unknown error";
+                  result.completeExceptionally(new DeepLException(message));
+                } else if (status.done()) {
+                  result.complete(status);
+                } else {
+                  long waitTimeMillis =
+                      calculateDocumentWaitTimeMillis(status.getSecondsRemaining());
+                  httpClientWrapper.runAfter(
+                      Duration.ofMillis(waitTimeMillis), () -> pollDocumentStatus(handle, result));
+                }
+              } catch (Throwable throwable) {
+                result.completeExceptionally(throwable);
+              }
+            });
+  }
+
   /**
    * Downloads the resulting translated document associated with specified handle to the specified
    * output file. The document translation must be complete i.e. {@link DocumentStatus#done()} for
@@ -610,11 +1046,18 @@ public class Translator {
    */
   public void translateDocumentDownload(DocumentHandle handle, OutputStream outputStream)
       throws DeepLException, IOException, InterruptedException {
+    translateDocumentDownload(handle, outputStream, RequestContext.DEFAULT);
+  }
+
+  private void translateDocumentDownload(
+      DocumentHandle handle, OutputStream outputStream, RequestContext context)
+      throws DeepLException, IOException, InterruptedException {
     ArrayList<KeyValuePair<String, String>> params = new ArrayList<>();
     params.add(new KeyValuePair<>("document_key", handle.getDocumentKey()));
     String relativeUrl =
         String.format("/%s/document/%s/result", apiVersion, handle.getDocumentId());
-    try (HttpResponseStream response = httpClientWrapper.downloadWithBackoff(relativeUrl, params)) {
+    try (HttpResponseStream response =
+        httpClientWrapper.downloadWithBackoff(relativeUrl, params, context)) {
       checkResponse(response);
       assert response.getBody() != null;
       StreamUtil.transferTo(response.getBody(), outputStream);
@@ -638,7 +1081,7 @@ public class Translator {
   public GlossaryInfo createGlossary(
       String name, String sourceLang, String targetLang, GlossaryEntries entries)
       throws DeepLException, InterruptedException {
-    return createGlossaryInternal(name, sourceLang, targetLang, "tsv", entries.toTsv());
+    return createGlossaryInternal(name, sourceLang, targetLang, "tsv", entries::writeTsv);
   }
 
   /**
@@ -682,7 +1125,8 @@ public class Translator {
   public GlossaryInfo createGlossaryFromCsv(
       String name, String sourceLang, String targetLang, String csvContent)
       throws DeepLException, InterruptedException {
-    return createGlossaryInternal(name, sourceLang, targetLang, "csv", csvContent);
+    return createGlossaryInternal(
+        name, sourceLang, targetLang, "csv", output -> output.append(csvContent));
   }
 
   /**
@@ -696,10 +1140,15 @@ public class Translator {
    * @throws DeepLException If any error occurs while communicating with the DeepL API.
    */
   public GlossaryInfo getGlossary(String glossaryId) throws DeepLException, InterruptedException {
+    GlossaryCache.Cached<GlossaryInfo> cached =
+        glossaryCache != null ? glossaryCache.getGlossary(glossaryId) : null;
+    if (cached != null) {
+      return cached.getOrThrow(glossaryId);
+    }
     String relativeUrl = String.format("/%s/glossaries/%s", apiVersion, glossaryId);
     HttpResponse response = httpClientWrapper.sendGetRequestWithBackoff(relativeUrl);
-    checkResponse(response, false, true);
-    return jsonParser.parseGlossaryInfo(response.getBody());
+    checkGlossaryResponse(response, glossaryId);
+    return rememberGlossary(jsonParser.parseGlossaryInfo(response.getBody()));
   }
 
   /**
@@ -715,7 +1164,52 @@ public class Translator {
     HttpResponse response =
         httpClientWrapper.sendGetRequestWithBackoff(String.format("/%s/glossaries", apiVersion));
     checkResponse(response, false, false);
-    return jsonParser.parseGlossaryInfoList(response.getBody());
+    List<GlossaryInfo> glossaries = jsonParser.parseGlossaryInfoList(response.getBody());
+    glossaries.forEach(this::rememberGlossary);
+    return glossaries;
+  }
+
+  /**
+   * Functions the same as {@link Translator#listGlossaries()} but returns a lazily populated
+   * stream. Glossaries are parsed one at a time while the stream is consumed, so that the first
+   * glossary is available without waiting for the whole list, and the list is not held in memory.
+   * The connection stays open until the stream is exhausted or closed; use try-with-resources when
+   * the stream may not be consumed entirely.
+   *
+   * @return Stream of {@link GlossaryInfo} objects with details about each glossary.
+   * @throws InterruptedException If the thread is interrupted during execution of this function.
+   * @throws DeepLException If any error occurs while communicating with the DeepL API. Errors
+   *     reading the stream are thrown as {@link UncheckedDeepLException} during consumption.
+   */
+  public Stream<GlossaryInfo> streamGlossaries() throws DeepLException, InterruptedException {
+    HttpResponseStream response =
+        httpClientWrapper.sendGetRequestStreamWithBackoff(
+            String.format("/%s/glossaries", apiVersion));
+    checkResponse(response, false, false);
+    return toStream(openListStream(response, jsonParser::parseGlossaryInfoListStream))
+        .map(this::rememberGlossary);
+  }
+
+  /** Functional interface for the streaming list parsing functions of {@link Parser}. */
+  interface ListStreamParser<T> {
+    JsonArrayIterator<T> parse(Reader reader) throws IOException;
+  }
+
+  /** Opens a streaming parser over a successful list response, closing the response on failure. */
+  <T> JsonArrayIterator<T> openListStream(
+      HttpResponseStream response, ListStreamParser<T> parser) throws DeepLException {
+    try {
+      if (response.getBody() == null) {
+        throw new DeepLException("response stream is empty");
+      }
+      return parser.parse(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+    } catch (IOException exception) {
+      response.close();
+      throw new DeepLException("Error reading stream", exception);
+    } catch (DeepLException | RuntimeException exception) {
+      response.close();
+      throw exception;
+    }
   }
 
   /**
@@ -772,6 +1266,7 @@ public class Translator {
     String relativeUrl = String.format("/%s/glossaries/%s", apiVersion, glossaryId);
     HttpResponse response = httpClientWrapper.sendDeleteRequestWithBackoff(relativeUrl);
     checkResponse(response, false, true);
+    forgetDeletedGlossary(glossaryId);
   }
 
   /**
@@ -796,11 +1291,21 @@ public class Translator {
             targetLang,
             options != null ? options.getFormality() : null,
             options != null ? options.getGlossaryId() : null);
-    texts.forEach(
-        (text) -> {
-          if (text.isEmpty()) throw new IllegalArgumentException("text must not be empty");
-          params.add(new KeyValuePair<>("text", text));
-        });
+    checkValidTexts(texts);
+    texts.forEach((text) -> params.add(new KeyValuePair<>("text", text)));
+    addTextTranslationOptionParams(params, options);
+    return params;
+  }
+
+  /**
+   * Adds the parameters for the given text translation options, excluding the formality and
+   * glossary ID, to the HTTP request parameters.
+   *
+   * @param params List of HTTP parameters to add to.
+   * @param options Options influencing translation.
+   */
+  private static void addTextTranslationOptionParams(
+      ArrayList<KeyValuePair<String, String>> params, @Nullable TextTranslationOptions options) {
     // Always send show_billed_characters=1, remove when the API default is changed to true
     params.add(new KeyValuePair<>("show_billed_characters", "1"));
 
@@ -872,7 +1377,13 @@ public class Translator {
       }
       addExtraBodyParameters(params, options.getExtraBodyParameters());
     }
-    return params;
+  }
+
+  /** Checks the specified texts to translate are valid. */
+  private static void checkValidTexts(List<String> texts) throws IllegalArgumentException {
+    for (String text : texts) {
+      if (text.isEmpty()) throw new IllegalArgumentException("text must not be empty");
+    }
   }
 
   /**
@@ -1006,21 +1517,145 @@ public class Translator {
     }
   }
 
-  /** Creates a glossary with given details. */
+  /**
+   * If local validation is enabled, checks the languages, formality and glossary of a translation
+   * request against the cached languages and known glossaries.
+   *
+   * @throws IllegalArgumentException If the request would be rejected by the DeepL API.
+   */
+  void checkTranslationLocally(
+      @Nullable String sourceLang,
+      String targetLang,
+      @Nullable Formality formality,
+      @Nullable String glossaryId)
+      throws DeepLException, InterruptedException {
+    if (requestValidator != null) {
+      requestValidator.checkTranslation(sourceLang, targetLang, formality, glossaryId);
+    }
+  }
+
+  /**
+   * If local validation is enabled, checks that glossaries are supported for the given language
+   * pair.
+   *
+   * @throws IllegalArgumentException If the language pair is not supported for glossaries.
+   */
+  void checkGlossaryLanguagesLocally(String sourceLang, String targetLang)
+      throws DeepLException, InterruptedException {
+    if (requestValidator != null) {
+      requestValidator.checkGlossaryLanguagePair(sourceLang, targetLang);
+    }
+  }
+
+  /**
+   * Records the language pair of the glossary for local validation and caches the glossary, if
+   * enabled.
+   */
+  GlossaryInfo rememberGlossary(GlossaryInfo glossary) {
+    if (requestValidator != null) {
+      requestValidator.rememberGlossary(glossary);
+    }
+    if (glossaryCache != null) {
+      glossaryCache.put(glossary);
+    }
+    return glossary;
+  }
+
+  /**
+   * Records the language pairs of the glossary for local validation and caches the glossary, if
+   * enabled.
+   */
+  MultilingualGlossaryInfo rememberGlossary(MultilingualGlossaryInfo glossary) {
+    if (requestValidator != null) {
+      requestValidator.rememberGlossary(glossary);
+    }
+    if (glossaryCache != null) {
+      glossaryCache.put(glossary);
+    }
+    return glossary;
+  }
+
+  /**
+   * Updates the recorded glossary after one of its dictionaries was replaced or deleted. If the
+   * glossary is not cached, the glossary is forgotten instead.
+   *
+   * @param glossaryDict The new dictionary, or <code>null</code> if the dictionary was deleted.
+   */
+  void rememberGlossaryDictionary(
+      String glossaryId,
+      String sourceLanguageCode,
+      String targetLanguageCode,
+      @Nullable MultilingualGlossaryDictionaryInfo glossaryDict) {
+    MultilingualGlossaryInfo glossary =
+        glossaryCache != null
+            ? glossaryCache.withDictionary(
+                glossaryId, sourceLanguageCode, targetLanguageCode, glossaryDict)
+            : null;
+    if (glossary != null) {
+      rememberGlossary(glossary);
+    } else {
+      forgetGlossary(glossaryId);
+    }
+  }
+
+  /** Forgets the language pairs and cached information of the glossary. */
+  void forgetGlossary(String glossaryId) {
+    if (requestValidator != null) {
+      requestValidator.forgetGlossary(glossaryId);
+    }
+    if (glossaryCache != null) {
+      glossaryCache.invalidate(glossaryId);
+    }
+  }
+
+  /** Forgets the glossary, and caches that it does not exist, if enabled. */
+  void forgetDeletedGlossary(String glossaryId) {
+    if (requestValidator != null) {
+      requestValidator.forgetGlossary(glossaryId);
+    }
+    if (glossaryCache != null) {
+      glossaryCache.putNotFound(glossaryId);
+    }
+  }
+
+  /**
+   * Checks the response to a request for the glossary with the given ID, caching the glossary as
+   * not found if the DeepL API reports it does not exist.
+   */
+  void checkGlossaryResponse(HttpResponse response, String glossaryId) throws DeepLException {
+    try {
+      checkResponse(response, false, true);
+    } catch (GlossaryNotFoundException exception) {
+      forgetDeletedGlossary(glossaryId);
+      throw exception;
+    }
+  }
+
+  /**
+   * Creates a glossary with given details. The entries are URL-encoded while they are written to
+   * the request body.
+   */
   private GlossaryInfo createGlossaryInternal(
-      String name, String sourceLang, String targetLang, String entriesFormat, String entries)
+      String name,
+      String sourceLang,
+      String targetLang,
+      String entriesFormat,
+      HttpContent.FormValueWriter entries)
       throws DeepLException, InterruptedException {
+    checkGlossaryLanguagesLocally(sourceLang, targetLang);
     ArrayList<KeyValuePair<String, String>> params = new ArrayList<>();
     params.add(new KeyValuePair<>("name", name));
     params.add(new KeyValuePair<>("source_lang", sourceLang));
     params.add(new KeyValuePair<>("target_lang", targetLang));
     params.add(new KeyValuePair<>("entries_format", entriesFormat));
-    params.add(new KeyValuePair<>("entries", entries));
+    HttpContent content =
+        HttpContent.buildFormURLEncodedContent(
+            params, Collections.singletonList(new KeyValuePair<>("entries", entries)));
     HttpResponse response =
         httpClientWrapper.sendRequestWithBackoff(
-            String.format("/%s/glossaries", apiVersion), params);
+            String.format("/%s/glossaries", apiVersion), content);
     checkResponse(response, false, false);
-    return jsonParser.parseGlossaryInfo(response.getBody());
+    return rememberGlossary(jsonParser.parseGlossaryInfo(response.getBody()));
   }
 
   /**
@@ -1031,6 +1666,19 @@ public class Translator {
    * @see Translator#checkResponse(HttpResponse, boolean, boolean)
    */
   private void checkResponse(HttpResponseStream response) throws DeepLException {
+    checkResponse(response, true, false);
+  }
+
+  /**
+   * Functions the same as {@link Translator#checkResponse(HttpResponse, boolean, boolean)} but
+   * accepts a response stream. If the HTTP status code represents failure, the response stream is
+   * converted to a String response to throw the appropriate exception.
+   *
+   * @see Translator#checkResponse(HttpResponse, boolean, boolean)
+   */
+  protected void checkResponse(
+      HttpResponseStream response, boolean inDocumentDownload, boolean usingGlossary)
+      throws DeepLException {
     if (response.getCode() >= HttpURLConnection.HTTP_OK
         && response.getCode() < HttpURLConnection.HTTP_BAD_REQUEST) {
       return;
@@ -1038,7 +1686,26 @@ public class Translator {
     if (response.getBody() == null) {
       throw new DeepLException("response stream is empty");
     }
-    checkResponse(response.toStringResponse(), true, false);
+    checkResponse(response.toStringResponse(), inDocumentDownload, usingGlossary);
+  }
+
+  /**
+   * Returns a sequential stream over the given iterator, that closes the iterator when the stream
+   * is closed.
+   */
+  static <T, I extends Iterator<T> & Closeable> Stream<T> toStream(I iterator) {
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(
+            () -> {
+              try {
+                iterator.close();
+              } catch (IOException ignored) {
+                // Closing only releases resources
+              }
+            });
   }
 
   /**
@@ -26,6 +26,15 @@ public class TranslatorOptions {
   @Nullable private String serverUrl = null;
   private boolean sendPlatformInfo = true;
   @Nullable private AppInfo appInfo = null;
+  @Nullable private Duration languageCacheTtl = null;
+  @Nullable private Duration glossaryCacheTtl = null;
+  private boolean localValidation = false;
+  @Nullable private CircuitBreaker circuitBreaker = null;
+  @Nullable private RequestHedging requestHedging = null;
+  @Nullable private RetryBudget retryBudget = null;
+  @Nullable private RequestScheduler requestScheduler = null;
+  @Nullable private ConcurrencyLimiter concurrencyLimiter = null;
+  private boolean virtualThreads = false;
   @Nullable protected DeepLApiVersion apiVersion = null;
 
   /** @deprecated Use {@link DeepLClient} instead. */
@@ -98,6 +107,123 @@ public class TranslatorOptions {
     return this;
   }
 
+  /**
+   * Set the time-to-live for cached source languages, target languages and glossary language
+   * pairs. By default, this value is <code>null</code> and each call to {@link
+   * Translator#getSourceLanguages()}, {@link Translator#getTargetLanguages()} and {@link
+   * Translator#getGlossaryLanguages()} sends a request to the DeepL API. When set, results are
+   * cached and refreshed in the background shortly before the time-to-live elapses, see {@link
+   * LanguageCache}.
+   *
+   * @throws IllegalArgumentException If the time-to-live is zero or negative.
+   */
+  public TranslatorOptions setLanguageCacheTtl(@Nullable Duration languageCacheTtl) {
+    if (languageCacheTtl != null && (languageCacheTtl.isZero() || languageCacheTtl.isNegative())) {
+      throw new IllegalArgumentException("languageCacheTtl must be positive");
+    }
+    this.languageCacheTtl = languageCacheTtl;
+    return this;
+  }
+
+  /**
+   * Set the time-to-live for cached glossary information. By default, this value is <code>null
+   * </code> and each call to {@link Translator#getGlossary} and {@link
+   * DeepLClient#getMultilingualGlossary} sends a request to the DeepL API. When set, glossaries
+   * that were created, listed or retrieved, and glossaries that were not found, are cached and
+   * returned without a request until the time-to-live elapses, see {@link GlossaryCache}.
+   *
+   * @throws IllegalArgumentException If the time-to-live is zero or negative.
+   */
+  public TranslatorOptions setGlossaryCacheTtl(@Nullable Duration glossaryCacheTtl) {
+    if (glossaryCacheTtl != null && (glossaryCacheTtl.isZero() || glossaryCacheTtl.isNegative())) {
+      throw new IllegalArgumentException("glossaryCacheTtl must be positive");
+    }
+    this.glossaryCacheTtl = glossaryCacheTtl;
+    return this;
+  }
+
+  /**
+   * Set whether to check languages, formality and glossary language pairs locally before sending
+   * requests, rejecting invalid requests with an {@link IllegalArgumentException} instead of a
+   * round trip to the DeepL API. Defaults to <code>false</code>. Validation uses the {@link
+   * LanguageCache}; if no time-to-live was set using {@link #setLanguageCacheTtl}, one hour is
+   * used.
+   */
+  public TranslatorOptions setLocalValidation(boolean localValidation) {
+    this.localValidation = localValidation;
+    return this;
+  }
+
+  /**
+   * Set a circuit breaker to fail requests fast while the DeepL API is failing. By default, this
+   * value is <code>null</code> and each request is retried up to the maximum number of retries.
+   * When set, retries stop once the circuit of an endpoint opens, and further requests to it throw
+   * {@link CircuitBreakerOpenException} until trial requests succeed again, see {@link
+   * CircuitBreaker}.
+   */
+  public TranslatorOptions setCircuitBreaker(@Nullable CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+    return this;
+  }
+
+  /**
+   * Set request hedging for text translations. By default, this value is <code>null</code> and
+   * each text translation sends a single request. When set, a text translation that has not
+   * completed after the hedge delay sends a duplicate request and uses the first response, within
+   * the hedging budget, see {@link RequestHedging}.
+   */
+  public TranslatorOptions setRequestHedging(@Nullable RequestHedging requestHedging) {
+    this.requestHedging = requestHedging;
+    return this;
+  }
+
+  /**
+   * Set a retry budget shared by all requests of the client. By default, this value is <code>null
+   * </code> and each request is retried up to the maximum number of retries. When set, retries are
+   * limited to a fraction of recent requests, and a failed request whose retry would exceed the
+   * budget returns its error immediately, see {@link RetryBudget}.
+   */
+  public TranslatorOptions setRetryBudget(@Nullable RetryBudget retryBudget) {
+    this.retryBudget = retryBudget;
+    return this;
+  }
+
+  /**
+   * Set a scheduler limiting the concurrent requests of the client and ordering them by priority
+   * class. By default, this value is <code>null</code> and requests are sent immediately. When
+   * set, each request attempt waits for a slot, and calls with {@link RequestPriority#Interactive}
+   * set in their options are preferred over batch calls, see {@link RequestScheduler}.
+   */
+  public TranslatorOptions setRequestScheduler(@Nullable RequestScheduler requestScheduler) {
+    this.requestScheduler = requestScheduler;
+    return this;
+  }
+
+  /**
+   * Set an adaptive limit of concurrent requests per endpoint. By default, this value is <code>null
+   * </code> and the number of concurrent requests is not limited. When set, the limit of each
+   * endpoint follows the response times of the DeepL API, and requests above it wait in a queue,
+   * see {@link ConcurrencyLimiter}. If a request scheduler is also set, requests wait for the limit
+   * before waiting for a scheduler slot, so that they hold no slot while the limit is reached.
+   */
+  public TranslatorOptions setConcurrencyLimiter(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+    return this;
+  }
+
+  /**
+   * Set whether to run concurrent requests on virtual threads, on Java 21 and later. Defaults to
+   * <code>false</code>, using a shared pool of platform threads. When set, asynchronous and hedged
+   * requests, {@link Translator#translateTextToTargets} and {@link
+   * DeepLClient#getAllMultilingualGlossaryDictionaryEntries} start a virtual thread per request,
+   * so that many concurrent requests do not need a platform thread each. On earlier Java versions
+   * this option has no effect.
+   */
+  public TranslatorOptions setVirtualThreads(boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+    return this;
+  }
+
   /** Gets the current maximum number of retries. */
   public int getMaxRetries() {
     return maxRetries;
@@ -132,4 +258,49 @@ public class TranslatorOptions {
   public @Nullable AppInfo getAppInfo() {
     return appInfo;
   }
+
+  /** Gets the current language cache time-to-live, or <code>null</code> if caching is disabled. */
+  public @Nullable Duration getLanguageCacheTtl() {
+    return languageCacheTtl;
+  }
+
+  /** Gets the current glossary cache time-to-live, or <code>null</code> if caching is disabled. */
+  public @Nullable Duration getGlossaryCacheTtl() {
+    return glossaryCacheTtl;
+  }
+
+  /** Gets the `localValidation` option */
+  public boolean getLocalValidation() {
+    return localValidation;
+  }
+
+  /** Gets the current circuit breaker, or <code>null</code> if none is set. */
+  public @Nullable CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  /** Gets the current request hedging, or <code>null</code> if none is set. */
+  public @Nullable RequestHedging getRequestHedging() {
+    return requestHedging;
+  }
+
+  /** Gets the current retry budget, or <code>null</code> if none is set. */
+  public @Nullable RetryBudget getRetryBudget() {
+    return retryBudget;
+  }
+
+  /** Gets the current request scheduler, or <code>null</code> if none is set. */
+  public @Nullable RequestScheduler getRequestScheduler() {
+    return requestScheduler;
+  }
+
+  /** Gets the current concurrency limiter, or <code>null</code> if none is set. */
+  public @Nullable ConcurrencyLimiter getConcurrencyLimiter() {
+    return concurrencyLimiter;
+  }
+
+  /** Gets the `virtualThreads` option */
+  public boolean getVirtualThreads() {
+    return virtualThreads;
+  }
 }
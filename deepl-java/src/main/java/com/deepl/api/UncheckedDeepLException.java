@@ -0,0 +1,20 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+/**
+ * Wraps a {@link DeepLException} thrown where checked exceptions are not allowed, for example while
+ * iterating the streams returned by {@link DeepLClient#streamStyleRules}.
+ */
+public class UncheckedDeepLException extends RuntimeException {
+  public UncheckedDeepLException(DeepLException cause) {
+    super(cause.getMessage(), cause);
+  }
+
+  /** @return The wrapped {@link DeepLException}. */
+  @Override
+  public synchronized DeepLException getCause() {
+    return (DeepLException) super.getCause();
+  }
+}
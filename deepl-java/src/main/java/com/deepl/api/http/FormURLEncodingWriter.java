@@ -0,0 +1,165 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.http;
+
+import java.io.*;
+
+/**
+ * Writer that URL-encodes characters as UTF-8 in form format and writes them to an output stream,
+ * producing the same output as {@link java.net.URLEncoder}. Parameter keys and separators are
+ * written using {@link #startParameter}; all other characters are encoded.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class FormURLEncodingWriter extends Writer {
+  private static final int BUFFER_SIZE = 8192;
+  private static final byte[] HEX_DIGITS = {
+    '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+  };
+
+  private final OutputStream output;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int count = 0;
+  private boolean hasParameter = false;
+  private char pendingHighSurrogate = 0;
+
+  FormURLEncodingWriter(OutputStream output) {
+    this.output = output;
+  }
+
+  /** Writes the separator before the parameter if necessary, followed by the key and "=". */
+  void startParameter(String key) throws IOException {
+    endValue();
+    if (hasParameter) {
+      writeByte('&');
+    }
+    hasParameter = true;
+    write(key);
+    endValue();
+    writeByte('=');
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    encode((char) c);
+  }
+
+  @Override
+  public void write(char[] chars, int offset, int length) throws IOException {
+    for (int i = offset; i < offset + length; i++) {
+      encode(chars[i]);
+    }
+  }
+
+  @Override
+  public void write(String str, int offset, int length) throws IOException {
+    for (int i = offset; i < offset + length; i++) {
+      encode(str.charAt(i));
+    }
+  }
+
+  @Override
+  public Writer append(CharSequence chars) throws IOException {
+    if (chars == null) {
+      chars = "null";
+    }
+    for (int i = 0; i < chars.length(); i++) {
+      encode(chars.charAt(i));
+    }
+    return this;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    output.write(buffer, 0, count);
+    count = 0;
+    output.flush();
+  }
+
+  /** Flushes the encoded characters, but does not close the underlying output stream. */
+  @Override
+  public void close() throws IOException {
+    endValue();
+    output.write(buffer, 0, count);
+    count = 0;
+  }
+
+  private void encode(char c) throws IOException {
+    if (pendingHighSurrogate != 0) {
+      char highSurrogate = pendingHighSurrogate;
+      pendingHighSurrogate = 0;
+      if (Character.isLowSurrogate(c)) {
+        writeUtf8(Character.toCodePoint(highSurrogate, c));
+        return;
+      }
+      writeUnmappable();
+    }
+    if ((c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '.'
+        || c == '-'
+        || c == '*'
+        || c == '_') {
+      writeByte(c);
+    } else if (c == ' ') {
+      writeByte('+');
+    } else if (Character.isHighSurrogate(c)) {
+      pendingHighSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      writeUnmappable();
+    } else {
+      writeUtf8(c);
+    }
+  }
+
+  /** Completes the current value, encoding a trailing unpaired surrogate if necessary. */
+  private void endValue() throws IOException {
+    if (pendingHighSurrogate != 0) {
+      pendingHighSurrogate = 0;
+      writeUnmappable();
+    }
+  }
+
+  /** Unpaired surrogates are replaced with '?', matching {@link java.net.URLEncoder}. */
+  private void writeUnmappable() throws IOException {
+    writeEscaped('?');
+  }
+
+  private void writeUtf8(int codePoint) throws IOException {
+    if (codePoint < 0x80) {
+      writeEscaped(codePoint);
+    } else if (codePoint < 0x800) {
+      writeEscaped(0xC0 | (codePoint >> 6));
+      writeEscaped(0x80 | (codePoint & 0x3F));
+    } else if (codePoint < 0x10000) {
+      writeEscaped(0xE0 | (codePoint >> 12));
+      writeEscaped(0x80 | ((codePoint >> 6) & 0x3F));
+      writeEscaped(0x80 | (codePoint & 0x3F));
+    } else {
+      writeEscaped(0xF0 | (codePoint >> 18));
+      writeEscaped(0x80 | ((codePoint >> 12) & 0x3F));
+      writeEscaped(0x80 | ((codePoint >> 6) & 0x3F));
+      writeEscaped(0x80 | (codePoint & 0x3F));
+    }
+  }
+
+  private void writeEscaped(int b) throws IOException {
+    if (count + 3 > buffer.length) {
+      output.write(buffer, 0, count);
+      count = 0;
+    }
+    buffer[count++] = '%';
+    buffer[count++] = HEX_DIGITS[(b >> 4) & 0xF];
+    buffer[count++] = HEX_DIGITS[b & 0xF];
+  }
+
+  private void writeByte(int b) throws IOException {
+    if (count == buffer.length) {
+      output.write(buffer, 0, count);
+      count = 0;
+    }
+    buffer[count++] = (byte) b;
+  }
+}
@@ -13,16 +13,95 @@ import org.jetbrains.annotations.*;
 
 public class HttpContent {
   private static final String LINE_BREAK = "\r\n";
+  private static final String FORM_URL_ENCODED = "application/x-www-form-urlencoded";
   private final String contentType;
-  private final byte[] content;
+  private final @Nullable byte[] content;
+  private final @Nullable ContentWriter contentWriter;
+  private volatile long contentLength = -1;
+
+  /**
+   * Writes the value of a form parameter to the given output, which URL-encodes the value while it
+   * is written. The value may be written more than once, for example if the request is retried.
+   */
+  public interface FormValueWriter {
+    void writeTo(Appendable output) throws IOException;
+  }
+
+  private interface ContentWriter {
+    void writeTo(OutputStream output) throws IOException;
+  }
 
   private HttpContent(String contentType, byte[] content) {
     this.contentType = contentType;
     this.content = content;
+    this.contentWriter = null;
   }
 
+  private HttpContent(String contentType, ContentWriter contentWriter) {
+    this.contentType = contentType;
+    this.content = null;
+    this.contentWriter = contentWriter;
+  }
+
+  /**
+   * Returns the content as a byte array. Streamed content is written into a new array on each call,
+   * prefer {@link #writeTo} to avoid holding the complete content in memory.
+   */
   public byte[] getContent() {
-    return content;
+    if (content != null) {
+      return content;
+    }
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    try {
+      writeTo(stream);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    return stream.toByteArray();
+  }
+
+  /** @return <code>true</code> if the content is produced while it is written. */
+  public boolean isStreamed() {
+    return contentWriter != null;
+  }
+
+  /**
+   * Returns the length of the content in bytes. For streamed content, the length is determined
+   * once by producing the content without storing it.
+   */
+  public long getContentLength() throws IOException {
+    if (content != null) {
+      return content.length;
+    }
+    if (contentLength < 0) {
+      CountingOutputStream stream = new CountingOutputStream();
+      writeTo(stream);
+      contentLength = stream.count;
+    }
+    return contentLength;
+  }
+
+  /**
+   * Writes the content to the given output stream; may be called repeatedly. If streamed content
+   * no longer matches the length returned by {@link #getContentLength}, for example because the
+   * glossary entries being written were modified, an {@link IOException} is thrown before more
+   * bytes than that length are written, and the length is determined again on the next call.
+   */
+  public void writeTo(OutputStream output) throws IOException {
+    if (contentWriter == null) {
+      output.write(content);
+    } else if (contentLength < 0) {
+      contentWriter.writeTo(output);
+    } else {
+      LengthCheckingOutputStream stream = new LengthCheckingOutputStream(output, contentLength);
+      try {
+        contentWriter.writeTo(stream);
+        stream.checkComplete();
+      } catch (ContentLengthMismatchException exception) {
+        contentLength = -1;
+        throw exception;
+      }
+    }
   }
 
   public String getContentType() {
@@ -31,6 +110,58 @@ public class HttpContent {
 
   public static HttpContent buildFormURLEncodedContent(
       @Nullable Iterable<KeyValuePair<String, String>> params) throws DeepLException {
+    return new HttpContent(FORM_URL_ENCODED, encodeFormURLEncodedParams(params));
+  }
+
+  /**
+   * Builds URL-encoded form content from parameters that were already encoded using {@link
+   * #encodeFormURLEncodedParams}, followed by one parameter for each of the given values, all with
+   * the same key. Only the appended values are encoded by this function.
+   */
+  public static HttpContent buildFormURLEncodedContent(
+      byte[] encodedParams, String key, Iterable<String> values) throws DeepLException {
+    StringBuilder sb = new StringBuilder();
+    String encodedKey = urlEncode(key);
+    for (String value : values) {
+      if (encodedParams.length != 0 || sb.length() != 0) sb.append("&");
+      sb.append(encodedKey);
+      sb.append("=");
+      sb.append(urlEncode(value));
+    }
+    byte[] encodedValues = sb.toString().getBytes(StandardCharsets.UTF_8);
+    byte[] content = Arrays.copyOf(encodedParams, encodedParams.length + encodedValues.length);
+    System.arraycopy(encodedValues, 0, content, encodedParams.length, encodedValues.length);
+    return new HttpContent(FORM_URL_ENCODED, content);
+  }
+
+  /**
+   * Builds URL-encoded form content that is encoded while it is written to the request, rather than
+   * building the encoded content in memory first. The streamed parameters follow the given
+   * parameters and are produced by their {@link FormValueWriter}, which is called each time the
+   * content is written.
+   */
+  public static HttpContent buildFormURLEncodedContent(
+      Iterable<KeyValuePair<String, String>> params,
+      Iterable<KeyValuePair<String, FormValueWriter>> streamedParams) {
+    return new HttpContent(
+        FORM_URL_ENCODED,
+        output -> {
+          try (FormURLEncodingWriter writer = new FormURLEncodingWriter(output)) {
+            for (KeyValuePair<String, String> pair : params) {
+              writer.startParameter(pair.getKey());
+              writer.write(pair.getValue());
+            }
+            for (KeyValuePair<String, FormValueWriter> pair : streamedParams) {
+              writer.startParameter(pair.getKey());
+              pair.getValue().writeTo(writer);
+            }
+          }
+        });
+  }
+
+  /** Encodes the given parameters in URL-encoded form format, without building the content. */
+  public static byte[] encodeFormURLEncodedParams(
+      @Nullable Iterable<KeyValuePair<String, String>> params) throws DeepLException {
     StringBuilder sb = new StringBuilder();
     if (params != null) {
       for (KeyValuePair<String, String> pair : params) {
@@ -40,8 +171,7 @@ public class HttpContent {
         sb.append(urlEncode(pair.getValue()));
       }
     }
-    return new HttpContent(
-        "application/x-www-form-urlencoded", sb.toString().getBytes(StandardCharsets.UTF_8));
+    return sb.toString().getBytes(StandardCharsets.UTF_8);
   }
 
   private static String urlEncode(String value) throws DeepLException {
@@ -118,4 +248,67 @@ public class HttpContent {
       return new HttpContent("multipart/form-data; boundary=" + boundary, stream.toByteArray());
     }
   }
+
+  private static class ContentLengthMismatchException extends IOException {
+    ContentLengthMismatchException(long expectedLength) {
+      super(
+          String.format(
+              "Request content changed while it was written, expected %d bytes", expectedLength));
+    }
+  }
+
+  /** Passes bytes to the output, failing instead of writing more bytes than the given length. */
+  private static class LengthCheckingOutputStream extends FilterOutputStream {
+    private final long length;
+    private long count = 0;
+
+    LengthCheckingOutputStream(OutputStream output, long length) {
+      super(output);
+      this.length = length;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      checkRemaining(1);
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      checkRemaining(len);
+      out.write(b, off, len);
+      count += len;
+    }
+
+    /** Closing is left to the caller of {@link HttpContent#writeTo}. */
+    @Override
+    public void close() {}
+
+    void checkComplete() throws ContentLengthMismatchException {
+      if (count != length) {
+        throw new ContentLengthMismatchException(length);
+      }
+    }
+
+    private void checkRemaining(int len) throws ContentLengthMismatchException {
+      if (count + len > length) {
+        throw new ContentLengthMismatchException(length);
+      }
+    }
+  }
+
+  private static class CountingOutputStream extends OutputStream {
+    private long count = 0;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+  }
 }
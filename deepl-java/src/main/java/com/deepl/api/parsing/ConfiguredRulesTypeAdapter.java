@@ -0,0 +1,70 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.ConfiguredRules;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Utility class for deserializing style rule configured rules returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class ConfiguredRulesTypeAdapter extends ResponseTypeAdapter<ConfiguredRules> {
+  ConfiguredRulesTypeAdapter(TypeAdapter<ConfiguredRules> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected ConfiguredRules readObject(JsonReader in) throws IOException {
+    Map<String, String> datesAndTimes = null;
+    Map<String, String> formatting = null;
+    Map<String, String> numbers = null;
+    Map<String, String> punctuation = null;
+    Map<String, String> spellingAndGrammar = null;
+    Map<String, String> styleAndTone = null;
+    Map<String, String> vocabulary = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "dates_and_times":
+          datesAndTimes = readStringMap(in);
+          break;
+        case "formatting":
+          formatting = readStringMap(in);
+          break;
+        case "numbers":
+          numbers = readStringMap(in);
+          break;
+        case "punctuation":
+          punctuation = readStringMap(in);
+          break;
+        case "spelling_and_grammar":
+          spellingAndGrammar = readStringMap(in);
+          break;
+        case "style_and_tone":
+          styleAndTone = readStringMap(in);
+          break;
+        case "vocabulary":
+          vocabulary = readStringMap(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new ConfiguredRules(
+        datesAndTimes,
+        formatting,
+        numbers,
+        punctuation,
+        spellingAndGrammar,
+        styleAndTone,
+        vocabulary);
+  }
+}
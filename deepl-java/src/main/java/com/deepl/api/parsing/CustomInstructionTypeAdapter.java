@@ -0,0 +1,50 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.CustomInstruction;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+
+/**
+ * Utility class for deserializing style rule custom instructions returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class CustomInstructionTypeAdapter extends ResponseTypeAdapter<CustomInstruction> {
+  CustomInstructionTypeAdapter(TypeAdapter<CustomInstruction> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected CustomInstruction readObject(JsonReader in) throws IOException {
+    String id = null;
+    String label = null;
+    String prompt = null;
+    String sourceLanguage = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "id":
+          id = nextStringOrNull(in);
+          break;
+        case "label":
+          label = nextStringOrNull(in);
+          break;
+        case "prompt":
+          prompt = nextStringOrNull(in);
+          break;
+        case "source_language":
+          sourceLanguage = nextStringOrNull(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new CustomInstruction(id, label, prompt, sourceLanguage);
+  }
+}
@@ -0,0 +1,42 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.DocumentHandle;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+
+/**
+ * Utility class for deserializing document handles returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class DocumentHandleTypeAdapter extends ResponseTypeAdapter<DocumentHandle> {
+  DocumentHandleTypeAdapter(TypeAdapter<DocumentHandle> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected DocumentHandle readObject(JsonReader in) throws IOException {
+    String documentId = null;
+    String documentKey = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "document_id":
+          documentId = nextStringOrNull(in);
+          break;
+        case "document_key":
+          documentKey = nextStringOrNull(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new DocumentHandle(documentId, documentKey);
+  }
+}
@@ -0,0 +1,71 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.DocumentStatus;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+import org.jetbrains.annotations.*;
+
+/**
+ * Utility class for deserializing document translation status responses from the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class DocumentStatusTypeAdapter extends ResponseTypeAdapter<DocumentStatus> {
+  DocumentStatusTypeAdapter(TypeAdapter<DocumentStatus> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected DocumentStatus readObject(JsonReader in) throws IOException {
+    String documentId = null;
+    DocumentStatus.StatusCode status = null;
+    Long billedCharacters = null;
+    Long secondsRemaining = null;
+    String errorMessage = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "document_id":
+          documentId = nextStringOrNull(in);
+          break;
+        case "status":
+          status = parseStatusCode(nextStringOrNull(in));
+          break;
+        case "billed_characters":
+          billedCharacters = nextLongOrNull(in);
+          break;
+        case "seconds_remaining":
+          secondsRemaining = nextLongOrNull(in);
+          break;
+        case "error_message":
+          errorMessage = nextStringOrNull(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new DocumentStatus(documentId, status, billedCharacters, secondsRemaining, errorMessage);
+  }
+
+  private static @Nullable DocumentStatus.StatusCode parseStatusCode(@Nullable String status) {
+    if (status == null) return null;
+    switch (status) {
+      case "queued":
+        return DocumentStatus.StatusCode.Queued;
+      case "translating":
+        return DocumentStatus.StatusCode.Translating;
+      case "done":
+        return DocumentStatus.StatusCode.Done;
+      case "error":
+        return DocumentStatus.StatusCode.Error;
+      default:
+        return null;
+    }
+  }
+}
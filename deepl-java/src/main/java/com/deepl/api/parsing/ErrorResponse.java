@@ -14,6 +14,11 @@ class ErrorResponse {
   @Nullable private String message;
   @Nullable private String detail;
 
+  ErrorResponse(@Nullable String message, @Nullable String detail) {
+    this.message = message;
+    this.detail = detail;
+  }
+
   /** Returns a diagnostic string including the message and detail (if available). */
   public String getErrorMessage() {
     StringBuilder sb = new StringBuilder();
@@ -0,0 +1,41 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+
+/**
+ * Utility class for deserializing error messages returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class ErrorResponseTypeAdapter extends ResponseTypeAdapter<ErrorResponse> {
+  ErrorResponseTypeAdapter(TypeAdapter<ErrorResponse> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected ErrorResponse readObject(JsonReader in) throws IOException {
+    String message = null;
+    String detail = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "message":
+          message = nextStringOrNull(in);
+          break;
+        case "detail":
+          detail = nextStringOrNull(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new ErrorResponse(message, detail);
+  }
+}
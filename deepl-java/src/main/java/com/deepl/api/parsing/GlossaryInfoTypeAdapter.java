@@ -0,0 +1,68 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.GlossaryInfo;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Utility class for deserializing v2 glossary information returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class GlossaryInfoTypeAdapter extends ResponseTypeAdapter<GlossaryInfo> {
+  private final TypeAdapter<Date> dateAdapter;
+
+  GlossaryInfoTypeAdapter(TypeAdapter<GlossaryInfo> delegate, TypeAdapter<Date> dateAdapter) {
+    super(delegate);
+    this.dateAdapter = dateAdapter;
+  }
+
+  @Override
+  protected GlossaryInfo readObject(JsonReader in) throws IOException {
+    String glossaryId = null;
+    String name = null;
+    boolean ready = false;
+    String sourceLang = null;
+    String targetLang = null;
+    Date creationTime = null;
+    long entryCount = 0;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "glossary_id":
+          glossaryId = nextStringOrNull(in);
+          break;
+        case "name":
+          name = nextStringOrNull(in);
+          break;
+        case "ready":
+          ready = Boolean.TRUE.equals(nextBooleanOrNull(in));
+          break;
+        case "source_lang":
+          sourceLang = nextStringOrNull(in);
+          break;
+        case "target_lang":
+          targetLang = nextStringOrNull(in);
+          break;
+        case "creation_time":
+          creationTime = dateAdapter.read(in);
+          break;
+        case "entry_count":
+          Long count = nextLongOrNull(in);
+          entryCount = count != null ? count : 0;
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new GlossaryInfo(
+        glossaryId, name, ready, sourceLang, targetLang, creationTime, entryCount);
+  }
+}
@@ -0,0 +1,45 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.GlossaryLanguagePair;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+
+/**
+ * Utility class for deserializing glossary language pairs returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class GlossaryLanguagePairTypeAdapter extends ResponseTypeAdapter<GlossaryLanguagePair> {
+  GlossaryLanguagePairTypeAdapter(TypeAdapter<GlossaryLanguagePair> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected GlossaryLanguagePair readObject(JsonReader in) throws IOException {
+    String sourceLang = null;
+    String targetLang = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "source_lang":
+          sourceLang = nextStringOrNull(in);
+          break;
+        case "target_lang":
+          targetLang = nextStringOrNull(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    if (sourceLang == null || targetLang == null) {
+      throw new JsonParseException("Glossary language pair is missing required fields");
+    }
+    return new GlossaryLanguagePair(sourceLang, targetLang);
+  }
+}
@@ -16,6 +16,10 @@ class GlossaryLanguagesResponse {
   @SerializedName("supported_languages")
   private List<GlossaryLanguagePair> supportedLanguages;
 
+  GlossaryLanguagesResponse(List<GlossaryLanguagePair> supportedLanguages) {
+    this.supportedLanguages = supportedLanguages;
+  }
+
   public List<GlossaryLanguagePair> getSupportedLanguages() {
     return supportedLanguages;
   }
@@ -14,6 +14,10 @@ import java.util.List;
 class GlossaryListResponse {
   private List<GlossaryInfo> glossaries;
 
+  GlossaryListResponse(List<GlossaryInfo> glossaries) {
+    this.glossaries = glossaries;
+  }
+
   public List<GlossaryInfo> getGlossaries() {
     return glossaries;
   }
@@ -0,0 +1,86 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.*;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Iterates over the elements of an array in a JSON object, parsing one element at a time from the
+ * underlying reader. The reader is closed at the end of the array, or by {@link #close()}.
+ *
+ * <p>I/O errors while reading are thrown as {@link UncheckedDeepLException}.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+public class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+  private final JsonReader reader;
+  private final TypeAdapter<T> adapter;
+  private boolean closed = false;
+
+  JsonArrayIterator(Reader reader, TypeAdapter<T> adapter, String arrayName) throws IOException {
+    this.reader = new JsonReader(reader);
+    this.adapter = adapter;
+    try {
+      this.reader.beginObject();
+      while (this.reader.hasNext()) {
+        if (this.reader.nextName().equals(arrayName)
+            && this.reader.peek() == JsonToken.BEGIN_ARRAY) {
+          this.reader.beginArray();
+          return;
+        }
+        this.reader.skipValue();
+      }
+      close();
+    } catch (IOException | RuntimeException exception) {
+      close();
+      throw exception;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+    try {
+      if (reader.hasNext()) {
+        return true;
+      }
+    } catch (IOException exception) {
+      close();
+      throw new UncheckedDeepLException(new DeepLException("Error reading stream", exception));
+    }
+    close();
+    return false;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      return adapter.read(reader);
+    } catch (IOException exception) {
+      close();
+      throw new UncheckedDeepLException(new DeepLException("Error reading stream", exception));
+    }
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      try {
+        reader.close();
+      } catch (IOException ignored) {
+        // Nothing more is read from the stream
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.Language;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+
+/**
+ * Utility class for deserializing language codes returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class LanguageTypeAdapter extends ResponseTypeAdapter<Language> {
+  LanguageTypeAdapter(TypeAdapter<Language> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected Language readObject(JsonReader in) throws IOException {
+    String name = null;
+    String code = null;
+    Boolean supportsFormality = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "name":
+          name = nextStringOrNull(in);
+          break;
+        case "language":
+          code = nextStringOrNull(in);
+          break;
+        case "supports_formality":
+          supportsFormality = nextBooleanOrNull(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    if (name == null || code == null) {
+      throw new JsonParseException("Language is missing required fields");
+    }
+    return new Language(name, code, supportsFormality);
+  }
+}
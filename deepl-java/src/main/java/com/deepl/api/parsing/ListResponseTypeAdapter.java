@@ -0,0 +1,48 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Utility class for deserializing DeepL API responses that wrap a single list field, for example
+ * <code>{"translations": [...]}</code>. Other fields in the response are skipped.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class ListResponseTypeAdapter<T, E> extends ResponseTypeAdapter<T> {
+  private final String fieldName;
+  private final TypeAdapter<E> elementAdapter;
+  private final Function<List<E>, T> constructor;
+
+  ListResponseTypeAdapter(
+      TypeAdapter<T> delegate,
+      String fieldName,
+      TypeAdapter<E> elementAdapter,
+      Function<List<E>, T> constructor) {
+    super(delegate);
+    this.fieldName = fieldName;
+    this.elementAdapter = elementAdapter;
+    this.constructor = constructor;
+  }
+
+  @Override
+  protected T readObject(JsonReader in) throws IOException {
+    List<E> list = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      if (fieldName.equals(in.nextName())) {
+        list = readList(in, elementAdapter);
+      } else {
+        in.skipValue();
+      }
+    }
+    in.endObject();
+    return constructor.apply(list);
+  }
+}
@@ -0,0 +1,53 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+
+/**
+ * Utility class for deserializing v3 glossary dictionary entries returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class MultilingualGlossaryDictionaryEntriesResponseTypeAdapter
+    extends ResponseTypeAdapter<MultilingualGlossaryDictionaryEntriesResponse> {
+  MultilingualGlossaryDictionaryEntriesResponseTypeAdapter(
+      TypeAdapter<MultilingualGlossaryDictionaryEntriesResponse> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected MultilingualGlossaryDictionaryEntriesResponse readObject(JsonReader in)
+      throws IOException {
+    String sourceLanguageCode = null;
+    String targetLanguageCode = null;
+    String entries = null;
+    String entriesFormat = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "source_lang":
+          sourceLanguageCode = nextStringOrNull(in);
+          break;
+        case "target_lang":
+          targetLanguageCode = nextStringOrNull(in);
+          break;
+        case "entries":
+          entries = nextStringOrNull(in);
+          break;
+        case "entries_format":
+          entriesFormat = nextStringOrNull(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new MultilingualGlossaryDictionaryEntriesResponse(
+        sourceLanguageCode, targetLanguageCode, entries, entriesFormat);
+  }
+}
@@ -0,0 +1,50 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.MultilingualGlossaryDictionaryInfo;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+
+/**
+ * Utility class for deserializing v3 glossary dictionary information returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class MultilingualGlossaryDictionaryInfoTypeAdapter
+    extends ResponseTypeAdapter<MultilingualGlossaryDictionaryInfo> {
+  MultilingualGlossaryDictionaryInfoTypeAdapter(
+      TypeAdapter<MultilingualGlossaryDictionaryInfo> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected MultilingualGlossaryDictionaryInfo readObject(JsonReader in) throws IOException {
+    String sourceLanguageCode = null;
+    String targetLanguageCode = null;
+    long entryCount = 0;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "source_lang":
+          sourceLanguageCode = nextStringOrNull(in);
+          break;
+        case "target_lang":
+          targetLanguageCode = nextStringOrNull(in);
+          break;
+        case "entry_count":
+          Long count = nextLongOrNull(in);
+          entryCount = count != null ? count : 0;
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new MultilingualGlossaryDictionaryInfo(
+        sourceLanguageCode, targetLanguageCode, entryCount);
+  }
+}
@@ -13,6 +13,11 @@ import java.util.List;
 public class MultilingualGlossaryDictionaryListResponse {
   private List<MultilingualGlossaryDictionaryEntriesResponse> dictionaries;
 
+  MultilingualGlossaryDictionaryListResponse(
+      List<MultilingualGlossaryDictionaryEntriesResponse> dictionaries) {
+    this.dictionaries = dictionaries;
+  }
+
   public List<MultilingualGlossaryDictionaryEntriesResponse> getDictionaries() {
     return dictionaries;
   }
@@ -0,0 +1,60 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.MultilingualGlossaryDictionaryInfo;
+import com.deepl.api.MultilingualGlossaryInfo;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Utility class for deserializing v3 glossary information returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class MultilingualGlossaryInfoTypeAdapter extends ResponseTypeAdapter<MultilingualGlossaryInfo> {
+  private final TypeAdapter<Date> dateAdapter;
+  private final TypeAdapter<MultilingualGlossaryDictionaryInfo> dictionaryAdapter;
+
+  MultilingualGlossaryInfoTypeAdapter(
+      TypeAdapter<MultilingualGlossaryInfo> delegate,
+      TypeAdapter<Date> dateAdapter,
+      TypeAdapter<MultilingualGlossaryDictionaryInfo> dictionaryAdapter) {
+    super(delegate);
+    this.dateAdapter = dateAdapter;
+    this.dictionaryAdapter = dictionaryAdapter;
+  }
+
+  @Override
+  protected MultilingualGlossaryInfo readObject(JsonReader in) throws IOException {
+    String glossaryId = null;
+    String name = null;
+    Date creationTime = null;
+    List<MultilingualGlossaryDictionaryInfo> dictionaries = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "glossary_id":
+          glossaryId = nextStringOrNull(in);
+          break;
+        case "name":
+          name = nextStringOrNull(in);
+          break;
+        case "creation_time":
+          creationTime = dateAdapter.read(in);
+          break;
+        case "dictionaries":
+          dictionaries = readList(in, dictionaryAdapter);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new MultilingualGlossaryInfo(glossaryId, name, creationTime, dictionaries);
+  }
+}
@@ -14,6 +14,10 @@ import java.util.List;
 class MultilingualGlossaryListResponse {
   private List<MultilingualGlossaryInfo> glossaries;
 
+  MultilingualGlossaryListResponse(List<MultilingualGlossaryInfo> glossaries) {
+    this.glossaries = glossaries;
+  }
+
   public List<MultilingualGlossaryInfo> getGlossaries() {
     return glossaries;
   }
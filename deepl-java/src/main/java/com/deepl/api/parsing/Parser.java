@@ -6,9 +6,9 @@ package com.deepl.api.parsing;
 import com.deepl.api.*;
 import com.google.gson.*;
 import com.google.gson.reflect.*;
+import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
-import org.jetbrains.annotations.*;
 
 /**
  * Parsing functions for responses from the DeepL API.
@@ -24,10 +24,7 @@ public class Parser {
 
   public Parser() {
     GsonBuilder gsonBuilder = new GsonBuilder();
-    gsonBuilder.registerTypeAdapter(TextResult.class, new TextResultDeserializer());
-    gsonBuilder.registerTypeAdapter(WriteResult.class, new WriteResultDeserializer());
-    gsonBuilder.registerTypeAdapter(Language.class, new LanguageDeserializer());
-    gsonBuilder.registerTypeAdapter(Usage.class, new UsageDeserializer());
+    gsonBuilder.registerTypeAdapterFactory(new ResponseTypeAdapterFactory());
     gson = gsonBuilder.create();
   }
 
@@ -75,6 +72,11 @@ public class Parser {
     return gson.fromJson(json, MultilingualGlossaryDictionaryListResponse.class);
   }
 
+  public MultilingualGlossaryDictionaryListResponse parseMultilingualGlossaryDictionaryListResponse(
+      Reader reader) {
+    return gson.fromJson(reader, MultilingualGlossaryDictionaryListResponse.class);
+  }
+
   public List<GlossaryInfo> parseGlossaryInfoList(String json) {
     GlossaryListResponse result = gson.fromJson(json, GlossaryListResponse.class);
     return result.getGlossaries();
@@ -86,6 +88,17 @@ public class Parser {
     return result.getGlossaries();
   }
 
+  public JsonArrayIterator<GlossaryInfo> parseGlossaryInfoListStream(Reader reader)
+      throws IOException {
+    return new JsonArrayIterator<>(reader, gson.getAdapter(GlossaryInfo.class), "glossaries");
+  }
+
+  public JsonArrayIterator<MultilingualGlossaryInfo> parseMultilingualGlossaryInfoListStream(
+      Reader reader) throws IOException {
+    return new JsonArrayIterator<>(
+        reader, gson.getAdapter(MultilingualGlossaryInfo.class), "glossaries");
+  }
+
   public MultilingualGlossaryDictionaryInfo parseMultilingualGlossaryDictionaryInfo(String json) {
     return gson.fromJson(json, MultilingualGlossaryDictionaryInfo.class);
   }
@@ -121,24 +134,4 @@ public class Parser {
       return "";
     }
   }
-
-  static @Nullable Integer getAsIntOrNull(JsonObject jsonObject, String parameterName) {
-    if (!jsonObject.has(parameterName)) return null;
-    return jsonObject.get(parameterName).getAsInt();
-  }
-
-  static @Nullable Long getAsLongOrNull(JsonObject jsonObject, String parameterName) {
-    if (!jsonObject.has(parameterName)) return null;
-    return jsonObject.get(parameterName).getAsLong();
-  }
-
-  static @Nullable String getAsStringOrNull(JsonObject jsonObject, String parameterName) {
-    if (!jsonObject.has(parameterName)) return null;
-    return jsonObject.get(parameterName).getAsString();
-  }
-
-  static @Nullable Boolean getAsBooleanOrNull(JsonObject jsonObject, String parameterName) {
-    if (!jsonObject.has(parameterName)) return null;
-    return jsonObject.get(parameterName).getAsBoolean();
-  }
 }
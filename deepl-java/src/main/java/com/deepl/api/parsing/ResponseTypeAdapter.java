@@ -0,0 +1,111 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+import java.util.*;
+import org.jetbrains.annotations.*;
+
+/**
+ * Base class for hand-written type adapters that read DeepL API responses directly from the JSON
+ * token stream, without building a {@link JsonElement} tree or using reflection. Serialization is
+ * delegated to the adapter Gson would otherwise use for the type.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+abstract class ResponseTypeAdapter<T> extends TypeAdapter<T> {
+  private final TypeAdapter<T> delegate;
+
+  protected ResponseTypeAdapter(TypeAdapter<T> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void write(JsonWriter out, T value) throws IOException {
+    delegate.write(out, value);
+  }
+
+  @Override
+  public T read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return readObject(in);
+  }
+
+  /** Reads the value from the reader, positioned at a non-null value. */
+  protected abstract T readObject(JsonReader in) throws IOException;
+
+  static @Nullable String nextStringOrNull(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return in.nextString();
+  }
+
+  static @Nullable Long nextLongOrNull(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return in.nextLong();
+  }
+
+  static @Nullable Boolean nextBooleanOrNull(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return in.nextBoolean();
+  }
+
+  @Nullable
+  static <E> List<E> readList(JsonReader in, TypeAdapter<E> elementAdapter)
+      throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    List<E> result = new ArrayList<>();
+    in.beginArray();
+    while (in.hasNext()) {
+      result.add(elementAdapter.read(in));
+    }
+    in.endArray();
+    return result;
+  }
+
+  static @Nullable List<String> readStringList(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    List<String> result = new ArrayList<>();
+    in.beginArray();
+    while (in.hasNext()) {
+      result.add(nextStringOrNull(in));
+    }
+    in.endArray();
+    return result;
+  }
+
+  static @Nullable Map<String, String> readStringMap(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    Map<String, String> result = new LinkedHashMap<>();
+    in.beginObject();
+    while (in.hasNext()) {
+      String key = in.nextName();
+      result.put(key, nextStringOrNull(in));
+    }
+    in.endObject();
+    return result;
+  }
+}
@@ -0,0 +1,123 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.*;
+import com.google.gson.*;
+import com.google.gson.reflect.*;
+import java.util.*;
+
+/**
+ * Supplies the streaming {@link ResponseTypeAdapter}s for DeepL API response types. Types without
+ * a dedicated adapter, for example request bodies, fall back to Gson's default adapters.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class ResponseTypeAdapterFactory implements TypeAdapterFactory {
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    TypeAdapter<?> adapter = createAdapter(gson, type.getRawType());
+    return (TypeAdapter<T>) adapter;
+  }
+
+  private TypeAdapter<?> createAdapter(Gson gson, Class<?> rawType) {
+    if (rawType == TextResult.class) {
+      return new TextResultTypeAdapter(delegate(gson, TextResult.class));
+    } else if (rawType == WriteResult.class) {
+      return new WriteResultTypeAdapter(delegate(gson, WriteResult.class));
+    } else if (rawType == Language.class) {
+      return new LanguageTypeAdapter(delegate(gson, Language.class));
+    } else if (rawType == Usage.class) {
+      return new UsageTypeAdapter(delegate(gson, Usage.class));
+    } else if (rawType == DocumentStatus.class) {
+      return new DocumentStatusTypeAdapter(delegate(gson, DocumentStatus.class));
+    } else if (rawType == DocumentHandle.class) {
+      return new DocumentHandleTypeAdapter(delegate(gson, DocumentHandle.class));
+    } else if (rawType == GlossaryInfo.class) {
+      return new GlossaryInfoTypeAdapter(
+          delegate(gson, GlossaryInfo.class), gson.getAdapter(Date.class));
+    } else if (rawType == GlossaryLanguagePair.class) {
+      return new GlossaryLanguagePairTypeAdapter(delegate(gson, GlossaryLanguagePair.class));
+    } else if (rawType == MultilingualGlossaryInfo.class) {
+      return new MultilingualGlossaryInfoTypeAdapter(
+          delegate(gson, MultilingualGlossaryInfo.class),
+          gson.getAdapter(Date.class),
+          gson.getAdapter(MultilingualGlossaryDictionaryInfo.class));
+    } else if (rawType == MultilingualGlossaryDictionaryInfo.class) {
+      return new MultilingualGlossaryDictionaryInfoTypeAdapter(
+          delegate(gson, MultilingualGlossaryDictionaryInfo.class));
+    } else if (rawType == MultilingualGlossaryDictionaryEntriesResponse.class) {
+      return new MultilingualGlossaryDictionaryEntriesResponseTypeAdapter(
+          delegate(gson, MultilingualGlossaryDictionaryEntriesResponse.class));
+    } else if (rawType == StyleRuleInfo.class) {
+      return new StyleRuleInfoTypeAdapter(
+          delegate(gson, StyleRuleInfo.class),
+          gson.getAdapter(Date.class),
+          gson.getAdapter(ConfiguredRules.class),
+          gson.getAdapter(CustomInstruction.class));
+    } else if (rawType == ConfiguredRules.class) {
+      return new ConfiguredRulesTypeAdapter(delegate(gson, ConfiguredRules.class));
+    } else if (rawType == CustomInstruction.class) {
+      return new CustomInstructionTypeAdapter(delegate(gson, CustomInstruction.class));
+    } else if (rawType == TranslationMemoryInfo.class) {
+      return new TranslationMemoryInfoTypeAdapter(delegate(gson, TranslationMemoryInfo.class));
+    } else if (rawType == ErrorResponse.class) {
+      return new ErrorResponseTypeAdapter(delegate(gson, ErrorResponse.class));
+    } else if (rawType == TextResponse.class) {
+      return new ListResponseTypeAdapter<>(
+          delegate(gson, TextResponse.class),
+          "translations",
+          gson.getAdapter(TextResult.class),
+          TextResponse::new);
+    } else if (rawType == WriteResponse.class) {
+      return new ListResponseTypeAdapter<>(
+          delegate(gson, WriteResponse.class),
+          "improvements",
+          gson.getAdapter(WriteResult.class),
+          WriteResponse::new);
+    } else if (rawType == GlossaryLanguagesResponse.class) {
+      return new ListResponseTypeAdapter<>(
+          delegate(gson, GlossaryLanguagesResponse.class),
+          "supported_languages",
+          gson.getAdapter(GlossaryLanguagePair.class),
+          GlossaryLanguagesResponse::new);
+    } else if (rawType == GlossaryListResponse.class) {
+      return new ListResponseTypeAdapter<>(
+          delegate(gson, GlossaryListResponse.class),
+          "glossaries",
+          gson.getAdapter(GlossaryInfo.class),
+          GlossaryListResponse::new);
+    } else if (rawType == MultilingualGlossaryListResponse.class) {
+      return new ListResponseTypeAdapter<>(
+          delegate(gson, MultilingualGlossaryListResponse.class),
+          "glossaries",
+          gson.getAdapter(MultilingualGlossaryInfo.class),
+          MultilingualGlossaryListResponse::new);
+    } else if (rawType == MultilingualGlossaryDictionaryListResponse.class) {
+      return new ListResponseTypeAdapter<>(
+          delegate(gson, MultilingualGlossaryDictionaryListResponse.class),
+          "dictionaries",
+          gson.getAdapter(MultilingualGlossaryDictionaryEntriesResponse.class),
+          MultilingualGlossaryDictionaryListResponse::new);
+    } else if (rawType == StyleRuleListResponse.class) {
+      return new ListResponseTypeAdapter<>(
+          delegate(gson, StyleRuleListResponse.class),
+          "style_rules",
+          gson.getAdapter(StyleRuleInfo.class),
+          StyleRuleListResponse::new);
+    } else if (rawType == TranslationMemoryListResponse.class) {
+      return new ListResponseTypeAdapter<>(
+          delegate(gson, TranslationMemoryListResponse.class),
+          "translation_memories",
+          gson.getAdapter(TranslationMemoryInfo.class),
+          TranslationMemoryListResponse::new);
+    }
+    return null;
+  }
+
+  private <T> TypeAdapter<T> delegate(Gson gson, Class<T> type) {
+    return gson.getDelegateAdapter(this, TypeToken.get(type));
+  }
+}
@@ -0,0 +1,89 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.ConfiguredRules;
+import com.deepl.api.CustomInstruction;
+import com.deepl.api.StyleRuleInfo;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Utility class for deserializing style rule information returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class StyleRuleInfoTypeAdapter extends ResponseTypeAdapter<StyleRuleInfo> {
+  private final TypeAdapter<Date> dateAdapter;
+  private final TypeAdapter<ConfiguredRules> configuredRulesAdapter;
+  private final TypeAdapter<CustomInstruction> customInstructionAdapter;
+
+  StyleRuleInfoTypeAdapter(
+      TypeAdapter<StyleRuleInfo> delegate,
+      TypeAdapter<Date> dateAdapter,
+      TypeAdapter<ConfiguredRules> configuredRulesAdapter,
+      TypeAdapter<CustomInstruction> customInstructionAdapter) {
+    super(delegate);
+    this.dateAdapter = dateAdapter;
+    this.configuredRulesAdapter = configuredRulesAdapter;
+    this.customInstructionAdapter = customInstructionAdapter;
+  }
+
+  @Override
+  protected StyleRuleInfo readObject(JsonReader in) throws IOException {
+    String styleId = null;
+    String name = null;
+    Date creationTime = null;
+    Date updatedTime = null;
+    String language = null;
+    int version = 0;
+    ConfiguredRules configuredRules = null;
+    List<CustomInstruction> customInstructions = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "style_id":
+          styleId = nextStringOrNull(in);
+          break;
+        case "name":
+          name = nextStringOrNull(in);
+          break;
+        case "creation_time":
+          creationTime = dateAdapter.read(in);
+          break;
+        case "updated_time":
+          updatedTime = dateAdapter.read(in);
+          break;
+        case "language":
+          language = nextStringOrNull(in);
+          break;
+        case "version":
+          Long versionValue = nextLongOrNull(in);
+          version = versionValue != null ? versionValue.intValue() : 0;
+          break;
+        case "configured_rules":
+          configuredRules = configuredRulesAdapter.read(in);
+          break;
+        case "custom_instructions":
+          customInstructions = readList(in, customInstructionAdapter);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new StyleRuleInfo(
+        styleId,
+        name,
+        creationTime,
+        updatedTime,
+        language,
+        version,
+        configuredRules,
+        customInstructions);
+  }
+}
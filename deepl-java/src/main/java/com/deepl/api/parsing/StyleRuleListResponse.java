@@ -14,6 +14,10 @@ import java.util.List;
 class StyleRuleListResponse {
   private List<StyleRuleInfo> style_rules;
 
+  StyleRuleListResponse(List<StyleRuleInfo> styleRules) {
+    this.style_rules = styleRules;
+  }
+
   public List<StyleRuleInfo> getStyleRules() {
     return style_rules;
   }
@@ -13,4 +13,8 @@ import java.util.List;
  */
 class TextResponse {
   public List<TextResult> translations;
+
+  TextResponse(List<TextResult> translations) {
+    this.translations = translations;
+  }
 }
@@ -0,0 +1,53 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.TextResult;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+
+/**
+ * Utility class for deserializing text translation results returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class TextResultTypeAdapter extends ResponseTypeAdapter<TextResult> {
+  TextResultTypeAdapter(TypeAdapter<TextResult> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected TextResult readObject(JsonReader in) throws IOException {
+    String text = null;
+    String detectedSourceLanguage = null;
+    Long billedCharacters = null;
+    String modelTypeUsed = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "text":
+          text = nextStringOrNull(in);
+          break;
+        case "detected_source_language":
+          detectedSourceLanguage = nextStringOrNull(in);
+          break;
+        case "billed_characters":
+          billedCharacters = nextLongOrNull(in);
+          break;
+        case "model_type_used":
+          modelTypeUsed = nextStringOrNull(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    if (text == null || detectedSourceLanguage == null || billedCharacters == null) {
+      throw new JsonParseException("Text translation result is missing required fields");
+    }
+    return new TextResult(text, detectedSourceLanguage, billedCharacters.intValue(), modelTypeUsed);
+  }
+}
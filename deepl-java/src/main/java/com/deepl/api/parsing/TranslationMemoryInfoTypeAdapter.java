@@ -0,0 +1,57 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.TranslationMemoryInfo;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Utility class for deserializing translation memory information returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class TranslationMemoryInfoTypeAdapter extends ResponseTypeAdapter<TranslationMemoryInfo> {
+  TranslationMemoryInfoTypeAdapter(TypeAdapter<TranslationMemoryInfo> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected TranslationMemoryInfo readObject(JsonReader in) throws IOException {
+    String translationMemoryId = null;
+    String name = null;
+    String sourceLanguage = null;
+    List<String> targetLanguages = null;
+    int segmentCount = 0;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "translation_memory_id":
+          translationMemoryId = nextStringOrNull(in);
+          break;
+        case "name":
+          name = nextStringOrNull(in);
+          break;
+        case "source_language":
+          sourceLanguage = nextStringOrNull(in);
+          break;
+        case "target_languages":
+          targetLanguages = readStringList(in);
+          break;
+        case "segment_count":
+          Long count = nextLongOrNull(in);
+          segmentCount = count != null ? count.intValue() : 0;
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new TranslationMemoryInfo(
+        translationMemoryId, name, sourceLanguage, targetLanguages, segmentCount);
+  }
+}
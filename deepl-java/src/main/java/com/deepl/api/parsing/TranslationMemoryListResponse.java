@@ -14,6 +14,10 @@ import java.util.List;
 class TranslationMemoryListResponse {
   private List<TranslationMemoryInfo> translation_memories;
 
+  TranslationMemoryListResponse(List<TranslationMemoryInfo> translationMemories) {
+    this.translation_memories = translationMemories;
+  }
+
   public List<TranslationMemoryInfo> getTranslationMemories() {
     return translation_memories;
   }
@@ -0,0 +1,67 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.Usage;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+import org.jetbrains.annotations.*;
+
+/**
+ * Class representing usage responses from the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class UsageTypeAdapter extends ResponseTypeAdapter<Usage> {
+  UsageTypeAdapter(TypeAdapter<Usage> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected Usage readObject(JsonReader in) throws IOException {
+    Long characterCount = null;
+    Long characterLimit = null;
+    Long documentCount = null;
+    Long documentLimit = null;
+    Long teamDocumentCount = null;
+    Long teamDocumentLimit = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "character_count":
+          characterCount = nextLongOrNull(in);
+          break;
+        case "character_limit":
+          characterLimit = nextLongOrNull(in);
+          break;
+        case "document_count":
+          documentCount = nextLongOrNull(in);
+          break;
+        case "document_limit":
+          documentLimit = nextLongOrNull(in);
+          break;
+        case "team_document_count":
+          teamDocumentCount = nextLongOrNull(in);
+          break;
+        case "team_document_limit":
+          teamDocumentLimit = nextLongOrNull(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    return new Usage(
+        createDetail(characterCount, characterLimit),
+        createDetail(documentCount, documentLimit),
+        createDetail(teamDocumentCount, teamDocumentLimit));
+  }
+
+  private static @Nullable Usage.Detail createDetail(@Nullable Long count, @Nullable Long limit) {
+    if (count == null || limit == null) return null;
+    return new Usage.Detail(count, limit);
+  }
+}
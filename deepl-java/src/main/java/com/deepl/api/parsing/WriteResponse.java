@@ -13,4 +13,8 @@ import java.util.List;
  */
 class WriteResponse {
   public List<WriteResult> improvements;
+
+  WriteResponse(List<WriteResult> improvements) {
+    this.improvements = improvements;
+  }
 }
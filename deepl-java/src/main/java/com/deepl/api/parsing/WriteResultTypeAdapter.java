@@ -0,0 +1,49 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.parsing;
+
+import com.deepl.api.WriteResult;
+import com.google.gson.*;
+import com.google.gson.stream.*;
+import java.io.*;
+
+/**
+ * Utility class for deserializing text rephrase results returned by the DeepL API.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+class WriteResultTypeAdapter extends ResponseTypeAdapter<WriteResult> {
+  WriteResultTypeAdapter(TypeAdapter<WriteResult> delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected WriteResult readObject(JsonReader in) throws IOException {
+    String text = null;
+    String detectedSourceLanguage = null;
+    String targetLanguage = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "text":
+          text = nextStringOrNull(in);
+          break;
+        case "detected_source_language":
+          detectedSourceLanguage = nextStringOrNull(in);
+          break;
+        case "target_language":
+          targetLanguage = nextStringOrNull(in);
+          break;
+        default:
+          in.skipValue();
+          break;
+      }
+    }
+    in.endObject();
+    if (text == null || detectedSourceLanguage == null || targetLanguage == null) {
+      throw new JsonParseException("Text rephrase result is missing required fields");
+    }
+    return new WriteResult(text, detectedSourceLanguage, targetLanguage);
+  }
+}
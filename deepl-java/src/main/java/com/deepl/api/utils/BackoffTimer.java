@@ -40,6 +40,10 @@ public class BackoffTimer {
     return numRetries;
   }
 
+  public Duration getTimeUntilRetry() {
+    return getTimeUntilDeadline();
+  }
+
   public void sleepUntilRetry() throws InterruptedException {
     try {
       Thread.sleep(getTimeUntilDeadline().toMillis());
@@ -47,7 +51,14 @@ public class BackoffTimer {
       Thread.currentThread().interrupt();
       throw exception;
     }
+    startRetry();
+  }
 
+  /**
+   * Starts the next retry without sleeping, for callers that waited {@link #getTimeUntilRetry()}
+   * by other means, for example by scheduling the retry.
+   */
+  public void startRetry() {
     backoff = Duration.ofNanos((long) (backoff.toNanos() * multiplier));
     if (backoff.compareTo(backoffMax) > 0) backoff = backoffMax;
 
@@ -0,0 +1,119 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.utils;
+
+import com.deepl.api.DeepLException;
+import com.deepl.api.UncheckedDeepLException;
+import java.io.Closeable;
+import java.util.*;
+import java.util.concurrent.*;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Iterates over the items of a paginated list, loading pages on demand. While the items of a page
+ * are consumed, the next page is loaded in the background. The iteration ends at the first empty
+ * page.
+ *
+ * <p>Errors loading pages after the first are thrown as {@link UncheckedDeepLException}. Call
+ * {@link #close()} when stopping before the end, to cancel loading the next page.
+ *
+ * <p>This class is internal; you should not use this class directly.
+ */
+public class PageIterator<T> implements Iterator<T>, Closeable {
+  /** Loads the page with the given 0-based index. */
+  public interface PageLoader<T> {
+    List<T> load(int page) throws DeepLException, InterruptedException;
+  }
+
+  private static final ExecutorService prefetchExecutor =
+      new ThreadPoolExecutor(
+          0,
+          Integer.MAX_VALUE,
+          60,
+          TimeUnit.SECONDS,
+          new SynchronousQueue<>(),
+          runnable -> {
+            Thread thread = new Thread(runnable, "deepl-page-prefetch");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final PageLoader<T> loader;
+  private Iterator<T> currentPage = Collections.emptyIterator();
+  private int nextPageIndex = 0;
+  private @Nullable Future<List<T>> nextPage;
+
+  /**
+   * Loads the first page and starts loading the second page in the background.
+   *
+   * @param loader Loads a page given its index.
+   * @throws InterruptedException If the thread is interrupted while loading the first page.
+   * @throws DeepLException If an error occurs loading the first page.
+   */
+  public PageIterator(PageLoader<T> loader) throws DeepLException, InterruptedException {
+    this.loader = loader;
+    startPage(loader.load(nextPageIndex++));
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!currentPage.hasNext()) {
+      if (nextPage == null) {
+        return false;
+      }
+      startPage(awaitNextPage());
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return currentPage.next();
+  }
+
+  /** Cancels loading the next page and ends the iteration. */
+  @Override
+  public void close() {
+    if (nextPage != null) {
+      nextPage.cancel(true);
+      nextPage = null;
+    }
+    currentPage = Collections.emptyIterator();
+  }
+
+  private void startPage(List<T> page) {
+    currentPage = page.iterator();
+    if (page.isEmpty()) {
+      nextPage = null;
+    } else {
+      int pageIndex = nextPageIndex++;
+      nextPage = prefetchExecutor.submit(() -> loader.load(pageIndex));
+    }
+  }
+
+  private List<T> awaitNextPage() {
+    Future<List<T>> future = nextPage;
+    nextPage = null;
+    try {
+      return future.get();
+    } catch (InterruptedException exception) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new UncheckedDeepLException(new DeepLException("Request was interrupted", exception));
+    } catch (ExecutionException exception) {
+      Throwable cause = exception.getCause();
+      if (cause instanceof DeepLException) {
+        throw new UncheckedDeepLException((DeepLException) cause);
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new UncheckedDeepLException(new DeepLException("Failed to load page", cause));
+    }
+  }
+}
@@ -0,0 +1,50 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.utils;
+
+/**
+ * Interfaces for publishing items with backpressure, with the same methods and rules as the
+ * Reactive Streams specification and {@code java.util.concurrent.Flow}. The library targets Java
+ * 8, so it cannot implement {@code Flow} directly; as the methods are identical, adapting to {@code
+ * Flow} or to a Reactive Streams library only requires forwarding each method.
+ */
+public final class ReactiveStreams {
+  private ReactiveStreams() {}
+
+  /** Produces items for a subscriber, as requested by it. */
+  public interface Publisher<T> {
+    /**
+     * Adds the subscriber, which receives {@link Subscriber#onSubscribe} and then items once it
+     * requests them.
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+  }
+
+  /** Receives items from a publisher. */
+  public interface Subscriber<T> {
+    /** Called once before any other method, with the subscription used to request items. */
+    void onSubscribe(Subscription subscription);
+
+    /** Called for each item, at most as many times as items were requested. */
+    void onNext(T item);
+
+    /** Called once if the publisher failed; no further methods are called. */
+    void onError(Throwable throwable);
+
+    /** Called once after the last item; no further methods are called. */
+    void onComplete();
+  }
+
+  /** Links a publisher and a subscriber. */
+  public interface Subscription {
+    /** Requests up to the given number of further items, which must be positive. */
+    void request(long n);
+
+    /** Stops sending items; items already requested may still be received. */
+    void cancel();
+  }
+
+  /** Subscriber of one type of items, publishing another type of items. */
+  public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {}
+}
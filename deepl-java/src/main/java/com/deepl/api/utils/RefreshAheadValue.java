@@ -0,0 +1,118 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.utils;
+
+import com.deepl.api.DeepLException;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds a value loaded on first use and kept for a time-to-live. Once the value is older than the
+ * refresh-ahead point (80% of the time-to-live) an access triggers a reload in the background and
+ * keeps returning the current value; only an expired value is reloaded on the calling thread. Only
+ * one thread loads at a time, and callers finding an expired value while it loads wait for its
+ * result instead of loading again. A failed background reload is ignored, the next access after
+ * expiry then reports the error.
+ */
+public class RefreshAheadValue<T> {
+  /** Loads the value, typically with an API request. */
+  public interface Loader<T> {
+    T load() throws DeepLException, InterruptedException;
+  }
+
+  private static final double refreshAheadFraction = 0.8;
+
+  private static final ExecutorService refreshExecutor =
+      new ThreadPoolExecutor(
+          0,
+          1,
+          60,
+          TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          runnable -> {
+            Thread thread = new Thread(runnable, "deepl-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final Loader<T> loader;
+  private final long ttlNanos;
+  private final long refreshAheadNanos;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private final ReentrantLock loadLock = new ReentrantLock();
+  private volatile @Nullable Entry<T> entry;
+
+  public RefreshAheadValue(Duration ttl, Loader<T> loader) {
+    if (ttl.isZero() || ttl.isNegative()) {
+      throw new IllegalArgumentException("ttl must be positive");
+    }
+    this.loader = loader;
+    this.ttlNanos = ttl.toNanos();
+    this.refreshAheadNanos = (long) (ttlNanos * refreshAheadFraction);
+  }
+
+  public T get() throws DeepLException, InterruptedException {
+    Entry<T> current = entry;
+    long now = System.nanoTime();
+    if (current == null || now - current.loadedAtNanos >= ttlNanos) {
+      loadLock.lockInterruptibly();
+      try {
+        // Another thread may have loaded the value while this one waited for the lock
+        current = entry;
+        if (current != null && System.nanoTime() - current.loadedAtNanos < ttlNanos) {
+          return current.value;
+        }
+        return load();
+      } finally {
+        loadLock.unlock();
+      }
+    }
+    if (now - current.loadedAtNanos >= refreshAheadNanos && refreshing.compareAndSet(false, true)) {
+      try {
+        refreshExecutor.execute(this::refreshInBackground);
+      } catch (RejectedExecutionException exception) {
+        refreshing.set(false);
+      }
+    }
+    return current.value;
+  }
+
+  /** Discards the current value, so the next access reloads it. */
+  public void invalidate() {
+    entry = null;
+  }
+
+  private T load() throws DeepLException, InterruptedException {
+    T value = loader.load();
+    entry = new Entry<>(value, System.nanoTime());
+    return value;
+  }
+
+  private void refreshInBackground() {
+    loadLock.lock();
+    try {
+      load();
+    } catch (DeepLException | RuntimeException exception) {
+      // Keep the current value; an access after expiry reloads and reports the error.
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    } finally {
+      loadLock.unlock();
+      refreshing.set(false);
+    }
+  }
+
+  private static class Entry<T> {
+    private final T value;
+    private final long loadedAtNanos;
+
+    private Entry(T value, long loadedAtNanos) {
+      this.value = value;
+      this.loadedAtNanos = loadedAtNanos;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Creates virtual threads on Java 21 and later. The library targets Java 8, so the virtual thread
+ * API is accessed using reflection; on earlier versions {@link #isSupported()} returns <code>false
+ * </code> and platform threads are used instead.
+ */
+public final class VirtualThreads {
+  private static final @Nullable Method ofVirtual;
+  private static final @Nullable Method builderName;
+  private static final @Nullable Method builderFactory;
+  private static final @Nullable Method newThreadPerTaskExecutor;
+
+  static {
+    Method ofVirtualMethod = null;
+    Method nameMethod = null;
+    Method factoryMethod = null;
+    Method executorMethod = null;
+    try {
+      // Use the methods of the public interface, the builder implementation class is not exported
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+      nameMethod = builderClass.getMethod("name", String.class, long.class);
+      factoryMethod = builderClass.getMethod("factory");
+      executorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+    } catch (ReflectiveOperationException exception) {
+      ofVirtualMethod = null;
+    }
+    ofVirtual = ofVirtualMethod;
+    builderName = nameMethod;
+    builderFactory = factoryMethod;
+    newThreadPerTaskExecutor = executorMethod;
+  }
+
+  private VirtualThreads() {}
+
+  /** @return <code>true</code> if the Java runtime supports virtual threads. */
+  public static boolean isSupported() {
+    return ofVirtual != null;
+  }
+
+  /**
+   * Creates a factory of threads named with the given prefix and a counter: virtual threads if
+   * requested and supported, otherwise daemon platform threads.
+   *
+   * @param namePrefix Prefix of the thread names.
+   * @param virtual Whether to create virtual threads if supported.
+   */
+  public static ThreadFactory newThreadFactory(String namePrefix, boolean virtual) {
+    if (virtual && isSupported()) {
+      try {
+        Object builder = builderName.invoke(ofVirtual.invoke(null), namePrefix + "-", 0L);
+        return (ThreadFactory) builderFactory.invoke(builder);
+      } catch (ReflectiveOperationException exception) {
+        // Fall back to platform threads
+      }
+    }
+    AtomicLong counter = new AtomicLong();
+    return runnable -> {
+      Thread thread = new Thread(runnable, namePrefix + "-" + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Creates an executor that starts a new virtual thread for each task.
+   *
+   * @param namePrefix Prefix of the thread names.
+   * @return The executor, or <code>null</code> if virtual threads are not supported.
+   */
+  public static @Nullable ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+    if (!isSupported()) {
+      return null;
+    }
+    try {
+      return (ExecutorService)
+          newThreadPerTaskExecutor.invoke(null, newThreadFactory(namePrefix, true));
+    } catch (ReflectiveOperationException exception) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+// Copyright 2025 DeepL SE (https://www.deepl.com)
+// Use of this source code is governed by an MIT
+// license that can be found in the LICENSE file.
+package com.deepl.api;
+
+import com.deepl.api.utils.VirtualThreads;
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Benchmarks comparing optimized implementations with the ones they replace. They only run if the
+ * DEEPL_RUN_BENCHMARKS environment variable is set, as their measurements are only meaningful on
+ * an otherwise idle machine. The benchmarks print their measurements, and assert the results and,
+ * where the difference is reliable, that the optimized implementation is faster or smaller.
+ */
+public class BenchmarkTest extends TestBase {
+
+  private static void assumeBenchmarksEnabled() {
+    Assumptions.assumeTrue(System.getenv("DEEPL_RUN_BENCHMARKS") != null);
+  }
+
+  @Test
+  void benchmarkGlossaryEntriesValidate() {
+    assumeBenchmarksEnabled();
+    Map<String, String> entries = new HashMap<>();
+    for (int i = 0; i < 1000000; i++) {
+      entries.put("Source term " + i + (i % 100 == 0 ? "\n" : " äöü"), "Zielbegriff " + i);
+    }
+    long perTermNanos = 0;
+    long bulkNanos = 0;
+    // The first rounds warm up the JIT compiler, only the last round is compared
+    for (int round = 0; round < 5; round++) {
+      long start = System.nanoTime();
+      int perTermErrors = 0;
+      for (Map.Entry<String, String> entry : entries.entrySet()) {
+        try {
+          GlossaryEntries.validateGlossaryTerm(entry.getKey());
+          GlossaryEntries.validateGlossaryTerm(entry.getValue());
+        } catch (IllegalArgumentException exception) {
+          perTermErrors++;
+        }
+      }
+      perTermNanos = System.nanoTime() - start;
+      start = System.nanoTime();
+      GlossaryValidationReport report = GlossaryEntries.validate(entries);
+      bulkNanos = System.nanoTime() - start;
+      Assertions.assertEquals(perTermErrors, report.getErrors().size());
+      System.out.printf(
+          "Validating %d entries: per term %d ms, bulk %d ms%n",
+          entries.size(), perTermNanos / 1000000, bulkNanos / 1000000);
+    }
+    Assertions.assertTrue(bulkNanos < perTermNanos);
+  }
+
+  @Test
+  void benchmarkGlossaryEntriesCompactFootprint() throws InterruptedException {
+    assumeBenchmarksEnabled();
+    int count = 500000;
+    long defaultBytes = measureGlossaryEntriesFootprint(new GlossaryEntries(), count);
+    long compactBytes = measureGlossaryEntriesFootprint(GlossaryEntries.compact(), count);
+    System.out.printf(
+        "GlossaryEntries footprint for %d entries: default %d, compact %d bytes per entry%n",
+        count, defaultBytes / count, compactBytes / count);
+    Assertions.assertTrue(compactBytes < defaultBytes);
+  }
+
+  /**
+   * Virtual threads need less memory than platform threads, but need not increase the throughput,
+   * so only the results are checked.
+   */
+  @Test
+  void benchmarkConcurrentTranslateText() throws Exception {
+    Assumptions.assumeTrue(isMockServer);
+    assumeBenchmarksEnabled();
+    int count = 10000;
+    // Warm up the JIT compiler and the connection pool before measuring
+    measureConcurrentTranslateText(false, count);
+    long platformNanos = measureConcurrentTranslateText(false, count);
+    long virtualNanos = measureConcurrentTranslateText(true, count);
+    System.out.printf(
+        "%d concurrent translations: platform threads %.0f, %s threads %.0f per second%n",
+        count,
+        count * 1e9 / platformNanos,
+        VirtualThreads.isSupported() ? "virtual" : "platform",
+        count * 1e9 / virtualNanos);
+  }
+
+  private long measureConcurrentTranslateText(boolean virtualThreads, int count) throws Exception {
+    Translator translator =
+        createTranslator(
+            new SessionOptions(), new TranslatorOptions().setVirtualThreads(virtualThreads));
+    ExecutorService executor =
+        Executors.newCachedThreadPool(translator.newThreadFactory("benchmark"));
+    long start = System.nanoTime();
+    List<Future<TextResult>> futures = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      futures.add(
+          executor.submit(() -> translator.translateText(exampleText.get("en"), null, "de")));
+    }
+    for (Future<TextResult> future : futures) {
+      Assertions.assertEquals(exampleText.get("de"), future.get().getText());
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    executor.shutdown();
+    return elapsedNanos;
+  }
+
+  private static long measureGlossaryEntriesFootprint(GlossaryEntries entries, int count)
+      throws InterruptedException {
+    long before = usedHeapAfterGc();
+    for (int i = 0; i < count; i++) {
+      entries.put("source term " + i, "Zielbegriff " + i);
+    }
+    long after = usedHeapAfterGc();
+    Assertions.assertEquals(count, entries.size());
+    return after - before;
+  }
+
+  private static long usedHeapAfterGc() throws InterruptedException {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -163,6 +163,71 @@ class GeneralTest extends TestBase {
     }
   }
 
+  @Test
+  void testLanguageCache() throws DeepLException, InterruptedException {
+    Translator translator =
+        createTranslator(
+            new SessionOptions(),
+            new TranslatorOptions().setLanguageCacheTtl(Duration.ofMinutes(10)));
+    LanguageCache languageCache = translator.getLanguageCache();
+    Assertions.assertNotNull(languageCache);
+
+    List<Language> targetLanguages = translator.getTargetLanguages();
+    Assertions.assertSame(targetLanguages, translator.getTargetLanguages());
+    Assertions.assertTrue(languageCache.isTargetLanguage("DE"));
+    Assertions.assertTrue(languageCache.isTargetLanguage("en-us"));
+    Assertions.assertFalse(languageCache.isTargetLanguage("xx"));
+    Assertions.assertTrue(languageCache.supportsFormality(LanguageCode.German));
+    Assertions.assertTrue(languageCache.isSourceLanguage(LanguageCode.English));
+    Assertions.assertFalse(languageCache.isSourceLanguage(LanguageCode.EnglishAmerican));
+    Assertions.assertTrue(languageCache.isGlossaryLanguagePair("en", "de"));
+    Assertions.assertFalse(languageCache.isGlossaryLanguagePair("en", "xx"));
+
+    languageCache.invalidate();
+    Assertions.assertNotSame(targetLanguages, translator.getTargetLanguages());
+    Assertions.assertNull(createTranslator().getLanguageCache());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TranslatorOptions().setLanguageCacheTtl(Duration.ZERO));
+  }
+
+  @Test
+  void testLocalValidation() throws DeepLException, InterruptedException {
+    Translator translator =
+        createTranslator(new SessionOptions(), new TranslatorOptions().setLocalValidation(true));
+    Assertions.assertNotNull(translator.getLanguageCache());
+
+    IllegalArgumentException thrown =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> translator.translateText(exampleText.get("en"), null, "xx"));
+    Assertions.assertTrue(thrown.getMessage().contains("targetLang=\"xx\""));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> translator.translateText(exampleText.get("en"), "en-US", LanguageCode.German));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            translator.createGlossary(
+                "test", "en", "xx", new GlossaryEntries(Collections.singletonMap("a", "b"))));
+
+    TextResult result = translator.translateText(exampleText.get("en"), null, LanguageCode.German);
+    Assertions.assertEquals(exampleText.get("de"), result.getText());
+  }
+
+  @Test
+  void testStandardizeLanguageCode() {
+    Assertions.assertSame(LanguageCode.EnglishBritish, LanguageCode.standardize("EN-GB"));
+    Assertions.assertSame(LanguageCode.EnglishBritish, LanguageCode.standardize("en-gb"));
+    Assertions.assertSame(LanguageCode.German, LanguageCode.standardize("DE"));
+    Assertions.assertEquals("en-GB", LanguageCode.standardize("En-gB"));
+    Assertions.assertEquals("xx-YY", LanguageCode.standardize("XX-yy"));
+    Assertions.assertEquals("zh-HANS", LanguageCode.standardize("zh-hans"));
+
+    LanguageCode.learn("zh-hans");
+    Assertions.assertSame(LanguageCode.standardize("ZH-HANS"), LanguageCode.standardize("zh-hans"));
+  }
+
   @Test
   void testAuthKeyIsFreeAccount() {
     Assertions.assertTrue(
@@ -214,6 +279,73 @@ class GeneralTest extends TestBase {
         () -> translator.translateText(exampleText.get("en"), null, "DE"));
   }
 
+  @Test
+  void testCircuitBreaker() throws DeepLException, InterruptedException {
+    Assumptions.assumeTrue(isMockServer);
+    List<CircuitBreaker.State> transitions = new ArrayList<>();
+    CircuitBreaker circuitBreaker =
+        new CircuitBreaker()
+            .setMinimumCalls(2)
+            .setOpenDuration(Duration.ofMillis(500))
+            .setHalfOpenCalls(1)
+            .addStateChangeListener((endpoint, previous, state) -> transitions.add(state));
+    Translator translator =
+        createTranslator(
+            new SessionOptions().setRespondWith429(2),
+            new TranslatorOptions().setCircuitBreaker(circuitBreaker));
+
+    // The circuit opens after two failed attempts, which stops retrying
+    Assertions.assertThrows(
+        TooManyRequestsException.class,
+        () -> translator.translateText(exampleText.get("en"), null, "DE"));
+    Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState("/v2/translate"));
+    CircuitBreakerOpenException exception =
+        Assertions.assertThrows(
+            CircuitBreakerOpenException.class,
+            () -> translator.translateText(exampleText.get("en"), null, "DE"));
+    Assertions.assertEquals("/v2/translate", exception.getEndpoint());
+    Assertions.assertEquals(
+        1, circuitBreaker.getMetrics("/v2/translate").getNumberOfRejectedCalls());
+
+    // A successful trial request after the open duration closes the circuit
+    Thread.sleep(600);
+    translator.translateText(exampleText.get("en"), null, "DE");
+    Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState("/v2/translate"));
+    Assertions.assertEquals(
+        Arrays.asList(
+            CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED),
+        transitions);
+  }
+
+  @Test
+  void testCircuitBreakerUnreportedTrialCalls() throws Exception {
+    CircuitBreaker circuitBreaker =
+        new CircuitBreaker()
+            .setMinimumCalls(1)
+            .setOpenDuration(Duration.ofMillis(200))
+            .setHalfOpenCalls(1);
+    String endpoint = "/v2/translate";
+    circuitBreaker.onResult(endpoint, circuitBreaker.acquirePermission(endpoint), 0, true);
+    Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState(endpoint));
+
+    // A cancelled trial call returns its permit, while the next one never reports its outcome
+    Thread.sleep(250);
+    circuitBreaker.onCancelled(endpoint, circuitBreaker.acquirePermission(endpoint));
+    long abandonedPermit = circuitBreaker.acquirePermission(endpoint);
+    CircuitBreakerOpenException exception =
+        Assertions.assertThrows(
+            CircuitBreakerOpenException.class, () -> circuitBreaker.acquirePermission(endpoint));
+    Assertions.assertTrue(exception.getRetryAfter().toMillis() > 0);
+
+    // After the open duration a new trial call is permitted, and the abandoned one is ignored
+    Thread.sleep(250);
+    long permit = circuitBreaker.acquirePermission(endpoint);
+    circuitBreaker.onResult(endpoint, abandonedPermit, 0, true);
+    Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState(endpoint));
+    circuitBreaker.onResult(endpoint, permit, 0, false);
+    Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState(endpoint));
+  }
+
   @Test
   void testUsageOverrun() throws DeepLException, InterruptedException, IOException {
     Assumptions.assumeTrue(isMockServer);
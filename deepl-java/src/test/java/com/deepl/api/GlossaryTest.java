@@ -23,7 +23,9 @@ public class GlossaryTest extends TestBase {
     testEntries.put("crab apple", "Holzapfel");
     Assertions.assertEquals(
         testEntries, GlossaryEntries.fromTsv("apple\tApfel\n crab apple \t Holzapfel "));
-    Assertions.assertThrows(Exception.class, () -> GlossaryEntries.fromTsv(""));
+    IllegalArgumentException thrown =
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GlossaryEntries.fromTsv(""));
+    Assertions.assertEquals("TSV string contains no valid entries", thrown.getMessage());
     Assertions.assertThrows(
         Exception.class, () -> GlossaryEntries.fromTsv("Küche\tKitchen\nKüche\tCuisine"));
     Assertions.assertThrows(Exception.class, () -> GlossaryEntries.fromTsv("A\tB\tC"));
@@ -33,6 +35,124 @@ public class GlossaryTest extends TestBase {
         Exception.class, () -> new GlossaryEntries(Collections.singletonMap("A", "B\tC")));
   }
 
+  @Test
+  void testGlossaryEntriesFromReader() throws IOException {
+    GlossaryEntries expectedEntries = new GlossaryEntries();
+    expectedEntries.put("apple", "Apfel");
+    expectedEntries.put("crab, apple", "Holz\"apfel");
+    Assertions.assertEquals(
+        expectedEntries,
+        GlossaryEntries.fromTsv(new StringReader("apple\tApfel\r\n\n crab, apple \tHolz\"apfel")));
+    Assertions.assertEquals(
+        expectedEntries,
+        GlossaryEntries.fromCsv(
+            new StringReader("apple,Apfel,en,de\r\n\n\"crab, apple\", \"Holz\"\"apfel\"")));
+
+    IllegalArgumentException thrown =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> GlossaryEntries.fromTsv(new StringReader("A\tB\n\nA\tC")));
+    Assertions.assertTrue(thrown.getMessage().contains("line 3"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> GlossaryEntries.fromCsv("A,B\n\"C,D"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> GlossaryEntries.fromCsv("A,B,C"));
+  }
+
+  @Test
+  void testGlossaryEntriesValidate() {
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put(" apple\t", "\tApfel ");
+    entries.put("crab\u0085apple", "Holzapfel");
+    entries.put("pear", "Birne\u2029");
+    entries.put("plum", " \t ");
+    entries.put("Küche 😀", "Kitchen 😀");
+    GlossaryValidationReport report = GlossaryEntries.validate(entries);
+    Assertions.assertFalse(report.isValid());
+    Assertions.assertEquals(
+        Arrays.asList("crab\u0085apple", "pear", "plum"), report.getInvalidSourceTerms());
+    Assertions.assertEquals(3, report.getErrors().size());
+    for (String sourceTerm : report.getInvalidSourceTerms()) {
+      IllegalArgumentException thrown =
+          Assertions.assertThrows(
+              IllegalArgumentException.class,
+              () -> new GlossaryEntries().put(sourceTerm, entries.get(sourceTerm)));
+      Assertions.assertTrue(report.getErrors().contains(thrown.getMessage()));
+    }
+    IllegalArgumentException thrown =
+        Assertions.assertThrows(IllegalArgumentException.class, report::throwIfInvalid);
+    Assertions.assertTrue(thrown.getMessage().startsWith("3 glossary entries"));
+
+    entries.keySet().removeAll(report.getInvalidSourceTerms());
+    Assertions.assertTrue(GlossaryEntries.validate(entries).isValid());
+    GlossaryEntries.validate(entries).throwIfInvalid();
+  }
+
+  @Test
+  void testGlossaryEntriesWriteTsv() throws IOException {
+    GlossaryEntries entries = new GlossaryEntries();
+    entries.put("Hello", "Hallo");
+    entries.put("smile 😀", "Lächeln 😀");
+    StringWriter writer = new StringWriter();
+    entries.writeTsv(writer);
+    Assertions.assertEquals(entries.toTsv(), writer.toString());
+    Assertions.assertEquals(entries, GlossaryEntries.fromTsv(writer.toString()));
+  }
+
+  @Test
+  void testGlossaryEntriesCompact() {
+    GlossaryEntries expectedEntries = new GlossaryEntries();
+    GlossaryEntries entries = GlossaryEntries.compact();
+    for (int i = 0; i < 1000; i++) {
+      String sourceTerm = "Term " + i + (i % 3 == 0 ? " 😀" : "");
+      String targetTerm = "Begriff " + i + (i % 5 == 0 ? " äöü" : "");
+      Assertions.assertEquals(
+          expectedEntries.put(sourceTerm, targetTerm), entries.put(sourceTerm, targetTerm));
+    }
+    for (int i = 0; i < 1000; i += 7) {
+      String sourceTerm = "Term " + i + (i % 3 == 0 ? " 😀" : "");
+      Assertions.assertEquals(expectedEntries.remove(sourceTerm), entries.remove(sourceTerm));
+      Assertions.assertEquals(
+          expectedEntries.put("Term 1", "B" + i), entries.put("Term 1", "B" + i));
+    }
+    Assertions.assertEquals(expectedEntries, entries);
+    Assertions.assertEquals(expectedEntries.size(), entries.size());
+    Assertions.assertEquals("Begriff 10 äöü", entries.get("Term 10"));
+    Assertions.assertNull(entries.get("Term 14"));
+    Assertions.assertEquals(expectedEntries, GlossaryEntries.fromTsv(entries.toTsv()));
+
+    entries.entrySet().removeIf(entry -> entry.getKey().endsWith("😀"));
+    expectedEntries.entrySet().removeIf(entry -> entry.getKey().endsWith("😀"));
+    Assertions.assertEquals(expectedEntries, entries);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> entries.put("A", "B\tC"));
+  }
+
+  @Test
+  void testGlossaryTermMatcher() {
+    GlossaryEntries entries = new GlossaryEntries();
+    entries.put("he", "er");
+    entries.put("she", "sie");
+    entries.put("hers", "ihre");
+    entries.put("Cat 😀", "Katze 😀");
+    GlossaryTermMatcher matcher = new GlossaryTermMatcher(entries.keySet());
+    Assertions.assertEquals(4, matcher.getTermCount());
+    Assertions.assertEquals(Arrays.asList("she", "he", "hers"), matcher.findTerms("ushers"));
+    Assertions.assertEquals(Arrays.asList("Cat 😀"), matcher.findTerms("A CAT 😀 sat"));
+    Assertions.assertTrue(matcher.containsTerm("The"));
+    Assertions.assertFalse(matcher.containsTerm("A cat sat"));
+    Assertions.assertFalse(matcher.containsTerm(""));
+
+    List<String> texts = Arrays.asList("Hello", "A dog", "Cat 😀", "Xyz");
+    BitSet expected = new BitSet();
+    expected.set(0);
+    expected.set(2);
+    Assertions.assertEquals(expected, matcher.findTextsContainingTerms(texts));
+
+    GlossaryTermMatcher caseSensitive = new GlossaryTermMatcher(entries.keySet(), false);
+    Assertions.assertFalse(caseSensitive.containsTerm("A CAT 😀 sat"));
+    Assertions.assertTrue(caseSensitive.containsTerm("A Cat 😀 sat"));
+    Assertions.assertFalse(new GlossaryTermMatcher(Collections.emptyList()).containsTerm("Hello"));
+  }
+
   @Test
   void testGlossaryCreate() throws Exception {
     Translator translator = createTranslator();
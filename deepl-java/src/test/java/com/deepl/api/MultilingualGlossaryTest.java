@@ -4,7 +4,10 @@
 package com.deepl.api;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.time.Duration;
 import java.util.*;
+import java.util.stream.*;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -204,6 +207,13 @@ public class MultilingualGlossaryTest extends TestBase {
       Assertions.assertTrue(
           glossaries.stream()
               .anyMatch((glossaryInfo -> Objects.equals(glossaryInfo.getName(), glossaryName))));
+
+      try (Stream<MultilingualGlossaryInfo> glossaryStream =
+          deepLClient.streamMultilingualGlossaries()) {
+        Assertions.assertTrue(
+            glossaryStream.anyMatch(
+                (glossaryInfo -> Objects.equals(glossaryInfo.getName(), glossaryName))));
+      }
     }
   }
 
@@ -460,6 +470,232 @@ public class MultilingualGlossaryTest extends TestBase {
     }
   }
 
+  @Test
+  void testGlossarySyncDictionary() throws Exception {
+    DeepLClient deepLClient = createDeepLClient();
+    try (MultilingualGlossaryCleanupUtility cleanup =
+        new MultilingualGlossaryCleanupUtility(deepLClient)) {
+      String glossaryName = cleanup.getGlossaryName();
+
+      GlossaryEntries entries = new GlossaryEntries();
+      entries.put("key1", "value1");
+      entries.put("key2", "value2");
+      List<MultilingualGlossaryDictionaryEntries> glossaryDicts =
+          Arrays.asList(new MultilingualGlossaryDictionaryEntries(sourceLang, targetLang, entries));
+      MultilingualGlossaryInfo glossary =
+          deepLClient.createMultilingualGlossary(glossaryName, glossaryDicts);
+
+      GlossaryEntries newEntries = new GlossaryEntries(entries);
+      newEntries.put("key1", "updatedValue1");
+      newEntries.put("newKey", "newValue");
+      GlossarySyncResult result =
+          deepLClient.syncMultilingualGlossaryDictionary(
+              glossary.getGlossaryId(), sourceLang, targetLang, newEntries);
+      Assertions.assertEquals(GlossarySyncResult.Operation.Update, result.getOperation());
+      GlossaryDiff diff = result.getDiff();
+      Assertions.assertEquals(Collections.singleton("newKey"), diff.getAdded().keySet());
+      Assertions.assertEquals(Collections.singleton("key1"), diff.getChanged().keySet());
+      Assertions.assertEquals(1, diff.getUnchangedCount());
+      Assertions.assertEquals(
+          newEntries,
+          deepLClient
+              .getMultilingualGlossaryDictionaryEntries(glossary, sourceLang, targetLang)
+              .getEntries());
+
+      result =
+          deepLClient.syncMultilingualGlossaryDictionary(
+              glossary.getGlossaryId(), sourceLang, targetLang, newEntries);
+      Assertions.assertEquals(GlossarySyncResult.Operation.None, result.getOperation());
+
+      newEntries.remove("key2");
+      MultilingualGlossaryDictionaryEntries newGlossaryDict =
+          new MultilingualGlossaryDictionaryEntries(sourceLang, targetLang, newEntries);
+      result = deepLClient.syncMultilingualGlossaryDictionary(glossary, newGlossaryDict);
+      Assertions.assertEquals(GlossarySyncResult.Operation.Replace, result.getOperation());
+      Assertions.assertEquals(Collections.singletonList("key2"), result.getDiff().getRemoved());
+      Assertions.assertEquals(2, result.getEntryCount());
+      Assertions.assertEquals(
+          newEntries,
+          deepLClient
+              .getMultilingualGlossaryDictionaryEntries(glossary, sourceLang, targetLang)
+              .getEntries());
+
+      Assertions.assertThrows(
+          GlossaryNotFoundException.class,
+          () ->
+              deepLClient.syncMultilingualGlossaryDictionary(
+                  nonexistentGlossaryId, sourceLang, targetLang, new GlossaryEntries()));
+    }
+  }
+
+  @Test
+  void testGlossarySnapshotCache() throws Exception {
+    File cacheFile = File.createTempFile("glossary-snapshots", ".tsv");
+    cacheFile.deleteOnExit();
+    GlossarySnapshotCache cache = new GlossarySnapshotCache(cacheFile.toPath());
+    DeepLClient deepLClient =
+        createDeepLClient(
+            new SessionOptions(), new DeepLClientOptions().setGlossarySnapshotCache(cache));
+    try (MultilingualGlossaryCleanupUtility cleanup =
+        new MultilingualGlossaryCleanupUtility(deepLClient)) {
+      String glossaryName = cleanup.getGlossaryName();
+      MultilingualGlossaryInfo glossary =
+          deepLClient.createMultilingualGlossary(glossaryName, Arrays.asList(testGlossaryDict));
+      String glossaryId = glossary.getGlossaryId();
+
+      GlossaryEntries reorderedEntries = new GlossaryEntries(testEntries);
+      String contentHash = GlossarySnapshotCache.contentHash(reorderedEntries);
+      Assertions.assertEquals(GlossarySnapshotCache.contentHash(testEntries), contentHash);
+      Assertions.assertNotNull(cache.getUnchanged(glossaryId, sourceLang, targetLang, contentHash));
+
+      // Unchanged entries are skipped, also when the cache is loaded from the file again
+      GlossarySnapshotCache reloadedCache = new GlossarySnapshotCache(cacheFile.toPath());
+      MultilingualGlossaryDictionaryInfo unchanged =
+          reloadedCache.getUnchanged(glossaryId, sourceLang, targetLang, contentHash);
+      Assertions.assertNotNull(unchanged);
+      Assertions.assertEquals(1, unchanged.getEntryCount());
+      Assertions.assertEquals(
+          1,
+          deepLClient
+              .replaceMultilingualGlossaryDictionary(glossary, testGlossaryDict)
+              .getEntryCount());
+
+      GlossaryEntries newEntries = new GlossaryEntries(testEntries);
+      newEntries.put("Goodbye", "Auf Wiedersehen");
+      MultilingualGlossaryDictionaryInfo replaced =
+          deepLClient.replaceMultilingualGlossaryDictionary(
+              glossaryId, sourceLang, targetLang, newEntries);
+      Assertions.assertEquals(2, replaced.getEntryCount());
+      String newContentHash = GlossarySnapshotCache.contentHash(newEntries);
+      Assertions.assertNull(cache.getUnchanged(glossaryId, sourceLang, targetLang, contentHash));
+      Assertions.assertNotNull(
+          cache.getUnchanged(glossaryId, sourceLang, targetLang, newContentHash));
+
+      deepLClient.deleteMultilingualGlossary(glossaryId);
+      reloadedCache = new GlossarySnapshotCache(cacheFile.toPath());
+      Assertions.assertNull(
+          reloadedCache.getUnchanged(glossaryId, sourceLang, targetLang, newContentHash));
+    }
+  }
+
+  @Test
+  void testGlossarySnapshotCacheWriteFailure() throws Exception {
+    File cacheDirectory = Files.createTempDirectory("glossary-snapshots").toFile();
+    GlossarySnapshotCache cache =
+        new GlossarySnapshotCache(new File(cacheDirectory, "snapshots.tsv").toPath());
+    // Writing the cache file fails once its directory is removed
+    Assertions.assertTrue(cacheDirectory.delete());
+    DeepLClient deepLClient =
+        createDeepLClient(
+            new SessionOptions(), new DeepLClientOptions().setGlossarySnapshotCache(cache));
+    try (MultilingualGlossaryCleanupUtility cleanup =
+        new MultilingualGlossaryCleanupUtility(deepLClient)) {
+      MultilingualGlossaryInfo glossary =
+          deepLClient.createMultilingualGlossary(
+              cleanup.getGlossaryName(), Arrays.asList(testGlossaryDict));
+      Assertions.assertNotNull(glossary.getGlossaryId());
+      Assertions.assertNull(
+          cache.getUnchanged(
+              glossary.getGlossaryId(),
+              sourceLang,
+              targetLang,
+              GlossarySnapshotCache.contentHash(testEntries)));
+    }
+  }
+
+  @Test
+  void testGlossaryCache() throws Exception {
+    TranslatorOptions options = new DeepLClientOptions().setGlossaryCacheTtl(Duration.ofHours(1));
+    DeepLClient deepLClient = createDeepLClient(new SessionOptions(), options);
+    DeepLClient uncachedClient = createDeepLClient();
+    GlossaryCache cache = deepLClient.getGlossaryCache();
+    Assertions.assertNotNull(cache);
+    Assertions.assertNull(uncachedClient.getGlossaryCache());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new DeepLClientOptions().setGlossaryCacheTtl(Duration.ofSeconds(-1)));
+    try (MultilingualGlossaryCleanupUtility cleanup =
+        new MultilingualGlossaryCleanupUtility(deepLClient)) {
+      String glossaryName = cleanup.getGlossaryName();
+      MultilingualGlossaryInfo glossary =
+          deepLClient.createMultilingualGlossary(glossaryName, Arrays.asList(testGlossaryDict));
+      String glossaryId = glossary.getGlossaryId();
+      Assertions.assertSame(glossary, deepLClient.getMultilingualGlossary(glossaryId));
+
+      // Changes through the same client update the cached glossary
+      GlossaryEntries newEntries = new GlossaryEntries(testEntries);
+      newEntries.put("Goodbye", "Auf Wiedersehen");
+      deepLClient.replaceMultilingualGlossaryDictionary(
+          glossaryId, sourceLang, targetLang, newEntries);
+      MultilingualGlossaryInfo cachedGlossary = deepLClient.getMultilingualGlossary(glossaryId);
+      Assertions.assertEquals(1, cachedGlossary.getDictionaries().size());
+      Assertions.assertEquals(2, cachedGlossary.getDictionaries().get(0).getEntryCount());
+
+      // Changes through other clients are not seen until the glossary is invalidated
+      uncachedClient.updateMultilingualGlossaryName(glossaryId, glossaryName + " renamed");
+      Assertions.assertEquals(
+          glossaryName, deepLClient.getMultilingualGlossary(glossaryId).getName());
+      cache.invalidate(glossaryId);
+      Assertions.assertEquals(
+          glossaryName + " renamed", deepLClient.getMultilingualGlossary(glossaryId).getName());
+
+      deepLClient.deleteMultilingualGlossary(glossaryId);
+      Assertions.assertThrows(
+          GlossaryNotFoundException.class, () -> deepLClient.getMultilingualGlossary(glossaryId));
+      Assertions.assertThrows(
+          GlossaryNotFoundException.class, () -> deepLClient.getGlossary(glossaryId));
+    }
+
+    String nonExistentId = "96ab91fd-e715-41a1-adeb-5d701f84a483";
+    Assertions.assertThrows(
+        GlossaryNotFoundException.class, () -> deepLClient.getMultilingualGlossary(nonExistentId));
+    Assertions.assertNotNull(cache.getMultilingualGlossary(nonExistentId));
+    cache.clear();
+    Assertions.assertNull(cache.getMultilingualGlossary(nonExistentId));
+  }
+
+  @Test
+  void testGlossaryGetAllDictionaryEntries() throws Exception {
+    DeepLClient deepLClient = createDeepLClient();
+    try (MultilingualGlossaryCleanupUtility cleanup =
+        new MultilingualGlossaryCleanupUtility(deepLClient)) {
+      String glossaryName = cleanup.getGlossaryName();
+      GlossaryEntries reverseEntries =
+          new GlossaryEntries(Collections.singletonMap("Hallo", "Hello"));
+      GlossaryEntries frenchEntries =
+          new GlossaryEntries(Collections.singletonMap("Hello", "Salut"));
+      List<MultilingualGlossaryDictionaryEntries> glossaryDicts =
+          Arrays.asList(
+              testGlossaryDict,
+              new MultilingualGlossaryDictionaryEntries(targetLang, sourceLang, reverseEntries),
+              new MultilingualGlossaryDictionaryEntries(sourceLang, "fr", frenchEntries));
+      MultilingualGlossaryInfo glossary =
+          deepLClient.createMultilingualGlossary(glossaryName, glossaryDicts);
+
+      for (int maxConcurrency : new int[] {1, 2, 8}) {
+        Map<GlossaryLanguagePair, MultilingualGlossaryDictionaryEntries> result =
+            deepLClient.getAllMultilingualGlossaryDictionaryEntries(glossary, maxConcurrency);
+        Assertions.assertEquals(glossaryDicts.size(), result.size());
+        for (MultilingualGlossaryDictionaryEntries glossaryDict : glossaryDicts) {
+          MultilingualGlossaryDictionaryEntries fetched =
+              result.get(
+                  new GlossaryLanguagePair(
+                      glossaryDict.getSourceLanguageCode(), glossaryDict.getTargetLanguageCode()));
+          Assertions.assertNotNull(fetched);
+          Assertions.assertEquals(glossaryDict.getEntries(), fetched.getEntries());
+        }
+      }
+
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> deepLClient.getAllMultilingualGlossaryDictionaryEntries(glossary, 0));
+      deepLClient.deleteMultilingualGlossary(glossary);
+      Assertions.assertThrows(
+          GlossaryNotFoundException.class,
+          () -> deepLClient.getAllMultilingualGlossaryDictionaryEntries(glossary));
+    }
+  }
+
   @Test
   void testGlossaryUpdateName() throws Exception {
     DeepLClient deepLClient = createDeepLClient();
@@ -6,6 +6,8 @@ package com.deepl.api;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.*;
 
 public class StyleRuleTest extends TestBase {
@@ -42,6 +44,25 @@ public class StyleRuleTest extends TestBase {
     Assertions.assertNull(styleRules.get(0).getCustomInstructions());
   }
 
+  @Test
+  void testStreamStyleRules() throws Exception {
+    Assumptions.assumeTrue(isMockServer);
+    DeepLClient client = createDeepLClient();
+    List<StyleRuleInfo> styleRules = client.getAllStyleRules(0, 25, true);
+
+    try (Stream<StyleRuleInfo> styleRuleStream = client.streamStyleRules(1, true)) {
+      List<String> streamedIds =
+          styleRuleStream.map(StyleRuleInfo::getStyleId).collect(Collectors.toList());
+      Assertions.assertEquals(
+          styleRules.stream().map(StyleRuleInfo::getStyleId).collect(Collectors.toList()),
+          streamedIds);
+    }
+    try (Stream<StyleRuleInfo> styleRuleStream = client.streamStyleRules()) {
+      Assertions.assertEquals(DEFAULT_STYLE_ID, styleRuleStream.findFirst().get().getStyleId());
+    }
+    Assertions.assertThrows(IllegalArgumentException.class, () -> client.streamStyleRules(0, null));
+  }
+
   @Test
   void testStyleRuleCrud() throws Exception {
     DeepLClient client = createDeepLClient();
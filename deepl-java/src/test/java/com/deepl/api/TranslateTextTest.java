@@ -3,7 +3,12 @@
 // license that can be found in the LICENSE file.
 package com.deepl.api;
 
+import com.deepl.api.utils.ReactiveStreams;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
@@ -137,6 +142,395 @@ public class TranslateTextTest extends TestBase {
     Assertions.assertTrue(timeAfter - timeBefore > 1000);
   }
 
+  @Test
+  void testTranslateAsyncWithRetries() throws Exception {
+    Assumptions.assumeTrue(isMockServer);
+    Translator translator = createTranslator(new SessionOptions().setRespondWith429(2));
+
+    long timeBefore = new Date().getTime();
+    CompletableFuture<List<TextResult>> future =
+        translator.translateTextAsync(
+            Arrays.asList(exampleText.get("en"), exampleText.get("ja")), null, "de", null);
+    List<TextResult> result = future.get();
+    long timeAfter = new Date().getTime();
+
+    Assertions.assertEquals(2, result.size());
+    Assertions.assertEquals(exampleText.get("de"), result.get(0).getText());
+    Assertions.assertEquals("ja", result.get(1).getDetectedSourceLanguage());
+    Assertions.assertTrue(timeAfter - timeBefore > 1000);
+
+    ExecutionException exception =
+        Assertions.assertThrows(
+            ExecutionException.class,
+            () -> translator.translateTextAsync(exampleText.get("en"), null, "XX", null).get());
+    Assertions.assertTrue(exception.getCause() instanceof DeepLException);
+    Assertions.assertTrue(exception.getCause().getMessage().contains("target_lang"));
+
+    Translator validatingTranslator =
+        createTranslator(new SessionOptions(), new TranslatorOptions().setLocalValidation(true));
+    exception =
+        Assertions.assertThrows(
+            ExecutionException.class,
+            () ->
+                validatingTranslator
+                    .translateTextAsync(exampleText.get("en"), null, "XX", null)
+                    .get());
+    Assertions.assertTrue(exception.getCause() instanceof IllegalArgumentException);
+  }
+
+  @Test
+  void testTranslateAsyncCancelStopsRetries() throws Exception {
+    Assumptions.assumeTrue(isMockServer);
+    RequestScheduler scheduler = new RequestScheduler();
+    Translator translator =
+        createTranslator(
+            new SessionOptions().setRespondWith429(5),
+            new TranslatorOptions().setRequestScheduler(scheduler));
+
+    CompletableFuture<TextResult> future =
+        translator.translateTextAsync(exampleText.get("en"), null, "de", null);
+    // Cancel while waiting to retry after the first 429 response
+    while (scheduler.getMetrics(RequestPriority.Normal).getThrottledCount() == 0) {
+      Thread.sleep(10);
+    }
+    Assertions.assertTrue(future.cancel(true));
+    long dispatchedCount = scheduler.getMetrics(RequestPriority.Normal).getDispatchedCount();
+
+    // Longer than the first backoff interval
+    Thread.sleep(3000);
+    RequestScheduler.Metrics metrics = scheduler.getMetrics(RequestPriority.Normal);
+    Assertions.assertEquals(dispatchedCount, metrics.getDispatchedCount());
+    Assertions.assertEquals(0, metrics.getInFlight());
+  }
+
+  @Test
+  void testTranslateWithPerCallRetries() throws DeepLException, InterruptedException {
+    Assumptions.assumeTrue(isMockServer);
+    Translator translator = createTranslator(new SessionOptions().setRespondWith429(2));
+
+    // Interactive call failing fast, without retrying the first 429 response
+    TextTranslationOptions interactiveOptions = new TextTranslationOptions();
+    interactiveOptions.setMaxRetries(0).setAttemptTimeout(Duration.ofSeconds(2));
+    Assertions.assertThrows(
+        TooManyRequestsException.class,
+        () -> translator.translateText(exampleText.get("en"), null, "de", interactiveOptions));
+
+    // The same translator retries the second 429 response for calls with default options
+    TextResult result = translator.translateText(exampleText.get("en"), null, "de");
+    Assertions.assertEquals(exampleText.get("de"), result.getText());
+  }
+
+  @Test
+  void testTranslateWithRequestScheduler() throws Exception {
+    RequestScheduler scheduler = new RequestScheduler().setMaxConcurrentRequests(1);
+    Translator translator =
+        createTranslator(
+            new SessionOptions(), new TranslatorOptions().setRequestScheduler(scheduler));
+    TextTranslationOptions batchOptions = new TextTranslationOptions();
+    batchOptions.setPriority(RequestPriority.Batch);
+    TextTranslationOptions interactiveOptions = new TextTranslationOptions();
+    interactiveOptions.setPriority(RequestPriority.Interactive);
+
+    List<CompletableFuture<TextResult>> batchResults = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      batchResults.add(
+          translator.translateTextAsync(exampleText.get("en"), null, "de", batchOptions));
+    }
+    TextResult result =
+        translator.translateText(exampleText.get("en"), null, "de", interactiveOptions);
+    Assertions.assertEquals(exampleText.get("de"), result.getText());
+    for (CompletableFuture<TextResult> batchResult : batchResults) {
+      Assertions.assertEquals(exampleText.get("de"), batchResult.get().getText());
+    }
+
+    RequestScheduler.Metrics interactiveMetrics = scheduler.getMetrics(RequestPriority.Interactive);
+    RequestScheduler.Metrics batchMetrics = scheduler.getMetrics(RequestPriority.Batch);
+    // Each attempt is dispatched, including retries
+    Assertions.assertTrue(interactiveMetrics.getDispatchedCount() >= 1);
+    Assertions.assertTrue(batchMetrics.getDispatchedCount() >= 5);
+    Assertions.assertEquals(0, batchMetrics.getQueueDepth());
+    Assertions.assertEquals(0, batchMetrics.getInFlight());
+    // The interactive request waits for at most the batch request in flight
+    Assertions.assertTrue(
+        interactiveMetrics.getMaxWaitTime().compareTo(batchMetrics.getMaxWaitTime()) <= 0);
+  }
+
+  @Test
+  void testTranslateWithConcurrencyLimiter() throws Exception {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter().setInitialLimit(1).setMaxQueueSize(0);
+    Translator translator =
+        createTranslator(
+            new SessionOptions(), new TranslatorOptions().setConcurrencyLimiter(limiter));
+
+    CompletableFuture<TextResult> first =
+        translator.translateTextAsync(exampleText.get("en"), null, "de", null);
+    // The first request holds the only slot and the queue holds no requests
+    ExecutionException exception =
+        Assertions.assertThrows(
+            ExecutionException.class,
+            () -> translator.translateTextAsync(exampleText.get("en"), null, "de", null).get());
+    Assertions.assertTrue(exception.getCause() instanceof ConcurrencyLimitExceededException);
+    Assertions.assertEquals(exampleText.get("de"), first.get().getText());
+
+    ConcurrencyLimiter.Metrics metrics = limiter.getMetrics("/v2/translate");
+    Assertions.assertNotNull(metrics);
+    Assertions.assertEquals(1, metrics.getRejectedCount());
+    Assertions.assertEquals(0, metrics.getInFlight());
+    Assertions.assertNotNull(metrics.getMinResponseTime());
+  }
+
+  @Test
+  void testTranslateAsyncDeadlineWhileQueued() throws Exception {
+    RequestScheduler scheduler = new RequestScheduler().setMaxConcurrentRequests(1);
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter().setInitialLimit(1);
+    Translator translator =
+        createTranslator(
+            new SessionOptions(),
+            new TranslatorOptions().setRequestScheduler(scheduler).setConcurrencyLimiter(limiter));
+    TextTranslationOptions options = new TextTranslationOptions();
+
+    // Occupy the only slot of the scheduler, then of the limiter
+    scheduler.acquire(RequestPriority.Normal, null);
+    options.setDeadline(Instant.now().plusMillis(200));
+    ExecutionException exception =
+        Assertions.assertThrows(
+            ExecutionException.class,
+            () -> translator.translateTextAsync(exampleText.get("en"), null, "de", options).get());
+    Assertions.assertTrue(exception.getCause() instanceof DeadlineExceededException);
+    Assertions.assertEquals(0, scheduler.getMetrics(RequestPriority.Normal).getQueueDepth());
+    scheduler.release(RequestPriority.Normal, false);
+
+    limiter.acquire("/v2/translate", null);
+    options.setDeadline(Instant.now().plusMillis(200));
+    CompletableFuture<TextResult> limited =
+        translator.translateTextAsync(exampleText.get("en"), null, "de", options);
+    // Waiting for the limit holds no scheduler slot
+    Assertions.assertEquals(0, scheduler.getMetrics(RequestPriority.Normal).getInFlight());
+    exception = Assertions.assertThrows(ExecutionException.class, limited::get);
+    Assertions.assertTrue(exception.getCause() instanceof DeadlineExceededException);
+    Assertions.assertEquals(0, limiter.getMetrics("/v2/translate").getQueueDepth());
+    limiter.release("/v2/translate", -1, false);
+
+    // The abandoned waiters do not hold the slots
+    options.setDeadline(null);
+    Assertions.assertEquals(
+        exampleText.get("de"),
+        translator.translateTextAsync(exampleText.get("en"), null, "de", options).get().getText());
+  }
+
+  @Test
+  void testTranslateTextToTargets() throws DeepLException, InterruptedException {
+    Translator translator =
+        createTranslator(new SessionOptions(), new TranslatorOptions().setVirtualThreads(true));
+    Map<String, List<TextResult>> results =
+        translator.translateTextToTargets(
+            Collections.singletonList(exampleText.get("en")),
+            "en",
+            Arrays.asList("de", "ja", "fr"),
+            null);
+    Assertions.assertEquals(Arrays.asList("de", "ja", "fr"), new ArrayList<>(results.keySet()));
+    Assertions.assertEquals(exampleText.get("de"), results.get("de").get(0).getText());
+    Assertions.assertEquals(exampleText.get("ja"), results.get("ja").get(0).getText());
+
+    Assertions.assertThrows(
+        DeepLException.class,
+        () ->
+            translator.translateTextToTargets(
+                Collections.singletonList(exampleText.get("en")),
+                null,
+                Arrays.asList("de", "XX"),
+                null));
+  }
+
+  @Test
+  void testTextTranslationProcessor() throws Exception {
+    Translator translator = createTranslator();
+    List<String> texts = new ArrayList<>();
+    for (int i = 0; i < 120; i++) {
+      texts.add(i % 2 == 0 ? exampleText.get("en") : exampleText.get("ja"));
+    }
+    TextTranslationProcessor processor =
+        new TextTranslationProcessor(translator, null, "de", null)
+            .setMaxBatchSize(20)
+            .setMaxConcurrentBatches(2);
+    AtomicInteger maxAhead = new AtomicInteger();
+    AtomicLong upstreamRequested = new AtomicLong();
+    List<TextResult> results = Collections.synchronizedList(new ArrayList<>());
+    CompletableFuture<Void> done = new CompletableFuture<>();
+
+    processor.subscribe(
+        new ReactiveStreams.Subscriber<TextResult>() {
+          private ReactiveStreams.Subscription subscription;
+
+          @Override
+          public void onSubscribe(ReactiveStreams.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(30);
+          }
+
+          @Override
+          public void onNext(TextResult result) {
+            results.add(result);
+            // Upstream must never run more than the processor's capacity ahead of the demand
+            maxAhead.accumulateAndGet((int) (upstreamRequested.get() - results.size()), Math::max);
+            if (results.size() % 30 == 0) {
+              subscription.request(30);
+            }
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+          }
+
+          @Override
+          public void onComplete() {
+            done.complete(null);
+          }
+        });
+    processor.onSubscribe(
+        new ReactiveStreams.Subscription() {
+          private int next;
+
+          @Override
+          public void request(long n) {
+            upstreamRequested.addAndGet(n);
+            for (long i = 0; i < n && next < texts.size(); i++) {
+              processor.onNext(texts.get(next++));
+            }
+            if (next == texts.size()) {
+              next++;
+              processor.onComplete();
+            }
+          }
+
+          @Override
+          public void cancel() {}
+        });
+
+    done.get(60, TimeUnit.SECONDS);
+    Assertions.assertEquals(texts.size(), results.size());
+    for (int i = 0; i < results.size(); i++) {
+      Assertions.assertEquals(i % 2 == 0 ? "en" : "ja", results.get(i).getDetectedSourceLanguage());
+    }
+    Assertions.assertTrue(maxAhead.get() <= 40);
+  }
+
+  @Test
+  void testTextTranslationProcessorInvalidText() throws Exception {
+    Translator translator = createTranslator();
+    TextTranslationProcessor processor =
+        new TextTranslationProcessor(translator, null, "de", null).setMaxBatchSize(2);
+    List<TextResult> results = Collections.synchronizedList(new ArrayList<>());
+    CompletableFuture<Void> done = new CompletableFuture<>();
+
+    processor.subscribe(
+        new ReactiveStreams.Subscriber<TextResult>() {
+          @Override
+          public void onSubscribe(ReactiveStreams.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+          }
+
+          @Override
+          public void onNext(TextResult result) {
+            results.add(result);
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+          }
+
+          @Override
+          public void onComplete() {
+            done.complete(null);
+          }
+        });
+    processor.onSubscribe(
+        new ReactiveStreams.Subscription() {
+          @Override
+          public void request(long n) {}
+
+          @Override
+          public void cancel() {}
+        });
+    processor.onNext(exampleText.get("en"));
+    processor.onNext(exampleText.get("en"));
+    processor.onNext("");
+    processor.onComplete();
+
+    ExecutionException exception =
+        Assertions.assertThrows(ExecutionException.class, () -> done.get(60, TimeUnit.SECONDS));
+    Assertions.assertTrue(exception.getCause() instanceof IllegalArgumentException);
+    Assertions.assertEquals(2, results.size());
+  }
+
+  @Test
+  void testTranslateWithRetryBudget() throws DeepLException, InterruptedException {
+    Assumptions.assumeTrue(isMockServer);
+    RetryBudget retryBudget =
+        new RetryBudget().setMaxTokens(1).setRetryRatio(0).setMinRetriesPerSecond(0);
+    Translator translator =
+        createTranslator(
+            new SessionOptions().setRespondWith429(2),
+            new TranslatorOptions().setRetryBudget(retryBudget));
+
+    // The budget permits one retry, so the second 429 response is not retried
+    Assertions.assertThrows(
+        TooManyRequestsException.class,
+        () -> translator.translateText(exampleText.get("en"), null, "de"));
+    Assertions.assertEquals(1, retryBudget.getRetryCount());
+    Assertions.assertEquals(1, retryBudget.getRejectedRetryCount());
+
+    TextResult result = translator.translateText(exampleText.get("en"), null, "de");
+    Assertions.assertEquals(exampleText.get("de"), result.getText());
+  }
+
+  @Test
+  void testTranslateWithHedging() throws DeepLException, InterruptedException {
+    Assumptions.assumeTrue(isMockServer);
+    // Hedge every request immediately
+    RequestHedging hedging = new RequestHedging().setMaxDelay(Duration.ZERO).setBudget(1, 1);
+    RetryBudget retryBudget =
+        new RetryBudget().setMaxTokens(1).setRetryRatio(0.3).setMinRetriesPerSecond(0);
+    Translator translator =
+        createTranslator(
+            new SessionOptions(),
+            new TranslatorOptions().setRequestHedging(hedging).setRetryBudget(retryBudget));
+    // Empty the retry budget, so that it only holds the tokens added by the requests below
+    Assertions.assertTrue(retryBudget.tryAcquireRetry());
+
+    for (int i = 0; i < 3; i++) {
+      TextResult result = translator.translateText(exampleText.get("en"), null, "de");
+      Assertions.assertEquals(exampleText.get("de"), result.getText());
+    }
+    Assertions.assertEquals(3, hedging.getRequestCount());
+    Assertions.assertEquals(3, hedging.getHedgedRequestCount());
+    Assertions.assertEquals(0, hedging.getBudgetExhaustedCount());
+    // Each hedged request adds tokens to the retry budget once, not once per attempt
+    Assertions.assertEquals(0.9, retryBudget.getAvailableTokens(), 1e-9);
+  }
+
+  @Test
+  void testTranslateWithTimeout() {
+    Assumptions.assumeTrue(isMockServer);
+    Translator translator = createTranslator(new SessionOptions().setRespondWith429(2));
+
+    // The first retry would start after the timeout, so the 429 error is thrown without retrying
+    TextTranslationOptions options = new TextTranslationOptions();
+    options.setTimeout(Duration.ofMillis(500));
+    long timeBefore = new Date().getTime();
+    Assertions.assertThrows(
+        TooManyRequestsException.class,
+        () -> translator.translateText(exampleText.get("en"), null, "de", options));
+    Assertions.assertTrue(new Date().getTime() - timeBefore < 1000);
+
+    options.setTimeout(null).setDeadline(Instant.now().minusSeconds(1));
+    Assertions.assertThrows(
+        DeadlineExceededException.class,
+        () -> translator.translateText(exampleText.get("en"), null, "de", options));
+  }
+
   @Test
   void testFormality() throws DeepLException, InterruptedException {
     Translator translator = createTranslator();
@@ -383,6 +777,41 @@ public class TranslateTextTest extends TestBase {
     Assertions.assertEquals(exampleText.get("en").length(), result.getBilledCharacters());
   }
 
+  @Test
+  void testCompiledTextTranslationOptions() throws DeepLException, InterruptedException {
+    Translator translator = createTranslator();
+    TextTranslationOptions options =
+        new TextTranslationOptions().setSentenceSplittingMode(SentenceSplittingMode.All);
+    CompiledTextTranslationOptions compiled =
+        translator.compileTextTranslationOptions("EN", "de", options);
+    Assertions.assertEquals("en", compiled.getSourceLang());
+    Assertions.assertEquals("de", compiled.getTargetLang());
+
+    // Later changes to the options do not affect the compiled form
+    options.setExtraBodyParameters(Collections.singletonMap("target_lang", "FR"));
+
+    List<String> texts = new ArrayList<>();
+    texts.add(exampleText.get("en"));
+    texts.add(exampleText.get("en"));
+    List<TextResult> results = translator.translateText(texts, compiled);
+    Assertions.assertEquals(2, results.size());
+    for (TextResult result : results) {
+      Assertions.assertEquals(exampleText.get("de"), result.getText());
+      Assertions.assertEquals("en", result.getDetectedSourceLanguage());
+    }
+
+    TextResult result =
+        translator.translateText(
+            exampleText.get("en"), translator.compileTextTranslationOptions(null, "DE", options));
+    Assertions.assertEquals(exampleText.get("fr"), result.getText());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> translator.translateText("", compiled));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> translator.compileTextTranslationOptions(null, "en", null));
+  }
+
   @Test
   void testCustomInstructions() throws DeepLException, InterruptedException {
     Translator translator = createTranslator();
@@ -21,6 +21,11 @@ public class TranslationMemoryTest extends TestBase {
     Assertions.assertNotNull(translationMemories.get(0).getName());
     Assertions.assertNotNull(translationMemories.get(0).getSourceLanguage());
     Assertions.assertNotNull(translationMemories.get(0).getTargetLanguages());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> client.streamTranslationMemories(0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> client.streamTranslationMemories(26));
   }
 
   @Test